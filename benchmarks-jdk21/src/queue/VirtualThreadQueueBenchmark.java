@@ -0,0 +1,249 @@
+package queue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the time it takes {@code threads} virtual producer threads and
+ * {@code threads} virtual consumer threads to hand {@code perThread} elements
+ * each through a bounded blocking queue: a {@link LockedQueue} wrapping an
+ * {@link ArrayQueue}, a {@link TwoLockLinkedQueue}, an {@link ArrayQueue}
+ * guarded by {@code synchronized} with {@code wait} and {@code notifyAll},
+ * and a {@link LinkedBlockingQueue}.
+ *
+ * <p> A virtual thread waiting on a {@code synchronized} monitor pins its
+ * carrier thread, so the {@code synchronized} baseline shows what the other
+ * queues save by waiting on a {@link java.util.concurrent.locks.Condition}
+ * instead. Running with {@code -Djdk.tracePinnedThreads=short} prints every
+ * pinning.
+ *
+ * <p> Virtual threads need JDK 21, so this module is built separately from
+ * the {@code benchmarks} module, whose benchmarks run on JDK 11.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see LockedQueue
+ * @see TwoLockLinkedQueue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VirtualThreadQueueBenchmark {
+
+    /**
+     * The element handed over, shared so that no allocation is measured.
+     */
+    private static final Integer ELEMENT = 42;
+
+    /**
+     * The name of the queue being benchmarked.
+     */
+    @Param({"LockedQueue", "TwoLockLinkedQueue", "synchronized ArrayQueue",
+            "LinkedBlockingQueue"})
+    public String impl;
+
+    /**
+     * The number of producer threads, and of consumer threads.
+     */
+    @Param({"10000", "50000"})
+    public int threads;
+
+    /**
+     * The number of elements each producer puts, and each consumer takes.
+     */
+    @Param({"100"})
+    public int perThread;
+
+    /**
+     * The maximum number of elements in the queue.
+     */
+    @Param({"1024"})
+    public int capacity;
+
+    /**
+     * The queue being benchmarked.
+     */
+    private Channel channel;
+
+    /**
+     * Creates an empty queue before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (impl) {
+            case "LockedQueue":
+                channel = blocking(new LockedQueue<>(new ArrayQueue<>(),
+                        capacity));
+                break;
+            case "TwoLockLinkedQueue":
+                channel = blocking(new TwoLockLinkedQueue<>(capacity));
+                break;
+            case "synchronized ArrayQueue":
+                channel = synchronizedArrayQueue(new ArrayQueue<>(capacity),
+                        capacity);
+                break;
+            case "LinkedBlockingQueue":
+                channel = blocking(new LinkedBlockingQueue<>(capacity));
+                break;
+            default:
+                throw new IllegalArgumentException("implementation not " +
+                        "recognized: " + impl);
+        }
+    }
+
+    /**
+     * Starts every producer and consumer on its own virtual thread, and waits
+     * for all of them to finish.
+     *
+     * @return the number of elements taken
+     */
+    @Benchmark
+    public long transfer() {
+        LongAdder taken = new LongAdder();
+        try (ExecutorService executor =
+                     Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    try {
+                        for (int j = 0; j < perThread; j++) {
+                            channel.put(ELEMENT);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                executor.execute(() -> {
+                    try {
+                        for (int j = 0; j < perThread; j++) {
+                            channel.take();
+                        }
+                        taken.add(perThread);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        }
+        return taken.sum();
+    }
+
+    /**
+     * The two operations the benchmark needs from every queue.
+     */
+    interface Channel {
+
+        /**
+         * Inserts {@code e}, waiting for space if the queue is full.
+         *
+         * @param e the element to be inserted
+         * @throws InterruptedException if interrupted while waiting
+         */
+        void put(Integer e) throws InterruptedException;
+
+        /**
+         * Removes the head of the queue, waiting for an element if it is
+         * empty.
+         *
+         * @return the head of the queue
+         * @throws InterruptedException if interrupted while waiting
+         */
+        Integer take() throws InterruptedException;
+    }
+
+    /**
+     * Adapts a {@link BlockingQueue} to a {@link Channel}.
+     *
+     * @param queue the queue to be adapted
+     * @return the {@code Channel}
+     */
+    private static Channel blocking(BlockingQueue<Integer> queue) {
+        return new Channel() {
+            @Override
+            public void put(Integer e) throws InterruptedException {
+                queue.put(e);
+            }
+
+            @Override
+            public Integer take() throws InterruptedException {
+                return queue.take();
+            }
+        };
+    }
+
+    /**
+     * Adapts a {@link java.util.concurrent.BlockingQueue} to a
+     * {@link Channel}.
+     *
+     * @param queue the queue to be adapted
+     * @return the {@code Channel}
+     */
+    private static Channel blocking(
+            java.util.concurrent.BlockingQueue<Integer> queue) {
+        return new Channel() {
+            @Override
+            public void put(Integer e) throws InterruptedException {
+                queue.put(e);
+            }
+
+            @Override
+            public Integer take() throws InterruptedException {
+                return queue.take();
+            }
+        };
+    }
+
+    /**
+     * Adapts an {@link ArrayQueue} to a {@link Channel}, guarding every call
+     * with the monitor of the queue, and bounding it to {@code capacity}
+     * elements since the {@code ArrayQueue} would otherwise grow.
+     *
+     * @param queue    the queue to be adapted
+     * @param capacity the maximum number of elements in the queue
+     * @return the {@code Channel}
+     */
+    private static Channel synchronizedArrayQueue(ArrayQueue<Integer> queue,
+                                                  int capacity) {
+        return new Channel() {
+            @Override
+            public void put(Integer e) throws InterruptedException {
+                synchronized (queue) {
+                    while (queue.size() >= capacity) {
+                        queue.wait();
+                    }
+                    queue.offer(e);
+                    queue.notifyAll();
+                }
+            }
+
+            @Override
+            public Integer take() throws InterruptedException {
+                synchronized (queue) {
+                    while (queue.isEmpty()) {
+                        queue.wait();
+                    }
+                    Integer e = queue.poll();
+                    queue.notifyAll();
+                    return e;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,322 @@
+package list;
+
+import list.arraylist.BTreeSortedList;
+import list.arraylist.ComparableArrayList;
+import list.arraylist.DefaultArrayList;
+import list.arraylist.SortedArrayList;
+import list.linkedlist.DoublyLinkedList;
+import list.linkedlist.SinglyLinkedList;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * This interface provides a common view over the {@link List}
+ * implementations of this project and the {@code java.util} lists used as
+ * baselines, so that every benchmark runs the exact same operations against
+ * all of them.
+ *
+ * <p> Instances are created through {@link #create(String, int)}, using the
+ * names listed in {@link #IMPLEMENTATIONS}. Those names are also used as the
+ * values of the {@code impl} benchmark parameter.
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            list would store.
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see List
+ */
+public interface BenchmarkList<E> extends Iterable<E> {
+
+    /**
+     * The names of every implementation that can be benchmarked.
+     */
+    String[] IMPLEMENTATIONS = {"DefaultArrayList", "ComparableArrayList",
+            "SortedArrayList", "BTreeSortedList", "SinglyLinkedList",
+            "DoublyLinkedList", "java.util.ArrayList", "java.util.LinkedList"};
+
+    /**
+     * Appends {@code element} to the end of the list.
+     *
+     * @param element the element to be added
+     */
+    void add(E element);
+
+    /**
+     * Inserts {@code element} at the position specified by {@code index}.
+     *
+     * @param index   the index position where the element should be inserted
+     * @param element the element to be inserted
+     */
+    void add(int index, E element);
+
+    /**
+     * Appends a {@code Collection} of elements to the end of the list, using
+     * the fastest bulk path the implementation offers.
+     *
+     * @param c the {@code Collection} containing the elements to be added
+     */
+    void addAll(Collection<E> c);
+
+    /**
+     * Retrieves the element at the position specified by {@code index}.
+     *
+     * @param index the index position of the element to be retrieved
+     * @return the element stored at the specified position
+     */
+    E get(int index);
+
+    /**
+     * Removes the element at the position specified by {@code index}.
+     *
+     * @param index the index position of the element to be removed
+     * @return the element that was removed
+     */
+    E remove(int index);
+
+    /**
+     * Retrieves the index of the first occurrence of {@code element}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first occurrence of {@code element}
+     */
+    int indexOf(E element);
+
+    /**
+     * Removes the elements between {@code from}, inclusive, and {@code to},
+     * inclusive.
+     *
+     * @param from the index of the first element to be removed
+     * @param to   the index of the last element to be removed
+     */
+    void removeRange(int from, int to);
+
+    /**
+     * Returns the number of elements currently stored in the list.
+     *
+     * @return the number of elements currently stored
+     */
+    int size();
+
+    /**
+     * Generates {@code n} distinct elements of the type named {@code type},
+     * which is either {@code "Integer"} or {@code "String"}. The elements are
+     * generated in ascending order, so that appending them keeps sorted
+     * implementations in their best case.
+     *
+     * @param type the name of the element type
+     * @param n    the number of elements to be generated
+     * @return an array of {@code n} distinct elements
+     * @throws IllegalArgumentException if {@code type} is not recognized
+     */
+    static Object[] elements(String type, int n) {
+        Object[] output = new Object[n];
+        for (int i = 0; i < n; i++) {
+            switch (type) {
+                case "Integer":
+                    output[i] = i;
+                    break;
+                case "String":
+                    output[i] = String.format("%010d", i);
+                    break;
+                default:
+                    throw new IllegalArgumentException("element type not " +
+                            "recognized: " + type);
+            }
+        }
+        return output;
+    }
+
+    /**
+     * Creates an empty list of the implementation named {@code impl}.
+     *
+     * <p> Array-based lists are created with an initial capacity of
+     * {@code capacity}, so that filling them up before a benchmark does not
+     * depend on their growth policy.
+     *
+     * <p> Since a {@link SortedArrayList} and a {@link BTreeSortedList} do not
+     * support inserting at an index, {@link #add(int, Object)} falls back to
+     * their sorted {@code add(E)} for those implementations.
+     *
+     * <p> The {@code Comparable} implementations are created unchecked, so it
+     * is up to the caller to only store mutually comparable elements in them.
+     *
+     * @param impl     the name of the implementation, one of
+     *                 {@link #IMPLEMENTATIONS}
+     * @param capacity the initial capacity of array-based lists
+     * @param <E>      the type of elements in the list
+     * @return an empty {@code BenchmarkList}
+     * @throws IllegalArgumentException if {@code impl} is not recognized
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <E> BenchmarkList<E> create(String impl, int capacity) {
+        switch (impl) {
+            case "DefaultArrayList":
+                return new Adapter<>(new DefaultArrayList<>(capacity));
+            case "ComparableArrayList":
+                return new Adapter<>(new ComparableArrayList(capacity));
+            case "SortedArrayList":
+                return new Adapter<E>(new SortedArrayList(capacity)) {
+                    @Override
+                    public void add(int index, E element) {
+                        list.add(element);
+                    }
+                };
+            case "BTreeSortedList":
+                return new Adapter<E>(new BTreeSortedList()) {
+                    @Override
+                    public void add(int index, E element) {
+                        list.add(element);
+                    }
+                };
+            case "SinglyLinkedList":
+                return new Adapter<>(new SinglyLinkedList<>());
+            case "DoublyLinkedList":
+                return new Adapter<>(new DoublyLinkedList<>());
+            case "java.util.ArrayList":
+                return new JavaAdapter<>(new java.util.ArrayList<>(capacity));
+            case "java.util.LinkedList":
+                return new JavaAdapter<>(new java.util.LinkedList<>());
+            default:
+                throw new IllegalArgumentException("implementation not " +
+                        "recognized: " + impl);
+        }
+    }
+
+    /**
+     * This class adapts a {@link List} of this project to a
+     * {@code BenchmarkList}.
+     *
+     * @param <E> the type of elements in the list
+     */
+    class Adapter<E> implements BenchmarkList<E> {
+
+        /**
+         * The list being benchmarked.
+         */
+        final List<E> list;
+
+        /**
+         * Constructor. Wraps the list to be benchmarked.
+         *
+         * @param list the list to be benchmarked
+         */
+        Adapter(List<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void add(E element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public void addAll(Collection<E> c) {
+            list.addAll(c);
+        }
+
+        @Override
+        public E get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public E remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public int indexOf(E element) {
+            return list.indexOf(element);
+        }
+
+        @Override
+        public void removeRange(int from, int to) {
+            list.removeRange(from, to);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return list.iterator();
+        }
+    }
+
+    /**
+     * This class adapts a {@link java.util.List} to a {@code BenchmarkList},
+     * mapping {@link #removeRange(int, int)} onto clearing a
+     * {@link java.util.List#subList(int, int) subList}.
+     *
+     * @param <E> the type of elements in the list
+     */
+    class JavaAdapter<E> implements BenchmarkList<E> {
+
+        /**
+         * The list being benchmarked.
+         */
+        final java.util.List<E> list;
+
+        /**
+         * Constructor. Wraps the list to be benchmarked.
+         *
+         * @param list the list to be benchmarked
+         */
+        JavaAdapter(java.util.List<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void add(E element) {
+            list.add(element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            list.add(index, element);
+        }
+
+        @Override
+        public void addAll(Collection<E> c) {
+            list.addAll(c);
+        }
+
+        @Override
+        public E get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public E remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public int indexOf(E element) {
+            return list.indexOf(element);
+        }
+
+        @Override
+        public void removeRange(int from, int to) {
+            list.subList(from, to + 1).clear();
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return list.iterator();
+        }
+    }
+}
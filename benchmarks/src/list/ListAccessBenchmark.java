@@ -0,0 +1,146 @@
+package list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the read-only operations of every {@link List} implementation,
+ * against {@code java.util.ArrayList} and {@code java.util.LinkedList} as
+ * baselines.
+ *
+ * <p> The list is filled up once per trial and is never modified, so that
+ * every invocation observes a list of exactly {@code size} elements. Indices
+ * are drawn from a precomputed random sequence to keep the JIT from folding
+ * repeated accesses to the same position.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see BenchmarkList
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListAccessBenchmark {
+
+    /**
+     * The number of precomputed random indices. Must be a power of two.
+     */
+    private static final int INDICES = 1024;
+
+    /**
+     * The name of the implementation being benchmarked.
+     */
+    @Param({"DefaultArrayList", "ComparableArrayList", "SortedArrayList",
+            "BTreeSortedList", "SinglyLinkedList", "DoublyLinkedList",
+            "java.util.ArrayList", "java.util.LinkedList"})
+    public String impl;
+
+    /**
+     * The number of elements stored in the list.
+     */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * The type of elements stored in the list.
+     */
+    @Param({"Integer", "String"})
+    public String type;
+
+    /**
+     * The list being benchmarked.
+     */
+    private BenchmarkList<Object> list;
+
+    /**
+     * The elements stored in the list, in the order they were added.
+     */
+    private Object[] elements;
+
+    /**
+     * A sequence of random indices in {@code [0, size)}.
+     */
+    private int[] indices;
+
+    /**
+     * A cursor into {@link #indices}.
+     */
+    private int cursor;
+
+    /**
+     * Fills up the list with {@code size} elements of the chosen type.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = BenchmarkList.elements(type, size);
+        list = BenchmarkList.create(impl, size);
+        list.addAll(Arrays.asList(elements));
+        Random random = new Random(42);
+        indices = new int[INDICES];
+        for (int i = 0; i < INDICES; i++) {
+            indices[i] = random.nextInt(size);
+        }
+        cursor = 0;
+    }
+
+    /**
+     * Returns the next random index in {@code [0, size)}.
+     *
+     * @return a random index
+     */
+    private int nextIndex() {
+        cursor = (cursor + 1) & (INDICES - 1);
+        return indices[cursor];
+    }
+
+    /**
+     * Measures {@link List#get(int)} at a random index.
+     *
+     * @return the element retrieved
+     */
+    @Benchmark
+    public Object get() {
+        return list.get(nextIndex());
+    }
+
+    /**
+     * Measures {@link List#indexOf(Object)} of an element stored at a random
+     * index.
+     *
+     * @return the index of the element
+     */
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(elements[nextIndex()]);
+    }
+
+    /**
+     * Measures iterating through the whole list with its
+     * {@link java.util.Iterator Iterator}.
+     *
+     * @param bh the {@code Blackhole} consuming every element
+     */
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Object e : list) {
+            bh.consume(e);
+        }
+    }
+}
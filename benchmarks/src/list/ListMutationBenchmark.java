@@ -0,0 +1,139 @@
+package list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations that modify a {@link List}, for every
+ * implementation, against {@code java.util.ArrayList} and
+ * {@code java.util.LinkedList} as baselines.
+ *
+ * <p> Since these operations change the size of the list, the benchmarks run
+ * in {@link Mode#SingleShotTime} with a fixed batch of {@link #BATCH}
+ * operations per iteration, and the list is filled up again to exactly
+ * {@code size} elements before every iteration. The reported time is
+ * therefore the time taken by a whole batch.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see BenchmarkList
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 10, batchSize = ListMutationBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = ListMutationBenchmark.BATCH)
+@Fork(1)
+public class ListMutationBenchmark {
+
+    /**
+     * The number of operations performed in each iteration. It is kept no
+     * greater than the smallest {@code size}, so that removals never run out
+     * of elements.
+     */
+    static final int BATCH = 10;
+
+    /**
+     * The name of the implementation being benchmarked.
+     */
+    @Param({"DefaultArrayList", "ComparableArrayList", "SortedArrayList",
+            "BTreeSortedList", "SinglyLinkedList", "DoublyLinkedList",
+            "java.util.ArrayList", "java.util.LinkedList"})
+    public String impl;
+
+    /**
+     * The number of elements stored in the list before every iteration.
+     */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * The type of elements stored in the list.
+     */
+    @Param({"Integer", "String"})
+    public String type;
+
+    /**
+     * The list being benchmarked.
+     */
+    private BenchmarkList<Object> list;
+
+    /**
+     * The elements stored in the list, followed by {@link #BATCH} elements
+     * that are yet to be added.
+     */
+    private Object[] elements;
+
+    /**
+     * The index of the next element in {@link #elements} to be added.
+     */
+    private int next;
+
+    /**
+     * Generates the elements once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        elements = BenchmarkList.elements(type, size + BATCH);
+    }
+
+    /**
+     * Fills up a fresh list with {@code size} elements of the chosen type.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        list = BenchmarkList.create(impl, size);
+        list.addAll(Arrays.asList(elements).subList(0, size));
+        next = size;
+    }
+
+    /**
+     * Measures {@link List#add(Object)}, appending to the end of the list.
+     */
+    @Benchmark
+    public void add() {
+        list.add(elements[next++]);
+    }
+
+    /**
+     * Measures {@link List#add(int, Object)}, inserting in the middle of the
+     * list.
+     */
+    @Benchmark
+    public void addMiddle() {
+        list.add(list.size() / 2, elements[next++]);
+    }
+
+    /**
+     * Measures {@link List#remove(int)}, removing from the middle of the list.
+     *
+     * @return the element removed
+     */
+    @Benchmark
+    public Object removeMiddle() {
+        return list.remove(list.size() / 2);
+    }
+
+    /**
+     * Measures {@link List#removeRange(int, int)}, removing the second
+     * quarter of the list in a single call.
+     */
+    @Benchmark
+    @Warmup(iterations = 10, batchSize = 1)
+    @Measurement(iterations = 20, batchSize = 1)
+    public void removeRange() {
+        list.removeRange(size / 4, size / 2);
+    }
+}
@@ -0,0 +1,89 @@
+package list.arraylist;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures appending {@code n} elements to an empty {@link DefaultArrayList}
+ * under every {@link GrowthPolicy}.
+ *
+ * <p> Each invocation builds a whole list, so dividing the reported time by
+ * {@code n} gives the cost of a single {@link DefaultArrayList#add(Object)
+ * add(E)}. With an amortized {@code O(1)} policy that cost stays flat as
+ * {@code n} grows, while the {@code "capped-10"} policy, which grows the array
+ * by {@code 10} elements at a time like the original implementation did,
+ * grows linearly with {@code n}.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see GrowthPolicy
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class GrowthPolicyBenchmark {
+
+    /**
+     * The name of the policy being benchmarked.
+     */
+    @Param({"geometric", "doubling", "capped-4096", "capped-10"})
+    public String policy;
+
+    /**
+     * The number of elements appended to the list.
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int n;
+
+    /**
+     * The policy being benchmarked.
+     */
+    private GrowthPolicy growthPolicy;
+
+    /**
+     * Resolves the policy named {@link #policy}.
+     */
+    @Setup
+    public void setUp() {
+        switch (policy) {
+            case "geometric":
+                growthPolicy = GrowthPolicy.GEOMETRIC;
+                break;
+            case "doubling":
+                growthPolicy = GrowthPolicy.DOUBLING;
+                break;
+            default:
+                growthPolicy = GrowthPolicy.cappedIncrement(
+                        Integer.parseInt(policy.substring("capped-".length())));
+        }
+    }
+
+    /**
+     * Appends {@code n} elements to an empty list with the default initial
+     * capacity.
+     *
+     * @return the list that was built
+     */
+    @Benchmark
+    public DefaultArrayList<Integer> append() {
+        DefaultArrayList<Integer> list = new DefaultArrayList<>(10,
+                growthPolicy);
+        for (int i = 0; i < n; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,145 @@
+package list.arraylist;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the searches and insertions of a {@link SortedArrayList} holding
+ * {@code size} random keys.
+ *
+ * <p> Since the insertions change the list, it is built again before every
+ * iteration, and every benchmark runs in {@link Mode#SingleShotTime}. The
+ * {@code addAll} benchmark inserts a whole batch of {@link #BATCH} keys in a
+ * single merge, while {@code addEach} inserts the same keys one at a time.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see SortedArrayList
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class SortedArrayListBenchmark {
+
+    /**
+     * The number of keys inserted or searched for in each iteration.
+     */
+    static final int BATCH = 1000;
+
+    /**
+     * The keys are drawn from {@code [0, KEY_RANGE)}.
+     */
+    static final int KEY_RANGE = 1 << 30;
+
+    /**
+     * The number of keys stored in the list before every iteration.
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The list being benchmarked.
+     */
+    private SortedArrayList<Integer> list;
+
+    /**
+     * The keys stored in the list.
+     */
+    private List<Integer> keys;
+
+    /**
+     * The keys inserted or searched for in each iteration.
+     */
+    private List<Integer> batch;
+
+    /**
+     * Generates the keys once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random(42);
+        keys = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            keys.add(random.nextInt(KEY_RANGE));
+        }
+        batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            batch.add(random.nextInt(KEY_RANGE));
+        }
+    }
+
+    /**
+     * Builds a fresh list holding the keys.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        list = new SortedArrayList<>(size + BATCH);
+        list.addAll(keys);
+    }
+
+    /**
+     * Measures {@link SortedArrayList#fastIndexOf(Comparable)} for a batch of
+     * keys.
+     *
+     * @return the sum of the indices found
+     */
+    @Benchmark
+    public int fastIndexOf() {
+        int sum = 0;
+        for (Integer key : batch) {
+            sum += list.fastIndexOf(key);
+        }
+        return sum;
+    }
+
+    /**
+     * Measures {@link SortedArrayList#rangeCount(Comparable, Comparable)} for
+     * a batch of ranges, each holding about one key on average.
+     *
+     * @return the sum of the counts
+     */
+    @Benchmark
+    public int rangeCount() {
+        int sum = 0;
+        for (Integer key : batch) {
+            sum += list.rangeCount(key, key + KEY_RANGE / size);
+        }
+        return sum;
+    }
+
+    /**
+     * Measures inserting a batch of keys one at a time.
+     */
+    @Benchmark
+    public void addEach() {
+        for (Integer key : batch) {
+            list.add(key);
+        }
+    }
+
+    /**
+     * Measures inserting a batch of keys with a single
+     * {@link SortedArrayList#addAll(java.util.Collection) addAll}.
+     */
+    @Benchmark
+    public void addAll() {
+        list.addAll(batch);
+    }
+}
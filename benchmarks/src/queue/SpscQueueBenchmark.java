@@ -0,0 +1,252 @@
+package queue;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of handing elements from one producer thread to one
+ * consumer thread, through a {@link SpscArrayQueue}, an {@link ArrayQueue}
+ * guarded by {@code synchronized}, and an {@link ArrayBlockingQueue}.
+ *
+ * <p> Both threads run in the same benchmark group, the producer calling
+ * {@code offer} and the consumer calling {@code poll} as fast as they can.
+ * Since either call fails when the queue is full, or empty, the successful
+ * calls are counted separately in {@link Counters}: the
+ * {@code offered} and {@code polled} counters give the actual number of
+ * elements handed over per unit of time.
+ *
+ * <p> The benchmark needs at least two cores to be meaningful.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see SpscArrayQueue
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SpscQueueBenchmark {
+
+    /**
+     * The element handed over, shared so that no allocation is measured.
+     */
+    private static final Integer ELEMENT = 42;
+
+    /**
+     * The name of the queue being benchmarked.
+     */
+    @Param({"SpscArrayQueue", "synchronized ArrayQueue",
+            "ArrayBlockingQueue"})
+    public String impl;
+
+    /**
+     * The maximum number of elements in the queue.
+     */
+    @Param({"1024"})
+    public int capacity;
+
+    /**
+     * The queue being benchmarked.
+     */
+    private Channel channel;
+
+    /**
+     * Creates an empty queue before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (impl) {
+            case "SpscArrayQueue":
+                channel = spsc(new SpscArrayQueue<>(capacity));
+                break;
+            case "synchronized ArrayQueue":
+                channel = synchronizedArrayQueue(new ArrayQueue<>(capacity),
+                        capacity);
+                break;
+            case "ArrayBlockingQueue":
+                channel = blocking(new ArrayBlockingQueue<>(capacity));
+                break;
+            default:
+                throw new IllegalArgumentException("implementation not " +
+                        "recognized: " + impl);
+        }
+    }
+
+    /**
+     * The producer, offering an element to the queue.
+     *
+     * @param counters the counters of the producer thread
+     */
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public void offer(Counters counters) {
+        if (channel.offer(ELEMENT)) {
+            counters.offered++;
+        } else {
+            counters.offerFailed++;
+        }
+    }
+
+    /**
+     * The consumer, polling an element from the queue.
+     *
+     * @param counters the counters of the consumer thread
+     */
+    @Benchmark
+    @Group("transfer")
+    @GroupThreads(1)
+    public void poll(Counters counters) {
+        if (channel.poll() != null) {
+            counters.polled++;
+        } else {
+            counters.pollFailed++;
+        }
+    }
+
+    /**
+     * Counts the successful and failed calls of each thread, reported by JMH
+     * as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+
+        /**
+         * The number of elements offered successfully.
+         */
+        public long offered;
+
+        /**
+         * The number of offers that failed because the queue was full.
+         */
+        public long offerFailed;
+
+        /**
+         * The number of elements polled successfully.
+         */
+        public long polled;
+
+        /**
+         * The number of polls that failed because the queue was empty.
+         */
+        public long pollFailed;
+
+        /**
+         * Resets the counters before every iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            offerFailed = 0;
+            polled = 0;
+            pollFailed = 0;
+        }
+    }
+
+    /**
+     * The two operations the benchmark needs from every queue.
+     */
+    interface Channel {
+
+        /**
+         * Inserts {@code e} unless the queue is full.
+         *
+         * @param e the element to be inserted
+         * @return {@code true} if the element is enqueued
+         */
+        boolean offer(Integer e);
+
+        /**
+         * Removes the head of the queue.
+         *
+         * @return the head of the queue, or {@code null} if it is empty
+         */
+        Integer poll();
+    }
+
+    /**
+     * Adapts a {@link SpscArrayQueue} to a {@link Channel}.
+     *
+     * @param queue the queue to be adapted
+     * @return the {@code Channel}
+     */
+    private static Channel spsc(SpscArrayQueue<Integer> queue) {
+        return new Channel() {
+            @Override
+            public boolean offer(Integer e) {
+                return queue.offer(e);
+            }
+
+            @Override
+            public Integer poll() {
+                return queue.poll();
+            }
+        };
+    }
+
+    /**
+     * Adapts an {@link ArrayQueue} to a {@link Channel}, guarding every call
+     * with the lock of the queue, and bounding it to {@code capacity}
+     * elements since the {@code ArrayQueue} would otherwise grow.
+     *
+     * @param queue    the queue to be adapted
+     * @param capacity the maximum number of elements in the queue
+     * @return the {@code Channel}
+     */
+    private static Channel synchronizedArrayQueue(ArrayQueue<Integer> queue,
+                                                  int capacity) {
+        return new Channel() {
+            @Override
+            public boolean offer(Integer e) {
+                synchronized (queue) {
+                    return queue.size() < capacity && queue.offer(e);
+                }
+            }
+
+            @Override
+            public Integer poll() {
+                synchronized (queue) {
+                    return queue.poll();
+                }
+            }
+        };
+    }
+
+    /**
+     * Adapts an {@link ArrayBlockingQueue} to a {@link Channel}.
+     *
+     * @param queue the queue to be adapted
+     * @return the {@code Channel}
+     */
+    private static Channel blocking(ArrayBlockingQueue<Integer> queue) {
+        return new Channel() {
+            @Override
+            public boolean offer(Integer e) {
+                return queue.offer(e);
+            }
+
+            @Override
+            public Integer poll() {
+                return queue.poll();
+            }
+        };
+    }
+}
@@ -0,0 +1,192 @@
+package stack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of pushing an element onto a shared stack and
+ * popping one back, from {@code 1} to {@code 64} threads at once, on a
+ * {@link TreiberStack} without elimination, a {@link TreiberStack} with an
+ * elimination array, and an {@link ArrayStack} guarded by
+ * {@code synchronized}.
+ *
+ * <p> Every thread pushes before it pops, so the stack is never empty when
+ * popped. Each thread count has its own benchmark method, since JMH fixes the
+ * number of threads per method.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see TreiberStack
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ConcurrentStackBenchmark {
+
+    /**
+     * The element pushed, shared so that no allocation is measured.
+     */
+    private static final Integer ELEMENT = 42;
+
+    /**
+     * The name of the stack being benchmarked.
+     */
+    @Param({"TreiberStack", "TreiberStack with elimination",
+            "synchronized ArrayStack"})
+    public String impl;
+
+    /**
+     * The stack being benchmarked.
+     */
+    private Stack<Integer> stack;
+
+    /**
+     * Creates an empty stack before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        switch (impl) {
+            case "TreiberStack":
+                stack = new TreiberStack<>();
+                break;
+            case "TreiberStack with elimination":
+                stack = new TreiberStack<>(16);
+                break;
+            case "synchronized ArrayStack":
+                stack = synchronizedStack(new ArrayStack<>());
+                break;
+            default:
+                throw new IllegalArgumentException("implementation not " +
+                        "recognized: " + impl);
+        }
+    }
+
+    /**
+     * Measures a push and a pop from a single thread.
+     *
+     * @return the element popped
+     */
+    @Benchmark
+    @Threads(1)
+    public Integer pushPop1() {
+        return pushPop();
+    }
+
+    /**
+     * Measures a push and a pop from {@code 4} threads.
+     *
+     * @return the element popped
+     */
+    @Benchmark
+    @Threads(4)
+    public Integer pushPop4() {
+        return pushPop();
+    }
+
+    /**
+     * Measures a push and a pop from {@code 16} threads.
+     *
+     * @return the element popped
+     */
+    @Benchmark
+    @Threads(16)
+    public Integer pushPop16() {
+        return pushPop();
+    }
+
+    /**
+     * Measures a push and a pop from {@code 64} threads.
+     *
+     * @return the element popped
+     */
+    @Benchmark
+    @Threads(64)
+    public Integer pushPop64() {
+        return pushPop();
+    }
+
+    /**
+     * Pushes an element onto the stack and pops one back.
+     *
+     * @return the element popped
+     */
+    private Integer pushPop() {
+        stack.push(ELEMENT);
+        return stack.pop();
+    }
+
+    /**
+     * Wraps a {@link Stack}, guarding every call with the lock of the
+     * wrapped stack.
+     *
+     * @param stack the stack to be wrapped
+     * @return the synchronized {@code Stack}
+     */
+    private static Stack<Integer> synchronizedStack(Stack<Integer> stack) {
+        return new Stack<Integer>() {
+            @Override
+            public void push(Integer e) {
+                synchronized (stack) {
+                    stack.push(e);
+                }
+            }
+
+            @Override
+            public Integer pop() {
+                synchronized (stack) {
+                    return stack.pop();
+                }
+            }
+
+            @Override
+            public Integer peek() {
+                synchronized (stack) {
+                    return stack.peek();
+                }
+            }
+
+            @Override
+            public int size() {
+                synchronized (stack) {
+                    return stack.size();
+                }
+            }
+
+            @Override
+            public boolean isEmpty() {
+                synchronized (stack) {
+                    return stack.isEmpty();
+                }
+            }
+
+            @Override
+            public int search(Integer e) {
+                synchronized (stack) {
+                    return stack.search(e);
+                }
+            }
+
+            @Override
+            public void clear() {
+                synchronized (stack) {
+                    stack.clear();
+                }
+            }
+        };
+    }
+}
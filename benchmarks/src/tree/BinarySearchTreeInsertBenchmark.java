@@ -0,0 +1,79 @@
+package tree;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building an unbalanced {@link BinarySearchTree} by adding
+ * {@code size} distinct keys one at a time, either in ascending order or in
+ * random order, as a baseline for the {@link TreeInsertBenchmark}.
+ *
+ * <p> Sorted keys degenerate the tree into a linked list, such that building
+ * it takes quadratic time. Already at {@code 100000} keys a single build takes
+ * tens of seconds, so the sizes are kept small enough for the whole run to
+ * finish in a few minutes.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see TreeInsertBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BinarySearchTreeInsertBenchmark {
+
+    /**
+     * The order in which the keys are added, either {@code sorted} or
+     * {@code random}.
+     */
+    @Param({"sorted", "random"})
+    public String order;
+
+    /**
+     * The number of keys added.
+     */
+    @Param({"1000", "10000", "30000"})
+    public int size;
+
+    /**
+     * The keys, boxed once per trial so that no boxing is measured.
+     */
+    private Integer[] keys;
+
+    /**
+     * Generates the keys {@code 0} to {@code size - 1} in the order
+     * requested.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = TreeInsertBenchmark.keys(size, order);
+    }
+
+    /**
+     * Measures adding every key to an empty tree.
+     *
+     * @return the tree built
+     */
+    @Benchmark
+    public Object insert() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        for (Integer key : keys) {
+            tree.add(key);
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,136 @@
+package tree;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a balanced tree by adding {@code size} distinct keys one
+ * at a time, either in ascending order or in random order, on a
+ * {@link RedBlackTree} and a {@code java.util.TreeSet}.
+ *
+ * <p> Sorted keys degenerate the unbalanced {@link BinarySearchTree} into a
+ * linked list, such that building it takes quadratic time and would never
+ * finish at these sizes, so it is measured on its own, at smaller sizes, by
+ * the {@link BinarySearchTreeInsertBenchmark}.
+ *
+ * <p> Every benchmark runs in {@link Mode#SingleShotTime} and builds a fresh
+ * tree, holding about {@code 50} bytes per key, so the largest size needs a
+ * heap of a few hundred megabytes.
+ *
+ * @author Samuel Adrian Kosasih
+ * @see RedBlackTree
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TreeInsertBenchmark {
+
+    /**
+     * The name of the tree being benchmarked.
+     */
+    @Param({"RedBlackTree", "java.util.TreeSet"})
+    public String impl;
+
+    /**
+     * The order in which the keys are added, either {@code sorted} or
+     * {@code random}.
+     */
+    @Param({"sorted", "random"})
+    public String order;
+
+    /**
+     * The number of keys added.
+     */
+    @Param({"10000", "1000000", "4000000"})
+    public int size;
+
+    /**
+     * The keys, boxed once per trial so that no boxing is measured.
+     */
+    private Integer[] keys;
+
+    /**
+     * Generates the keys {@code 0} to {@code size - 1} in the order
+     * requested.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = keys(size, order);
+    }
+
+    /**
+     * Measures adding every key to an empty tree.
+     *
+     * @return the tree built
+     */
+    @Benchmark
+    public Object insert() {
+        switch (impl) {
+            case "RedBlackTree":
+                RedBlackTree<Integer> tree = new RedBlackTree<>();
+                for (Integer key : keys) {
+                    tree.add(key);
+                }
+                return tree;
+            case "java.util.TreeSet":
+                TreeSet<Integer> set = new TreeSet<>();
+                for (Integer key : keys) {
+                    set.add(key);
+                }
+                return set;
+            default:
+                throw new IllegalArgumentException("implementation not " +
+                        "recognized: " + impl);
+        }
+    }
+
+    /**
+     * Generates the keys {@code 0} to {@code size - 1} in the order
+     * requested, boxed once so that no boxing is measured.
+     *
+     * @param size  the number of keys
+     * @param order the order of the keys, either {@code sorted} or
+     *              {@code random}
+     * @return the keys
+     */
+    static Integer[] keys(int size, String order) {
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+        }
+        switch (order) {
+            case "sorted":
+                break;
+            case "random":
+                Random random = new Random(42);
+                for (int i = size - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    Integer tmp = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = tmp;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("order not recognized: " +
+                        order);
+        }
+        return keys;
+    }
+}
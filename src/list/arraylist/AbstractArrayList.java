@@ -2,6 +2,7 @@ package list.arraylist;
 
 import list.AbstractList;
 
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -18,10 +19,12 @@ import java.util.Iterator;
  * <p> There are also no constructors provided in this class for the same reason
  * described above.
  *
- * <p> All {@code add} methods relies on the {@link #ensureCapacity(int)} method
- * to automatically resize the array in accordance to the need of space, adding
- * an extra space of {@code 10}  elements everytime to the array is fully
- * filled. However, it does not remove that extra space automatically.
+ * <p> All {@code add} methods relies on the {@link #grow(int)} method to
+ * automatically resize the array in accordance to the need of space, every
+ * time the array is fully filled. How much extra space is added is decided by
+ * the {@link GrowthPolicy} in {@link #growthPolicy}, which grows the array
+ * geometrically by default. However, it does not remove that extra space
+ * automatically.
  *
  * @param <E> generic type parameter determining the type of object the
  *            {@code ArrayList} would store.
@@ -38,6 +41,12 @@ public abstract class AbstractArrayList<E> extends AbstractList<E>
      */
     protected E[] arr;
 
+    /**
+     * The policy deciding the new capacity of {@link #arr} once it is fully
+     * filled.
+     */
+    protected GrowthPolicy growthPolicy = GrowthPolicy.GEOMETRIC;
+
     /**
      * Inserts {@code element} to a position in the {@code ArrayList}
      * specified by {@code index}.
@@ -54,17 +63,55 @@ public abstract class AbstractArrayList<E> extends AbstractList<E>
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
-        if (size >= arr.length - 1) {
-            ensureCapacity(size + 10);
-        }
-        for (int i = size; i > index; i--) {
-            arr[i] = arr[i - 1];
+        if (size == arr.length) {
+            grow(size + 1);
         }
+        System.arraycopy(arr, index, arr, index + 1, size - index);
         arr[index] = element;
         size++;
         return true;
     }
 
+    /**
+     * Inserts a {@code Collection} of elements to a position in the
+     * {@code ArrayList} specified by {@code index}.
+     *
+     * <p> This method is overridden from the {@link AbstractList} class to
+     * shift the elements after {@code index} only once, and then copy all the
+     * elements of the {@code Collection} into the gap as a single block,
+     * instead of shifting the array with every {@link #add(int, Object)}
+     * method call.
+     *
+     * @param index the index position where the {@code Collection} of
+     *              elements should be inserted
+     * @param c     the {@code Collection} containing elements to be inserted
+     * @throws NullPointerException      if the {@code Collection} of objects
+     *                                   specified is {@code null}
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @see Collection
+     * @since 1.1
+     */
+    @Override
+    public void addAll(int index, Collection<? extends E> c) {
+        if (c == null) {
+            throw new NullPointerException("Collection is null");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        Object[] elements = c.toArray();
+        int n = elements.length;
+        if (n == 0) {
+            return;
+        }
+        if (size + n > arr.length) {
+            grow(size + n);
+        }
+        System.arraycopy(arr, index, arr, index + n, size - index);
+        System.arraycopy(elements, 0, arr, index, n);
+        size += n;
+    }
 
     /**
      * Removes the element at a position in the {@code ArrayList}
@@ -82,10 +129,8 @@ public abstract class AbstractArrayList<E> extends AbstractList<E>
             throw new IndexOutOfBoundsException("Invalid index");
         }
         E output = arr[index];
-        for (int i = index; i < size; i++) {
-            arr[i] = arr[i + 1];
-        }
-        arr[size] = null;
+        System.arraycopy(arr, index + 1, arr, index, size - index - 1);
+        arr[size - 1] = null;
         size--;
         return output;
     }
@@ -128,6 +173,47 @@ public abstract class AbstractArrayList<E> extends AbstractList<E>
         return arr[index];
     }
 
+    /**
+     * Retrieves the {@link GrowthPolicy} deciding how the array grows once it
+     * is fully filled.
+     *
+     * @return the {@code GrowthPolicy} of the {@code ArrayList}
+     * @since 1.1
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Replaces the {@link GrowthPolicy} deciding how the array grows once it
+     * is fully filled. The new policy only takes effect on the next growth.
+     *
+     * @param growthPolicy the new {@code GrowthPolicy}
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     * @since 1.1
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new NullPointerException("growth policy is null");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * A protected helper method to grow the array, such that it is able to
+     * store at least {@code minCapacity} elements. The new capacity is decided
+     * by the {@link #growthPolicy}.
+     *
+     * @param minCapacity the minimum capacity required
+     * @since 1.1
+     */
+    protected void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("required array size too large");
+        }
+        ensureCapacity(growthPolicy.newCapacity(arr.length, minCapacity));
+    }
+
     /**
      * Provides a {@code String} representation to the whole
      * {@code ArrayList} object, such that it prints out all the elements
@@ -181,6 +267,10 @@ public abstract class AbstractArrayList<E> extends AbstractList<E>
          * An indicator whether the element last returned has been removed
          */
         private boolean removed;
+        /**
+         * An indicator whether the next element has ever been returned
+         */
+        private boolean nextCalled;
 
         /**
          * Constructor. Initializes the iterator to start at the beginning of
@@ -212,6 +302,7 @@ public abstract class AbstractArrayList<E> extends AbstractList<E>
             E e = arr[currentIndex];
             currentIndex++;
             removed = false;
+            nextCalled = true;
             return e;
         }
 
@@ -228,7 +319,7 @@ public abstract class AbstractArrayList<E> extends AbstractList<E>
         @Override
         public void remove() throws IllegalStateException {
             if (removed) {
-                if (currentIndex == 0) {
+                if (!nextCalled) {
                     throw new IllegalStateException("next() has not been " +
                             "called");
                 } else {
@@ -236,10 +327,10 @@ public abstract class AbstractArrayList<E> extends AbstractList<E>
                             "been removed");
                 }
             } else {
-                for (int i = currentIndex - 1; i < size; i++) {
-                    arr[i] = arr[i + 1];
-                }
-                arr[size] = null;
+                System.arraycopy(arr, currentIndex, arr, currentIndex - 1,
+                        size - currentIndex);
+                arr[size - 1] = null;
+                currentIndex--;
                 size--;
                 removed = true;
             }
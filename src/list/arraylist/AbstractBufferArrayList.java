@@ -0,0 +1,937 @@
+package list.arraylist;
+
+import list.AbstractList;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This abstract class provides a skeletal implementation to the
+ * {@link ArrayList} interface for lists that store their elements in a
+ * {@link ByteBuffer} rather than in an array of objects.
+ *
+ * <p> Elements are converted to and from bytes by an {@link ElementCodec},
+ * which encodes every element into the same number of bytes. Elements are
+ * searched for by comparing their encodings, so they are never decoded
+ * unless they are returned.
+ *
+ * <p> Since a single buffer cannot exceed {@code Integer.MAX_VALUE} bytes,
+ * the elements are spread over an array of buffers, the
+ * {@link #segments}, each storing {@code 2^segmentShift} elements, except for
+ * the last one, which may store fewer. The element at index {@code i} is
+ * therefore stored in segment {@code i >>> segmentShift}, at byte
+ * {@code (i & (2^segmentShift - 1)) * width}. An abstraction may also keep a
+ * single segment, by using a shift of {@code 31}.
+ *
+ * <p> How the segments are allocated, resized and released is left to the
+ * abstractions, through the {@link #resize(int)} and {@link #close()}
+ * methods. Once closed, a list can no longer be used. Closing a list frees
+ * the memory of direct or mapped segments at once, through
+ * {@link #release(ByteBuffer)}, rather than leaving it to the garbage
+ * collector.
+ *
+ * <p> Since a {@code null} element cannot be encoded, these lists do not
+ * accept {@code null} elements.
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code ArrayList} would store.
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see ArrayList
+ * @see ElementCodec
+ */
+@SuppressWarnings({"unchecked"})
+public abstract class AbstractBufferArrayList<E> extends AbstractList<E>
+        implements ArrayList<E>, AutoCloseable {
+
+    /**
+     * The byte order of every buffer, fixed so that the stored bytes do not
+     * depend on the machine they were written on.
+     */
+    protected static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * The size of the chunks in which bytes are moved between the segments.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    /**
+     * A handle to {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)}, bound to
+     * the {@code Unsafe} instance, or {@code null} if it is not available.
+     */
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    /**
+     * The codec converting elements to and from bytes.
+     */
+    protected final ElementCodec<E> codec;
+
+    /**
+     * The number of bytes every element is encoded into.
+     */
+    protected final int width;
+
+    /**
+     * The buffers storing the encoded elements, or {@code null} if the list
+     * has been closed.
+     */
+    protected ByteBuffer[] segments;
+
+    /**
+     * The base-2 logarithm of the number of elements stored by every segment
+     * but the last.
+     */
+    protected final int segmentShift;
+
+    /**
+     * The mask extracting the index of an element within its segment.
+     */
+    private final int segmentMask;
+
+    /**
+     * The policy deciding the new capacity of the {@link #segments} once they
+     * are fully filled.
+     */
+    protected GrowthPolicy growthPolicy = GrowthPolicy.GEOMETRIC;
+
+    /**
+     * A buffer holding the encoding of the element being searched for.
+     */
+    private final ByteBuffer key;
+
+    /**
+     * A scratch array used to move bytes between the {@link #segments}.
+     */
+    private byte[] chunk;
+
+    /**
+     * Constructor. Initializes the codec of the list, which stores its
+     * elements in a single segment. The {@link #segments} must then be
+     * allocated by the abstraction, using {@link #BYTE_ORDER}.
+     *
+     * @param codec the codec converting elements to and from bytes
+     * @throws NullPointerException     if {@code codec} is {@code null}
+     * @throws IllegalArgumentException if the width of {@code codec} is less
+     *                                  than {@code 1}
+     */
+    protected AbstractBufferArrayList(ElementCodec<E> codec) {
+        this(codec, 31);
+    }
+
+    /**
+     * Constructor. Initializes the codec of the list, which stores
+     * {@code 2^segmentShift} elements in every segment but the last. The
+     * {@link #segments} must then be allocated by the abstraction, using
+     * {@link #BYTE_ORDER}.
+     *
+     * @param codec        the codec converting elements to and from bytes
+     * @param segmentShift the base-2 logarithm of the number of elements
+     *                     stored by every segment but the last
+     * @throws NullPointerException     if {@code codec} is {@code null}
+     * @throws IllegalArgumentException if the width of {@code codec} is less
+     *                                  than {@code 1}, or if
+     *                                  {@code segmentShift} is not between
+     *                                  {@code 0} and {@code 31}
+     * @since 1.1
+     */
+    protected AbstractBufferArrayList(ElementCodec<E> codec,
+                                      int segmentShift) {
+        if (codec == null) {
+            throw new NullPointerException("codec is null");
+        }
+        if (codec.width() < 1) {
+            throw new IllegalArgumentException("codec width must be " +
+                    "positive");
+        }
+        if (segmentShift < 0 || segmentShift > 31) {
+            throw new IllegalArgumentException("Invalid segment shift");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.segmentShift = segmentShift;
+        this.segmentMask = (int) ((1L << segmentShift) - 1);
+        this.key = ByteBuffer.allocate(width).order(BYTE_ORDER);
+        size = 0;
+    }
+
+    /**
+     * Replaces the {@link #segments} with ones able to store exactly
+     * {@code newCapacity} elements, keeping the first {@link #size} elements.
+     * Every segment but the last must store exactly {@code 2^segmentShift}
+     * elements, and every segment must use {@link #BYTE_ORDER}.
+     *
+     * @param newCapacity the number of elements the new segments can store,
+     *                    which is never less than {@link #size}
+     * @return the new segments
+     * @since 1.1
+     */
+    protected abstract ByteBuffer[] resize(int newCapacity);
+
+    /**
+     * Inserts {@code element} to a position in the {@code ArrayList}
+     * specified by {@code index}.
+     *
+     * @param index   the index position where the element should be inserted
+     * @param element the element to be inserted
+     * @return {@code true} to indicate a change has been made to the list
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @throws NullPointerException      if {@code element} is {@code null}
+     * @throws IllegalStateException     if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public boolean add(int index, E element) {
+        ensureOpen();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (element == null) {
+            throw new NullPointerException("null elements are not supported");
+        }
+        if (size == capacity()) {
+            grow(size + 1);
+        }
+        moveElements(index, index + 1, size - index);
+        encode(index, element);
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts a {@code Collection} of elements to a position in the
+     * {@code ArrayList} specified by {@code index}. The elements after
+     * {@code index} are shifted only once, and the new elements are then
+     * encoded into the gap.
+     *
+     * @param index the index position where the {@code Collection} of
+     *              elements should be inserted
+     * @param c     the {@code Collection} containing elements to be inserted
+     * @throws NullPointerException      if the {@code Collection} of objects
+     *                                   specified is {@code null}, or if it
+     *                                   contains a {@code null} element
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @throws IllegalStateException     if the list has been closed
+     * @see Collection
+     * @since 1.1
+     */
+    @Override
+    public void addAll(int index, Collection<? extends E> c) {
+        ensureOpen();
+        if (c == null) {
+            throw new NullPointerException("Collection is null");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        Object[] elements = c.toArray();
+        for (Object e : elements) {
+            if (e == null) {
+                throw new NullPointerException("null elements are not " +
+                        "supported");
+            }
+        }
+        int n = elements.length;
+        if (size + n > capacity()) {
+            grow(size + n);
+        }
+        moveElements(index, index + n, size - index);
+        for (int i = 0; i < n; i++) {
+            encode(index + i, (E) elements[i]);
+        }
+        size += n;
+    }
+
+    /**
+     * Removes the element at a position in the {@code ArrayList}
+     * specified by {@code index}.
+     *
+     * @param index the index position of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @throws IllegalStateException     if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public E remove(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        E output = decode(index);
+        moveElements(index + 1, index, size - index - 1);
+        size--;
+        return output;
+    }
+
+    /**
+     * Removes a set of elements between index positions specified by
+     * {@code from}, inclusive, and {@code to}, inclusive. If
+     * {@code (from == to)}, then this method simply removes the element
+     * specified at that index.
+     *
+     * @param from the index of the first element to be removed
+     * @param to   the index of the last element to be removed
+     * @return an array of elements that were removed from the
+     * {@code ArrayList}
+     * @throws IndexOutOfBoundsException if invalid indices were specified, or
+     *                                   if {@code from} is greater than
+     *                                   {@code to}
+     * @throws IllegalStateException     if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public E[] removeRange(int from, int to) {
+        ensureOpen();
+        if (from < 0 || to < from || to >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        E[] output = (E[]) new Object[to - from + 1];
+        for (int i = from; i <= to; i++) {
+            output[i - from] = decode(i);
+        }
+        moveElements(to + 1, from, size - to - 1);
+        size -= to - from + 1;
+        return output;
+    }
+
+    /**
+     * Replaces the element at the position specified by {@code index}
+     * with {@code newElement}.
+     *
+     * @param index      the index position of the element to be replaced
+     * @param newElement the new element to replace the old element
+     * @return the element that had just been replaced
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @throws NullPointerException      if {@code newElement} is {@code null}
+     * @throws IllegalStateException     if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public E set(int index, E newElement) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (newElement == null) {
+            throw new NullPointerException("null elements are not supported");
+        }
+        E output = decode(index);
+        encode(index, newElement);
+        return output;
+    }
+
+    /**
+     * Retrieves the element at the position specified by {@code index}.
+     *
+     * @param index the index position of the element to be retrieved
+     * @return the element stored at the specified position
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @throws IllegalStateException     if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public E get(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return decode(index);
+    }
+
+    /**
+     * Retrieves the {@code n}th occurrence of {@code element} within the
+     * {@code ArrayList}. If there is less than {@code n} occurrences of the
+     * specified element, then this method will return {@code null}.
+     *
+     * @param element the element to be searched for
+     * @param n       the number of element occurrences before returning
+     * @return the {@code n}th occurrence of {@code element}
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public E getNthOccurrence(E element, int n) {
+        int index = getNthOccurrenceIndex(element, n);
+        return index == -1 ? null : decode(index);
+    }
+
+    /**
+     * Retrieves the index of the {@code n}th occurrence of {@code element}
+     * within the {@code ArrayList}. If there is less than {@code n} occurrences
+     * of the specified element, then this method will return {@code -1}.
+     *
+     * @param element the element to be searched for
+     * @param n       the number of element occurrences before returning the
+     *                index
+     * @return the index of the {@code n}th occurrence of
+     * {@code element}
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public int getNthOccurrenceIndex(E element, int n) {
+        ensureOpen();
+        if (n > 0 && element != null) {
+            encodeKey(element);
+            for (int i = 0; i < size; i++) {
+                if (matchesKey(i)) {
+                    n--;
+                    if (n == 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves the number of times {@code element} occurs in the
+     * {@code ArrayList}. If the element does not exist, then this method
+     * will return {@code 0}.
+     *
+     * @param element the element to be searched for
+     * @return the number of times {@code element} occurs in the
+     * {@code ArrayList}
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public int getOccurrences(E element) {
+        ensureOpen();
+        int counter = 0;
+        if (element != null) {
+            encodeKey(element);
+            for (int i = 0; i < size; i++) {
+                if (matchesKey(i)) {
+                    counter++;
+                }
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * Retrieves the index of the first occurrence of {@code element} in
+     * the {@code ArrayList}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first occurrence of {@code element}
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public int indexOf(E element) {
+        ensureOpen();
+        if (element != null) {
+            encodeKey(element);
+            for (int i = 0; i < size; i++) {
+                if (matchesKey(i)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves the index of the last occurrence of {@code element} in the
+     * {@code ArrayList}. This means that the index returned will be the
+     * position of {@code element} furthest away from index {@code 0}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the last occurrence of {@code element}
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public int lastIndexOf(E element) {
+        ensureOpen();
+        if (element != null) {
+            encodeKey(element);
+            for (int i = size - 1; i >= 0; i--) {
+                if (matchesKey(i)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing the elements of the {@code ArrayList} in the
+     * order they are stored. Every element is decoded into a new object.
+     *
+     * @return an array containing all the elements
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public E[] toArray() {
+        ensureOpen();
+        if (size == 0) {
+            return null;
+        }
+        E[] output = (E[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            output[i] = decode(i);
+        }
+        return output;
+    }
+
+    /**
+     * Clears the {@code ArrayList} such that it is empty and ready to be used
+     * again. The capacity of the segments is kept.
+     *
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        size = 0;
+    }
+
+    /**
+     * Increases the capacity of the segments being used by the
+     * {@code ArrayList} to be able to store {@code n} number of elements
+     * specified by {@code newSize}.
+     *
+     * <p> Note that this method does not offer the functionality to reduce the
+     * capacity of the segments. If {@code newSize} is not bigger than the
+     * current capacity, then the segments are left untouched.
+     *
+     * @param newSize the new and bigger capacity for the segments
+     * @return {@code true} to indicate that a change has been made to the
+     * capacity of the segments
+     * @throws IllegalArgumentException if {@code newSize} exceeds
+     *                                  {@link #maxCapacity()}
+     * @throws IllegalStateException    if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public boolean ensureCapacity(int newSize) {
+        ensureOpen();
+        if (newSize > maxCapacity()) {
+            throw new IllegalArgumentException("capacity exceeds the " +
+                    "maximum capacity of the list");
+        }
+        if (newSize > capacity()) {
+            segments = resize(newSize);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Trims the capacity of the current segments being used by the
+     * {@code ArrayList} to remove excessive and unnecessary space.
+     *
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    @Override
+    public void trimToSize() {
+        ensureOpen();
+        if (size < capacity()) {
+            segments = resize(size);
+        }
+    }
+
+    /**
+     * Retrieves the {@link GrowthPolicy} deciding how the segments grow once
+     * they are fully filled.
+     *
+     * @return the {@code GrowthPolicy} of the {@code ArrayList}
+     * @since 1.1
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Replaces the {@link GrowthPolicy} deciding how the segments grow once
+     * they are fully filled. The new policy only takes effect on the next
+     * growth.
+     *
+     * @param growthPolicy the new {@code GrowthPolicy}
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     * @since 1.1
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new NullPointerException("growth policy is null");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Indicates whether the list is still open, i.e., {@link #close()} has not
+     * been called yet.
+     *
+     * @return {@code true} if the list can still be used
+     * @since 1.1
+     */
+    public boolean isOpen() {
+        return segments != null;
+    }
+
+    /**
+     * Closes the list, releasing its segments through
+     * {@link #release(ByteBuffer)}. Once closed, every method accessing the
+     * elements of the list will throw an {@link IllegalStateException}.
+     * Closing a list more than once has no effect.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void close() {
+        ByteBuffer[] closed = segments;
+        segments = null;
+        size = 0;
+        if (closed != null) {
+            for (ByteBuffer segment : closed) {
+                release(segment);
+            }
+        }
+    }
+
+    /**
+     * Provides a {@code String} representation to the whole
+     * {@code ArrayList} object, such that it prints out all the elements
+     * current stored in it using the following format:
+     * <blockquote>{@code [a1 a2 a3 a4 ... an]}</blockquote>
+     *
+     * @return a {@code String} consisting of all the elements currently
+     * stored in the {@code ArrayList}
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++) {
+            str.append(decode(i)).append(" ");
+        }
+        return str.append(decode(size - 1))
+                .append("]").toString();
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code E}, decoding every
+     * element as it is returned.
+     *
+     * @return an {@code Iterator}
+     * @throws IllegalStateException if the list has been closed
+     * @see BufferArrayListIterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        ensureOpen();
+        return new BufferArrayListIterator();
+    }
+
+    /**
+     * Retrieves the number of elements the current segments are able to
+     * store.
+     *
+     * @return the capacity of the segments, in elements
+     * @since 1.1
+     */
+    protected int capacity() {
+        int last = segments.length - 1;
+        return (last << segmentShift) + segments[last].capacity() / width;
+    }
+
+    /**
+     * Retrieves the largest number of elements the list is able to store,
+     * which is the number of elements a single buffer is able to store,
+     * unless overridden by an abstraction keeping several segments.
+     *
+     * @return the maximum capacity, in elements
+     * @since 1.1
+     */
+    protected int maxCapacity() {
+        return Integer.MAX_VALUE / width;
+    }
+
+    /**
+     * A protected helper method to grow the segments, such that they are able
+     * to store at least {@code minCapacity} elements. The new capacity is
+     * decided by the {@link #growthPolicy}, but never exceeds
+     * {@link #maxCapacity()}.
+     *
+     * @param minCapacity the minimum capacity required
+     * @throws IllegalArgumentException if {@code minCapacity} exceeds
+     *                                  {@link #maxCapacity()}
+     * @since 1.1
+     */
+    protected void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > maxCapacity()) {
+            throw new IllegalArgumentException("capacity exceeds the " +
+                    "maximum capacity of the list");
+        }
+        ensureCapacity(Math.min(growthPolicy.newCapacity(capacity(),
+                minCapacity), maxCapacity()));
+    }
+
+    /**
+     * A protected helper method to free the memory of a direct or mapped
+     * buffer at once, with {@code sun.misc.Unsafe.invokeCleaner}, instead of
+     * waiting for the garbage collector to collect the buffer. A heap buffer
+     * is left untouched, and so is any buffer if {@code sun.misc.Unsafe} is
+     * not available, in which case its memory is freed once it is collected.
+     *
+     * <p> The buffer, and every view of it, must never be accessed again, as
+     * its memory may already be reused.
+     *
+     * @param buffer the buffer to be released, which must not be a view of
+     *               another buffer, or {@code null}
+     * @since 1.1
+     */
+    protected static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null || buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("buffer cannot be released", t);
+        }
+    }
+
+    /**
+     * A private helper method to look up
+     * {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)}, exported by the
+     * {@code jdk.unsupported} module.
+     *
+     * @return a handle bound to the {@code Unsafe} instance, or {@code null}
+     * if it is not available
+     */
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup().findVirtual(unsafeClass,
+                    "invokeCleaner", MethodType.methodType(void.class,
+                            ByteBuffer.class)).bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A protected helper method to ensure that the list has not been closed.
+     *
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    protected void ensureOpen() {
+        if (segments == null) {
+            throw new IllegalStateException("list is closed");
+        }
+    }
+
+    /**
+     * A private helper method to encode {@code element} into the position
+     * {@code index}.
+     *
+     * @param index   the index of the element
+     * @param element the element to be encoded
+     */
+    private void encode(int index, E element) {
+        codec.encode(segments[index >>> segmentShift],
+                (index & segmentMask) * width, element);
+    }
+
+    /**
+     * A private helper method to decode the element at the position
+     * {@code index}.
+     *
+     * @param index the index of the element
+     * @return the element decoded
+     */
+    private E decode(int index) {
+        return codec.decode(segments[index >>> segmentShift],
+                (index & segmentMask) * width);
+    }
+
+    /**
+     * A private helper method to move {@code count} elements from the
+     * position {@code from} to the position {@code to}. The two ranges may
+     * overlap, so the elements are moved in chunks, starting from the end
+     * furthest in the direction of the move. Every chunk lies within a single
+     * segment on either side.
+     *
+     * @param from  the index of the first element to be moved
+     * @param to    the index the first element is moved to
+     * @param count the number of elements to be moved
+     */
+    private void moveElements(int from, int to, int count) {
+        if (count == 0 || from == to) {
+            return;
+        }
+        if (chunk == null) {
+            chunk = new byte[Math.max(CHUNK_SIZE, width)];
+        }
+        int perChunk = chunk.length / width;
+        int moved = 0;
+        while (moved < count) {
+            int n = Math.min(perChunk, count - moved);
+            int src;
+            int dst;
+            if (to > from) {
+                // moving right, the chunks are taken from the end
+                int srcEnd = from + count - moved;
+                int dstEnd = to + count - moved;
+                n = Math.min(n, Math.min(((srcEnd - 1) & segmentMask) + 1,
+                        ((dstEnd - 1) & segmentMask) + 1));
+                src = srcEnd - n;
+                dst = dstEnd - n;
+            } else {
+                src = from + moved;
+                dst = to + moved;
+                n = (int) Math.min(n, Math.min(
+                        segmentMask - (src & segmentMask) + 1L,
+                        segmentMask - (dst & segmentMask) + 1L));
+            }
+            ByteBuffer view = segments[src >>> segmentShift].duplicate();
+            view.position((src & segmentMask) * width);
+            view.get(chunk, 0, n * width);
+            view = segments[dst >>> segmentShift].duplicate();
+            view.position((dst & segmentMask) * width);
+            view.put(chunk, 0, n * width);
+            moved += n;
+        }
+    }
+
+    /**
+     * A private helper method to encode {@code element} as the key to be
+     * searched for.
+     *
+     * @param element the element to be searched for
+     */
+    private void encodeKey(E element) {
+        codec.encode(key, 0, element);
+    }
+
+    /**
+     * A private helper method to indicate whether the element at
+     * {@code index} is encoded the same way as the key being searched for.
+     *
+     * @param index the index of the element to be compared
+     * @return {@code true} if the element matches the key
+     */
+    private boolean matchesKey(int index) {
+        ByteBuffer segment = segments[index >>> segmentShift];
+        int offset = (index & segmentMask) * width;
+        for (int i = 0; i < width; i++) {
+            if (segment.get(offset + i) != key.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * This private inner class provides an {@code Iterator} of type
+     * {@code E}, providing the functionality of looping through the
+     * elements of the {@code ArrayList}. This implementation offers support
+     * for the {@link #remove()} method as well, and will not fail unless the
+     * {@link #next()} method has never been called, or the element is already
+     * removed.
+     *
+     * @see Iterator
+     */
+    private class BufferArrayListIterator implements Iterator<E> {
+
+        /**
+         * A reference to the index the iterator is currently pointing to.
+         */
+        private int currentIndex;
+
+        /**
+         * An indicator whether the element last returned has been removed
+         */
+        private boolean removed;
+
+        /**
+         * An indicator whether the next element has ever been returned
+         */
+        private boolean nextCalled;
+
+        /**
+         * Constructor. Initializes the iterator to start at the beginning of
+         * the {@code ArrayList}.
+         */
+        public BufferArrayListIterator() {
+            currentIndex = 0;
+            removed = true;
+        }
+
+        /**
+         * Indicates whether the iteration has more elements.
+         *
+         * @return {@code true} if the {@code ArrayList} still has
+         * more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more
+         *                                elements
+         */
+        @Override
+        public E next() {
+            if (currentIndex >= size) {
+                throw new NoSuchElementException("no more elements");
+            }
+            removed = false;
+            nextCalled = true;
+            return decode(currentIndex++);
+        }
+
+        /**
+         * Removes the last element returned by {@link #next()}. Note that the
+         * method will fail if the {@link #next()} has never been called
+         * during the lifespan of the iterator, or if the element to be removed
+         * has already been removed.
+         *
+         * @throws IllegalStateException if the {@link #next()} has never been
+         *                               called or the element has already been
+         *                               removed
+         */
+        @Override
+        public void remove() {
+            if (removed) {
+                throw new IllegalStateException(!nextCalled ?
+                        "next() has not been called" :
+                        "element has already been removed");
+            }
+            AbstractBufferArrayList.this.remove(--currentIndex);
+            removed = true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package list.arraylist;
+
+/**
+ * This abstract class provides a skeletal implementation to the
+ * primitive-specialized array lists, such as {@link IntArrayList},
+ * {@link LongArrayList} and {@link DoubleArrayList}.
+ *
+ * <p> These lists mirror the methods of an {@link ArrayList}, but store their
+ * elements in an array of a primitive type instead of an array of objects.
+ * This means that no wrapper object is allocated for each element, and that
+ * the elements are laid out contiguously in memory. For example, a list of
+ * {@code n} {@code int} elements only costs {@code 4n} bytes of array.
+ *
+ * <p> Since the type of the array differs between abstractions, the array
+ * itself and every method accessing it are left to the subclasses. This
+ * class only keeps track of the number of elements stored in the list, and of
+ * the {@link GrowthPolicy} used to grow the array once it is fully filled.
+ *
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see AbstractArrayList
+ * @see GrowthPolicy
+ */
+public abstract class AbstractPrimitiveArrayList {
+
+    /**
+     * A field to keep track of the number of elements currently stored in the
+     * list.
+     */
+    protected int size;
+
+    /**
+     * The policy deciding the new capacity of the array once it is fully
+     * filled.
+     */
+    protected GrowthPolicy growthPolicy = GrowthPolicy.GEOMETRIC;
+
+    /**
+     * Returns the number of elements currently stored in the list.
+     *
+     * @return the number of elements currently stored
+     * @since 1.1
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates whether the list is empty (not storing any elements).
+     *
+     * @return {@code true} if the list is empty
+     * @since 1.1
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the {@link GrowthPolicy} deciding how the array grows once it
+     * is fully filled.
+     *
+     * @return the {@code GrowthPolicy} of the list
+     * @since 1.1
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Replaces the {@link GrowthPolicy} deciding how the array grows once it
+     * is fully filled. The new policy only takes effect on the next growth.
+     *
+     * @param growthPolicy the new {@code GrowthPolicy}
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     * @since 1.1
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new NullPointerException("growth policy is null");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Increases the capacity of the array being used by the list to be able
+     * to store {@code n} number of elements specified by {@code newSize}.
+     *
+     * <p> Note that this method does not offer the functionality to reduce the
+     * capacity of the array. If {@code newSize} is not bigger than the current
+     * capacity, then the array is left untouched.
+     *
+     * @param newSize the new and bigger capacity for the array
+     * @return {@code true} to indicate that a change has been made to the
+     * capacity of the array
+     * @since 1.1
+     */
+    public abstract boolean ensureCapacity(int newSize);
+
+    /**
+     * Trims the capacity of the current array being used by the list to
+     * remove excessive and unnecessary space.
+     *
+     * @since 1.1
+     */
+    public abstract void trimToSize();
+
+    /**
+     * Clears the list such that it is empty and ready to be used again. The
+     * capacity of the array is kept.
+     *
+     * @since 1.1
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Retrieves the capacity of the array currently being used by the list.
+     *
+     * @return the length of the array
+     * @since 1.1
+     */
+    protected abstract int capacity();
+
+    /**
+     * A protected helper method to grow the array, such that it is able to
+     * store at least {@code minCapacity} elements. The new capacity is decided
+     * by the {@link #growthPolicy}.
+     *
+     * @param minCapacity the minimum capacity required
+     * @since 1.1
+     */
+    protected void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("required array size too large");
+        }
+        ensureCapacity(growthPolicy.newCapacity(capacity(), minCapacity));
+    }
+}
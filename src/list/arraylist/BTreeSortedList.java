@@ -0,0 +1,1162 @@
+package list.arraylist;
+
+import list.AbstractList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of the {@link ArrayList} interface that keeps its
+ * elements sorted, like a {@link SortedArrayList}, but stores them in a
+ * B+-tree of small array blocks rather than in a single array.
+ *
+ * <p> Elements are stored in leaf blocks of at most {@link #BLOCK_SIZE}
+ * elements, which are linked to each other in order. Every branch of the tree
+ * records the number of elements below each of its children, and a separator
+ * element between every two children. This allows the tree to be searched
+ * both by element and by index:
+ * <ul>
+ *     <li>{@link #add(Comparable)} and {@link #remove(int)} only shift
+ *     elements within a single block, splitting, merging or rebalancing
+ *     blocks as needed, and run in {@code O(log n)} time</li>
+ *     <li>{@link #get(int)}, {@link #lowerBound(Comparable)} and
+ *     {@link #upperBound(Comparable)} run in {@code O(log n)} time</li>
+ *     <li>iterating goes through the linked blocks, reading each block
+ *     sequentially</li>
+ * </ul>
+ *
+ * <p> As in a {@code SortedArrayList}, elements are ordered based on their
+ * {@link Comparable#compareTo(Object) compareTo(Object)} method, equal
+ * elements are kept in the order they were added, {@code null} elements are
+ * not accepted, and adding by index is not supported.
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code ArrayList} would store.
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see SortedArrayList
+ */
+@SuppressWarnings({"unchecked"})
+public class BTreeSortedList<E extends Comparable<E>> extends AbstractList<E>
+        implements ArrayList<E> {
+
+    /**
+     * The maximum number of elements in a leaf, and of children in a branch.
+     * Every block but the root holds at least half as many.
+     */
+    public static final int BLOCK_SIZE = 64;
+
+    /**
+     * The minimum number of elements in a leaf, and of children in a branch,
+     * other than the root.
+     */
+    private static final int MIN_BLOCK_SIZE = BLOCK_SIZE / 2;
+
+    /**
+     * The root of the tree.
+     */
+    private Node root;
+
+    /**
+     * The leftmost leaf of the tree, where iteration starts.
+     */
+    private Leaf first;
+
+    /**
+     * Default Constructor. Initializes an empty tree.
+     */
+    public BTreeSortedList() {
+        clear();
+    }
+
+    /**
+     * Copy Constructor. Takes in an {@code ArrayList} object and creates a
+     * sorted copy of it, without any of its {@code null} elements.
+     *
+     * @param al the other {@code ArrayList} object to be copied
+     */
+    public BTreeSortedList(ArrayList<E> al) {
+        clear();
+        java.util.List<E> elements = new java.util.ArrayList<>(al.size());
+        for (E e : al) {
+            elements.add(e);
+        }
+        addAll(elements);
+    }
+
+    /**
+     * Inserts {@code element} to the appropriate position of the
+     * {@code BTreeSortedList}. Runtime Complexity: {@code O(log n)}.
+     *
+     * <p> Due to constraints of the {@code BTreeSortedList}, this method will
+     * return {@code false} if it takes in a {@code null} element.
+     *
+     * @param element the element to be inserted into the list
+     * @return {@code true} if {@code element} is successfully added to the
+     * list
+     * @since 1.1
+     */
+    @Override
+    public boolean add(E element) {
+        if (element == null) {
+            // null elements are not accepted in a sorted list
+            return false;
+        }
+        Node split = root.insert(element);
+        if (split != null) {
+            Branch newRoot = new Branch();
+            newRoot.append(root, null);
+            newRoot.append(split, split.lowest());
+            root = newRoot;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts {@code element} to a position in the {@code ArrayList}
+     * specified by {@code index}.
+     *
+     * @param index   the index position where the element should be inserted
+     * @param element the element to be inserted
+     * @return {@code true} to indicate a change has been made to the list
+     * @since 1.1
+     * @deprecated adding by index is not supported in a sorted list
+     */
+    @Override
+    public boolean add(int index, E element)
+            throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("adding by index is not " +
+                "supported in a sorted list");
+    }
+
+    /**
+     * Inserts a {@code Collection} of elements to the appropriate positions of
+     * the {@code BTreeSortedList}. As with {@link #add(Comparable)},
+     * {@code null} elements are ignored.
+     *
+     * <p> If the {@code Collection} is at least as large as the list, the
+     * elements are sorted and merged with the list, and the tree is rebuilt
+     * from the merged elements in {@code O(n + m log m)} time. Otherwise the
+     * elements are added one by one.
+     *
+     * @param c a {@code Collection} containing the elements to be added
+     * @throws NullPointerException if the {@code Collection} of objects
+     *                              specified is {@code null}
+     * @see Collection
+     * @since 1.1
+     */
+    @Override
+    public void addAll(Collection<? extends E> c) {
+        if (c == null) {
+            throw new NullPointerException("Collection is null");
+        }
+        if (c.size() < size) {
+            for (E e : c) {
+                add(e);
+            }
+            return;
+        }
+        Object[] elements = c.toArray();
+        int n = 0;
+        for (Object e : elements) {
+            if (e != null) {
+                elements[n++] = e;
+            }
+        }
+        Arrays.sort(elements, 0, n);
+        Object[] merged = new Object[size + n];
+        int j = 0;
+        int k = 0;
+        // existing elements stay before the equal elements being added
+        for (E e : this) {
+            while (j < n && ((E) elements[j]).compareTo(e) < 0) {
+                merged[k++] = elements[j++];
+            }
+            merged[k++] = e;
+        }
+        while (j < n) {
+            merged[k++] = elements[j++];
+        }
+        build(merged, k);
+    }
+
+    /**
+     * Inserts a {@code Collection} of elements to a position in the
+     * {@code List} specified by {@code index}.
+     *
+     * @param index the index position where the {@code Collection} of
+     *              elements should be inserted
+     * @param c     the {@code Collection} containing elements to be inserted
+     * @since 1.1
+     * @deprecated adding by index is not supported in a sorted list
+     */
+    @Override
+    public void addAll(int index, Collection<? extends E> c) {
+        throw new UnsupportedOperationException("adding by index is not " +
+                "supported in a sorted list");
+    }
+
+    /**
+     * Removes the element at a position in the {@code BTreeSortedList}
+     * specified by {@code index}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param index the index position of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @since 1.1
+     */
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        E output = (E) root.removeAt(index);
+        if (root instanceof Branch && ((Branch) root).length == 1) {
+            root = ((Branch) root).children[0];
+        }
+        size--;
+        return output;
+    }
+
+    /**
+     * Removes a set of elements between index positions specified by
+     * {@code from}, inclusive, and {@code to}, inclusive. If
+     * {@code (from == to)}, then this method simply removes the element
+     * specified at that index.
+     *
+     * @param from the index of the first element to be removed
+     * @param to   the index of the last element to be removed
+     * @return an array of elements that were removed from the
+     * {@code BTreeSortedList}
+     * @throws IndexOutOfBoundsException if invalid indices were specified, or
+     *                                   if {@code from} is greater than
+     *                                   {@code to}
+     * @since 1.1
+     */
+    @Override
+    public E[] removeRange(int from, int to) {
+        if (from < 0 || to < from || to >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        E[] output = (E[]) new Comparable[to - from + 1];
+        for (int i = 0; i < output.length; i++) {
+            output[i] = remove(from);
+        }
+        return output;
+    }
+
+    /**
+     * Removes the element at the position specified by {@code index} and adds
+     * the new element specified in {@code newElement}.
+     *
+     * @param index      the index position of the element to be replaced
+     * @param newElement the new element to replace the old element
+     * @return the element that had just been replaced
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @since 1.1
+     */
+    @Override
+    public E set(int index, E newElement) {
+        E e = remove(index);
+        add(newElement);
+        return e;
+    }
+
+    /**
+     * Retrieves the element at the position specified by {@code index}.
+     * Runtime Complexity: {@code O(log n)}.
+     *
+     * @param index the index position of the element to be retrieved
+     * @return the element stored at the specified position
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @since 1.1
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int j = 0;
+            while (index >= branch.counts[j]) {
+                index -= branch.counts[j++];
+            }
+            node = branch.children[j];
+        }
+        return (E) ((Leaf) node).elements[index];
+    }
+
+    /**
+     * Retrieves the {@code n}th occurrence of {@code element} within the
+     * {@code BTreeSortedList}. If there is less than {@code n} occurrences of
+     * the specified element, then this method will return {@code null}.
+     *
+     * @param element the element to be searched for
+     * @param n       the number of element occurrences before returning
+     * @return the {@code n}th occurrence of {@code element}
+     * @since 1.1
+     */
+    @Override
+    public E getNthOccurrence(E element, int n) {
+        int index = getNthOccurrenceIndex(element, n);
+        return index == -1 ? null : get(index);
+    }
+
+    /**
+     * Retrieves the index of the {@code n}th occurrence of {@code element}
+     * within the {@code BTreeSortedList}. If there is less than {@code n}
+     * occurrences of the specified element, then this method will return
+     * {@code -1}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @param n       the number of element occurrences before returning the
+     *                index
+     * @return the index of the {@code n}th occurrence of
+     * {@code element}
+     * @since 1.1
+     */
+    @Override
+    public int getNthOccurrenceIndex(E element, int n) {
+        if (element == null || n <= 0) {
+            return -1;
+        }
+        int index = lowerBound(element) + n - 1;
+        return index < upperBound(element) ? index : -1;
+    }
+
+    /**
+     * Retrieves the number of times {@code element} occurs in the
+     * {@code BTreeSortedList}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the number of times {@code element} occurs in the list
+     * @since 1.1
+     */
+    @Override
+    public int getOccurrences(E element) {
+        return element == null ? 0 : rangeCount(element, element);
+    }
+
+    /**
+     * Retrieves the index of the first occurrence of {@code element} in
+     * the {@code BTreeSortedList}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first occurrence of {@code element}
+     * @since 1.1
+     */
+    @Override
+    public int indexOf(E element) {
+        return getNthOccurrenceIndex(element, 1);
+    }
+
+    /**
+     * Retrieves the index of the last occurrence of {@code element} in the
+     * {@code BTreeSortedList}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the last occurrence of {@code element}
+     * @since 1.1
+     */
+    @Override
+    public int lastIndexOf(E element) {
+        if (element == null) {
+            return -1;
+        }
+        int index = upperBound(element) - 1;
+        return index >= 0 && get(index).compareTo(element) == 0 ? index : -1;
+    }
+
+    /**
+     * Retrieves the index of the first element that is not less than
+     * {@code element}. If every element is less than {@code element}, then
+     * this method will return {@link #size()}. Runtime Complexity:
+     * {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first element not less than {@code element}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 1.1
+     */
+    public int lowerBound(E element) {
+        return bound(element, false);
+    }
+
+    /**
+     * Retrieves the index of the first element that is greater than
+     * {@code element}. If no element is greater than {@code element}, then
+     * this method will return {@link #size()}. Runtime Complexity:
+     * {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first element greater than {@code element}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 1.1
+     */
+    public int upperBound(E element) {
+        return bound(element, true);
+    }
+
+    /**
+     * Retrieves the number of elements between {@code from}, inclusive, and
+     * {@code to}, inclusive. If {@code from} is greater than {@code to}, then
+     * this method will return {@code 0}. Runtime Complexity:
+     * {@code O(log n)}.
+     *
+     * @param from the lowest element to be counted
+     * @param to   the highest element to be counted
+     * @return the number of elements within the range
+     * @throws NullPointerException if {@code from} or {@code to} is
+     *                              {@code null}
+     * @since 1.1
+     */
+    public int rangeCount(E from, E to) {
+        return Math.max(0, upperBound(to) - lowerBound(from));
+    }
+
+    /**
+     * Retrieves the greatest element that is less than or equal to
+     * {@code element}, or {@code null} if there is no such element.
+     *
+     * @param element the element to be searched for
+     * @return the greatest element not greater than {@code element}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 1.1
+     */
+    public E floor(E element) {
+        int index = upperBound(element) - 1;
+        return index >= 0 ? get(index) : null;
+    }
+
+    /**
+     * Retrieves the least element that is greater than or equal to
+     * {@code element}, or {@code null} if there is no such element.
+     *
+     * @param element the element to be searched for
+     * @return the least element not less than {@code element}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 1.1
+     */
+    public E ceiling(E element) {
+        int index = lowerBound(element);
+        return index < size ? get(index) : null;
+    }
+
+    /**
+     * Returns an array containing the elements of the {@code BTreeSortedList}
+     * in sorted order.
+     *
+     * @return an array containing all the elements
+     * @since 1.1
+     */
+    @Override
+    public E[] toArray() {
+        if (size == 0) {
+            return null;
+        }
+        E[] output = (E[]) new Comparable[size];
+        int i = 0;
+        for (Leaf leaf = first; leaf != null; leaf = leaf.next) {
+            System.arraycopy(leaf.elements, 0, output, i, leaf.length);
+            i += leaf.length;
+        }
+        return output;
+    }
+
+    /**
+     * Clears the {@code BTreeSortedList} such that it is empty and ready to be
+     * used again.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void clear() {
+        first = new Leaf();
+        root = first;
+        size = 0;
+    }
+
+    /**
+     * Does nothing, since a {@code BTreeSortedList} allocates its blocks as
+     * it grows, and has no single array to be resized.
+     *
+     * @param newSize the new and bigger capacity
+     * @return {@code false}, since the list is never changed
+     * @since 1.1
+     */
+    @Override
+    public boolean ensureCapacity(int newSize) {
+        return false;
+    }
+
+    /**
+     * Rebuilds the tree so that every block is fully filled, removing the
+     * unused space left by insertions and removals. Runtime Complexity:
+     * {@code O(n)}.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void trimToSize() {
+        E[] elements = toArray();
+        if (elements != null) {
+            build(elements, size);
+        }
+    }
+
+    /**
+     * Provides a {@code String} representation to the whole
+     * {@code BTreeSortedList} object, such that it prints out all the elements
+     * current stored in it using the following format:
+     * <blockquote>{@code [a1 a2 a3 a4 ... an]}</blockquote>
+     *
+     * @return a {@code String} consisting of all the elements currently
+     * stored in the {@code BTreeSortedList}
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("[");
+        for (E e : this) {
+            str.append(str.length() == 1 ? "" : " ").append(e);
+        }
+        return str.append("]").toString();
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code E}, going through the
+     * linked leaves of the tree.
+     *
+     * @return an {@code Iterator}
+     * @see BTreeSortedListIterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new BTreeSortedListIterator();
+    }
+
+    /**
+     * A private helper method to find the index of the first element not less
+     * than, or greater than, {@code element}. Each branch is searched through
+     * its separators, and the number of elements in the skipped children is
+     * added up on the way down.
+     *
+     * @param element the element to be searched for
+     * @param upper   {@code true} to find the first element greater than
+     *                {@code element}
+     * @return the index of the first element matching the bound
+     * @throws NullPointerException if {@code element} is {@code null}
+     */
+    private int bound(E element, boolean upper) {
+        if (element == null) {
+            throw new NullPointerException("element is null");
+        }
+        int index = 0;
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int j = branch.childIndex(element, upper);
+            for (int i = 0; i < j; i++) {
+                index += branch.counts[i];
+            }
+            node = branch.children[j];
+        }
+        Leaf leaf = (Leaf) node;
+        return index + leaf.bound(element, upper);
+    }
+
+    /**
+     * A private helper method to replace the tree with one built from the
+     * first {@code n} elements of {@code sorted}, spreading them as evenly as
+     * possible over full leaves.
+     *
+     * @param sorted the elements of the new tree, in sorted order
+     * @param n      the number of elements
+     */
+    private void build(Object[] sorted, int n) {
+        clear();
+        if (n == 0) {
+            return;
+        }
+        int count = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        Node[] level = new Node[count];
+        Leaf previous = null;
+        for (int i = 0, start = 0; i < count; i++) {
+            int end = (int) ((long) n * (i + 1) / count);
+            Leaf leaf = new Leaf();
+            System.arraycopy(sorted, start, leaf.elements, 0, end - start);
+            leaf.length = end - start;
+            leaf.size = leaf.length;
+            leaf.prev = previous;
+            if (previous != null) {
+                previous.next = leaf;
+            }
+            previous = leaf;
+            level[i] = leaf;
+            start = end;
+        }
+        first = (Leaf) level[0];
+        while (count > 1) {
+            int parents = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            Node[] upper = new Node[parents];
+            for (int i = 0, start = 0; i < parents; i++) {
+                int end = (int) ((long) count * (i + 1) / parents);
+                Branch branch = new Branch();
+                for (int j = start; j < end; j++) {
+                    branch.append(level[j], level[j].lowest());
+                }
+                upper[i] = branch;
+                start = end;
+            }
+            level = upper;
+            count = parents;
+        }
+        root = level[0];
+        size = n;
+    }
+
+    /**
+     * This private static inner class is the base of the blocks of the tree,
+     * keeping track of the number of elements stored below it.
+     */
+    private abstract static class Node {
+
+        /**
+         * The number of elements in a leaf, or of children in a branch.
+         */
+        int length;
+
+        /**
+         * The number of elements stored in the subtree.
+         */
+        int size;
+
+        /**
+         * Retrieves a lower bound of every element in the subtree, used as
+         * its separator once it is added to a branch.
+         *
+         * @return the lowest element of the subtree
+         */
+        abstract Object lowest();
+
+        /**
+         * Inserts {@code element} after every element equal to it in the
+         * subtree.
+         *
+         * @param element the element to be inserted
+         * @param <E>     the type of elements in the tree
+         * @return the new right sibling if the block had to be split, or
+         * {@code null} otherwise
+         */
+        abstract <E extends Comparable<E>> Node insert(E element);
+
+        /**
+         * Removes the element at {@code index} within the subtree.
+         *
+         * @param index the index of the element within the subtree
+         * @return the element that was removed
+         */
+        abstract Object removeAt(int index);
+
+        /**
+         * Moves the last element or child of {@code left} to the front of
+         * this block.
+         *
+         * @param left      the left sibling of this block
+         * @param separator the separator between {@code left} and this block
+         * @return the new separator between {@code left} and this block
+         */
+        abstract Object borrowLeft(Node left, Object separator);
+
+        /**
+         * Moves the first element or child of {@code right} to the end of
+         * this block.
+         *
+         * @param right     the right sibling of this block
+         * @param separator the separator between this block and
+         *                  {@code right}
+         * @return the new separator between this block and {@code right}
+         */
+        abstract Object borrowRight(Node right, Object separator);
+
+        /**
+         * Moves every element or child of {@code right} to the end of this
+         * block.
+         *
+         * @param right     the right sibling of this block
+         * @param separator the separator between this block and
+         *                  {@code right}
+         */
+        abstract void merge(Node right, Object separator);
+    }
+
+    /**
+     * This private static inner class is a leaf block, storing a sorted run of
+     * elements and linked to its neighbouring leaves.
+     */
+    private static final class Leaf extends Node {
+
+        /**
+         * The elements of the leaf, with room for one extra element before
+         * the leaf is split.
+         */
+        final Object[] elements = new Object[BLOCK_SIZE + 1];
+
+        /**
+         * The next leaf in order, or {@code null} if this is the last one.
+         */
+        Leaf next;
+
+        /**
+         * The previous leaf in order, or {@code null} if this is the first
+         * one.
+         */
+        Leaf prev;
+
+        @Override
+        Object lowest() {
+            return elements[0];
+        }
+
+        /**
+         * Finds the index of the first element of the leaf not less than, or
+         * greater than, {@code element}.
+         *
+         * @param element the element to be searched for
+         * @param upper   {@code true} to find the first element greater than
+         *                {@code element}
+         * @param <E>     the type of elements in the tree
+         * @return the index of the first element matching the bound
+         */
+        <E extends Comparable<E>> int bound(E element, boolean upper) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int c = ((E) elements[mid]).compareTo(element);
+                if (c < 0 || (upper && c == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        <E extends Comparable<E>> Node insert(E element) {
+            int index = bound(element, true);
+            System.arraycopy(elements, index, elements, index + 1,
+                    length - index);
+            elements[index] = element;
+            length++;
+            size++;
+            if (length <= BLOCK_SIZE) {
+                return null;
+            }
+            Leaf right = new Leaf();
+            int half = length / 2;
+            right.length = length - half;
+            right.size = right.length;
+            System.arraycopy(elements, half, right.elements, 0, right.length);
+            Arrays.fill(elements, half, length, null);
+            length = half;
+            size = half;
+            right.next = next;
+            right.prev = this;
+            if (next != null) {
+                next.prev = right;
+            }
+            next = right;
+            return right;
+        }
+
+        @Override
+        Object removeAt(int index) {
+            Object output = elements[index];
+            System.arraycopy(elements, index + 1, elements, index,
+                    length - index - 1);
+            elements[--length] = null;
+            size--;
+            return output;
+        }
+
+        @Override
+        Object borrowLeft(Node left, Object separator) {
+            Leaf leaf = (Leaf) left;
+            System.arraycopy(elements, 0, elements, 1, length);
+            elements[0] = leaf.elements[--leaf.length];
+            leaf.elements[leaf.length] = null;
+            leaf.size--;
+            length++;
+            size++;
+            return elements[0];
+        }
+
+        @Override
+        Object borrowRight(Node right, Object separator) {
+            Leaf leaf = (Leaf) right;
+            elements[length++] = leaf.elements[0];
+            size++;
+            leaf.removeAt(0);
+            return leaf.elements[0];
+        }
+
+        @Override
+        void merge(Node right, Object separator) {
+            Leaf leaf = (Leaf) right;
+            System.arraycopy(leaf.elements, 0, elements, length, leaf.length);
+            length += leaf.length;
+            size += leaf.size;
+            next = leaf.next;
+            if (next != null) {
+                next.prev = this;
+            }
+        }
+    }
+
+    /**
+     * This private static inner class is a branch block. The separator
+     * {@code keys[i]} lies between every element below {@code children[i - 1]}
+     * and every element below {@code children[i]}, while {@code keys[0]} is
+     * the separator the branch was created with, if any.
+     */
+    private static final class Branch extends Node {
+
+        /**
+         * The children of the branch, with room for one extra child before
+         * the branch is split.
+         */
+        final Node[] children = new Node[BLOCK_SIZE + 1];
+
+        /**
+         * The separators between the children.
+         */
+        final Object[] keys = new Object[BLOCK_SIZE + 1];
+
+        /**
+         * The number of elements stored below each child.
+         */
+        final int[] counts = new int[BLOCK_SIZE + 1];
+
+        @Override
+        Object lowest() {
+            return keys[0];
+        }
+
+        /**
+         * Appends {@code child} to the end of the branch.
+         *
+         * @param child     the child to be appended
+         * @param separator the separator between the last child and
+         *                  {@code child}
+         */
+        void append(Node child, Object separator) {
+            if (length == 0) {
+                keys[0] = child.lowest();
+            } else {
+                keys[length] = separator;
+            }
+            children[length] = child;
+            counts[length] = child.size;
+            size += child.size;
+            length++;
+        }
+
+        /**
+         * Finds the child the first element not less than, or greater than,
+         * {@code element} is stored under, or would be stored under if it
+         * were the last element.
+         *
+         * @param element the element to be searched for
+         * @param upper   {@code true} to search for the first element greater
+         *                than {@code element}
+         * @param <E>     the type of elements in the tree
+         * @return the index of the child
+         */
+        <E extends Comparable<E>> int childIndex(E element, boolean upper) {
+            int low = 1;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int c = ((E) keys[mid]).compareTo(element);
+                if (c < 0 || (upper && c == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low - 1;
+        }
+
+        @Override
+        <E extends Comparable<E>> Node insert(E element) {
+            int j = childIndex(element, true);
+            Node split = children[j].insert(element);
+            counts[j] = children[j].size;
+            size++;
+            if (split == null) {
+                return null;
+            }
+            System.arraycopy(children, j + 1, children, j + 2,
+                    length - j - 1);
+            System.arraycopy(keys, j + 1, keys, j + 2, length - j - 1);
+            System.arraycopy(counts, j + 1, counts, j + 2, length - j - 1);
+            children[j + 1] = split;
+            keys[j + 1] = split.lowest();
+            counts[j + 1] = split.size;
+            length++;
+            if (length <= BLOCK_SIZE) {
+                return null;
+            }
+            Branch right = new Branch();
+            int half = length / 2;
+            right.keys[0] = keys[half];
+            for (int i = half; i < length; i++) {
+                right.children[i - half] = children[i];
+                right.counts[i - half] = counts[i];
+                right.size += counts[i];
+                if (i > half) {
+                    right.keys[i - half] = keys[i];
+                }
+                children[i] = null;
+                keys[i] = null;
+            }
+            right.length = length - half;
+            length = half;
+            size -= right.size;
+            return right;
+        }
+
+        @Override
+        Object removeAt(int index) {
+            int j = 0;
+            while (index >= counts[j]) {
+                index -= counts[j++];
+            }
+            Node child = children[j];
+            Object output = child.removeAt(index);
+            counts[j]--;
+            size--;
+            if (child.length < MIN_BLOCK_SIZE) {
+                rebalance(j);
+            }
+            return output;
+        }
+
+        /**
+         * Refills the child at index {@code j}, which has fewer than
+         * {@link #MIN_BLOCK_SIZE} elements or children, by borrowing from a
+         * sibling, or by merging it with a sibling if neither can spare any.
+         *
+         * @param j the index of the child to be refilled
+         */
+        private void rebalance(int j) {
+            if (j > 0 && children[j - 1].length > MIN_BLOCK_SIZE) {
+                keys[j] = children[j].borrowLeft(children[j - 1], keys[j]);
+                counts[j - 1] = children[j - 1].size;
+                counts[j] = children[j].size;
+            } else if (j + 1 < length
+                    && children[j + 1].length > MIN_BLOCK_SIZE) {
+                keys[j + 1] = children[j].borrowRight(children[j + 1],
+                        keys[j + 1]);
+                counts[j] = children[j].size;
+                counts[j + 1] = children[j + 1].size;
+            } else if (length > 1) {
+                // merges the right one of the two children into the left one
+                int left = j > 0 ? j - 1 : j;
+                children[left].merge(children[left + 1], keys[left + 1]);
+                counts[left] = children[left].size;
+                System.arraycopy(children, left + 2, children, left + 1,
+                        length - left - 2);
+                System.arraycopy(keys, left + 2, keys, left + 1,
+                        length - left - 2);
+                System.arraycopy(counts, left + 2, counts, left + 1,
+                        length - left - 2);
+                length--;
+                children[length] = null;
+                keys[length] = null;
+            }
+        }
+
+        @Override
+        Object borrowLeft(Node left, Object separator) {
+            Branch branch = (Branch) left;
+            int last = --branch.length;
+            System.arraycopy(children, 0, children, 1, length);
+            System.arraycopy(keys, 1, keys, 2, length - 1);
+            System.arraycopy(counts, 0, counts, 1, length);
+            children[0] = branch.children[last];
+            counts[0] = branch.counts[last];
+            keys[1] = separator;
+            length++;
+            size += counts[0];
+            branch.size -= counts[0];
+            Object newSeparator = branch.keys[last];
+            branch.children[last] = null;
+            branch.keys[last] = null;
+            return newSeparator;
+        }
+
+        @Override
+        Object borrowRight(Node right, Object separator) {
+            Branch branch = (Branch) right;
+            children[length] = branch.children[0];
+            counts[length] = branch.counts[0];
+            keys[length] = separator;
+            size += counts[length];
+            length++;
+            Object newSeparator = branch.keys[1];
+            branch.size -= branch.counts[0];
+            branch.length--;
+            System.arraycopy(branch.children, 1, branch.children, 0,
+                    branch.length);
+            System.arraycopy(branch.counts, 1, branch.counts, 0,
+                    branch.length);
+            System.arraycopy(branch.keys, 2, branch.keys, 1,
+                    branch.length - 1);
+            branch.children[branch.length] = null;
+            branch.keys[branch.length] = null;
+            return newSeparator;
+        }
+
+        @Override
+        void merge(Node right, Object separator) {
+            Branch branch = (Branch) right;
+            keys[length] = separator;
+            System.arraycopy(branch.children, 0, children, length,
+                    branch.length);
+            System.arraycopy(branch.keys, 1, keys, length + 1,
+                    branch.length - 1);
+            System.arraycopy(branch.counts, 0, counts, length, branch.length);
+            length += branch.length;
+            size += branch.size;
+        }
+    }
+
+    /**
+     * This private inner class provides an {@code Iterator} of type
+     * {@code E}, going through the elements of each leaf in turn. This
+     * implementation offers support for the {@link #remove()} method as well,
+     * and will not fail unless the {@link #next()} method has never been
+     * called, or the element is already removed.
+     *
+     * @see Iterator
+     */
+    private class BTreeSortedListIterator implements Iterator<E> {
+
+        /**
+         * The leaf holding the next element.
+         */
+        private Leaf leaf;
+
+        /**
+         * The index of the next element within {@link #leaf}.
+         */
+        private int position;
+
+        /**
+         * The index of the next element within the whole list.
+         */
+        private int currentIndex;
+
+        /**
+         * An indicator whether the element last returned has been removed
+         */
+        private boolean removed;
+
+        /**
+         * An indicator whether the next element has ever been returned
+         */
+        private boolean nextCalled;
+
+        /**
+         * Constructor. Initializes the iterator to start at the beginning of
+         * the {@code BTreeSortedList}.
+         */
+        public BTreeSortedListIterator() {
+            leaf = first;
+            position = 0;
+            currentIndex = 0;
+            removed = true;
+        }
+
+        /**
+         * Indicates whether the iteration has more elements.
+         *
+         * @return {@code true} if the {@code BTreeSortedList} still has
+         * more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more
+         *                                elements
+         */
+        @Override
+        public E next() {
+            if (currentIndex >= size) {
+                throw new NoSuchElementException("no more elements");
+            }
+            while (position == leaf.length) {
+                leaf = leaf.next;
+                position = 0;
+            }
+            removed = false;
+            nextCalled = true;
+            currentIndex++;
+            return (E) leaf.elements[position++];
+        }
+
+        /**
+         * Removes the last element returned by {@link #next()}. Since the
+         * removal may move elements between leaves, the iterator finds its
+         * place again from the root afterwards. Note that the method will
+         * fail if the {@link #next()} has never been called during the
+         * lifespan of the iterator, or if the element to be removed has
+         * already been removed.
+         *
+         * @throws IllegalStateException if the {@link #next()} has never been
+         *                               called or the element has already been
+         *                               removed
+         */
+        @Override
+        public void remove() {
+            if (removed) {
+                throw new IllegalStateException(!nextCalled ?
+                        "next() has not been called" :
+                        "element has already been removed");
+            }
+            BTreeSortedList.this.remove(--currentIndex);
+            removed = true;
+            if (currentIndex == size) {
+                return;
+            }
+            // finds the leaf holding the element at currentIndex again
+            Node node = root;
+            position = currentIndex;
+            while (node instanceof Branch) {
+                Branch branch = (Branch) node;
+                int j = 0;
+                while (position >= branch.counts[j]) {
+                    position -= branch.counts[j++];
+                }
+                node = branch.children[j];
+            }
+            leaf = (Leaf) node;
+        }
+    }
+}
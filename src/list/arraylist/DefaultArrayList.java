@@ -1,5 +1,7 @@
 package list.arraylist;
 
+import java.util.Arrays;
+
 /**
  * This class is the default implementation of the {@link ArrayList} interface.
  *
@@ -38,6 +40,20 @@ public class DefaultArrayList<E> extends AbstractArrayList<E> {
         size = 0;
     }
 
+    /**
+     * Constructor. Initializes a starting array with a capacity specified
+     * in {@code minCapacity}, which grows according to {@code growthPolicy}
+     * once it is fully filled.
+     *
+     * @param minCapacity  the minimum capacity of the array to be initialized
+     * @param growthPolicy the policy deciding how the array grows
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     */
+    public DefaultArrayList(int minCapacity, GrowthPolicy growthPolicy) {
+        this(minCapacity);
+        setGrowthPolicy(growthPolicy);
+    }
+
     /**
      * Copy Constructor. Takes in another {@code DefaultArrayList} object
      * and creates a deep copy of it.
@@ -46,10 +62,8 @@ public class DefaultArrayList<E> extends AbstractArrayList<E> {
      */
     public DefaultArrayList(DefaultArrayList<E> dal) {
         this.size = dal.size();
-        arr = (E[]) new Object[this.size];
-        for (int i = 0; i < this.size; i++) {
-            arr[i] = dal.get(i);
-        }
+        arr = Arrays.copyOf(dal.arr, this.size);
+        growthPolicy = dal.growthPolicy;
     }
 
     /**
@@ -62,23 +76,20 @@ public class DefaultArrayList<E> extends AbstractArrayList<E> {
      * @param to   the index of the last element to be removed
      * @return an array of elements that were removed from the
      * {@code ArrayList}
-     * @throws IndexOutOfBoundsException if invalid indices were specified
+     * @throws IndexOutOfBoundsException if invalid indices were specified, or
+     *                                   if {@code from} is greater than
+     *                                   {@code to}
      * @since 1.1
      */
     @Override
     public E[] removeRange(int from, int to) {
-        if (from < 0 || to < 0 || from >= size || to >= size) {
+        if (from < 0 || to < from || to >= size) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
-        E[] output = (E[]) new Object[to - from + 1];
-        for (int i = from; i <= to; i++) {
-            output[i - from] = arr[i];
-            arr[i] = null;
-        }
+        E[] output = Arrays.copyOfRange(arr, from, to + 1);
         int diff = to - from + 1;
-        for (int i = from; i < size; i++) {
-            arr[i] = arr[i + diff];
-        }
+        System.arraycopy(arr, to + 1, arr, from, size - to - 1);
+        Arrays.fill(arr, size - diff, size, null);
         size -= diff;
         return output;
     }
@@ -221,11 +232,7 @@ public class DefaultArrayList<E> extends AbstractArrayList<E> {
         if (size == 0) {
             return null;
         }
-        E[] output = (E[]) new Object[size];
-        for (int i = 0; i < size; i++) {
-            output[i] = arr[i];
-        }
-        return output;
+        return Arrays.copyOf(arr, size);
     }
 
     /**
@@ -246,7 +253,8 @@ public class DefaultArrayList<E> extends AbstractArrayList<E> {
      * {@code newSize}.
      *
      * <p> Note that this method does not offer the functionality to reduce the
-     * capacity of the array.
+     * capacity of the array. If {@code newSize} is not bigger than the current
+     * capacity, then the array is left untouched.
      *
      * @param newSize the new and bigger capacity for the array
      * @return {@code true} to indicate that a change has been made to the
@@ -255,16 +263,8 @@ public class DefaultArrayList<E> extends AbstractArrayList<E> {
      */
     @Override
     public boolean ensureCapacity(int newSize) {
-        if (newSize > -1) {
-            if (size == 0) {
-                arr = (E[]) new Object[newSize];
-            } else {
-                E[] temp = (E[]) new Object[newSize];
-                for (int i = 0; i < size; i++) {
-                    temp[i] = arr[i];
-                }
-                arr = temp;
-            }
+        if (newSize > arr.length) {
+            arr = Arrays.copyOf(arr, newSize);
             return true;
         }
         return false;
@@ -278,10 +278,8 @@ public class DefaultArrayList<E> extends AbstractArrayList<E> {
      */
     @Override
     public void trimToSize() {
-        E[] temp = (E[]) new Object[size];
-        for (int i = 0; i < size; i++) {
-            temp[i] = arr[i];
+        if (size < arr.length) {
+            arr = Arrays.copyOf(arr, size);
         }
-        arr = temp;
     }
 }
@@ -0,0 +1,119 @@
+package list.arraylist;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This interface defines how elements of type {@link E} are stored in a
+ * {@link ByteBuffer}, for {@code ArrayList}s that keep their elements outside
+ * of the Java heap, such as the {@link OffHeapArrayList}.
+ *
+ * <p> Every element is encoded into exactly {@link #width()} bytes, so that
+ * the element at index {@code i} always starts at byte {@code i * width()}.
+ * Encodings must be canonical: two elements are considered equal if, and only
+ * if, their encodings are equal. This allows lists to search for elements
+ * without decoding them.
+ *
+ * <p> Codecs for {@link Integer}, {@link Long} and {@link Double} elements are
+ * provided as {@link #INTEGER}, {@link #LONG} and {@link #DOUBLE}.
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            codec encodes.
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see OffHeapArrayList
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * A codec storing {@link Integer} elements in {@code 4} bytes.
+     */
+    ElementCodec<Integer> INTEGER = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * A codec storing {@link Long} elements in {@code 8} bytes.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * A codec storing {@link Double} elements in {@code 8} bytes. Every
+     * {@code NaN} is encoded the same way, to keep the encoding canonical.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(ByteBuffer buffer, int offset, Double element) {
+            buffer.putLong(offset, Double.doubleToLongBits(element));
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int offset) {
+            return Double.longBitsToDouble(buffer.getLong(offset));
+        }
+    };
+
+    /**
+     * Retrieves the number of bytes every element is encoded into.
+     *
+     * @return the width of an encoded element, in bytes
+     * @since 1.1
+     */
+    int width();
+
+    /**
+     * Encodes {@code element} into the {@link #width()} bytes of
+     * {@code buffer} starting at {@code offset}. This method must not change
+     * the position or limit of {@code buffer}.
+     *
+     * @param buffer  the buffer to write into
+     * @param offset  the index of the first byte to be written
+     * @param element the element to be encoded, which is never {@code null}
+     * @since 1.1
+     */
+    void encode(ByteBuffer buffer, int offset, E element);
+
+    /**
+     * Decodes the element stored in the {@link #width()} bytes of
+     * {@code buffer} starting at {@code offset}. This method must not change
+     * the position or limit of {@code buffer}.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the index of the first byte to be read
+     * @return the decoded element
+     * @since 1.1
+     */
+    E decode(ByteBuffer buffer, int offset);
+}
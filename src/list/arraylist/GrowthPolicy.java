@@ -0,0 +1,94 @@
+package list.arraylist;
+
+/**
+ * This interface defines how the array of an {@link ArrayList} grows once it
+ * is fully filled.
+ *
+ * <p> A {@code GrowthPolicy} is given the current capacity of the array and
+ * the minimum capacity required to store the next element, and computes the
+ * capacity of the new array. The policies provided here are:
+ * <ul>
+ *     <li>{@link #GEOMETRIC}, which grows the array by half of its
+ *     capacity</li>
+ *     <li>{@link #DOUBLING}, which doubles the capacity of the array</li>
+ *     <li>{@link #cappedIncrement(int)}, which doubles the capacity of the
+ *     array, but never grows it by more than a given number of elements</li>
+ * </ul>
+ *
+ * <p> Growing geometrically guarantees that appending {@code n} elements
+ * copies {@code O(n)} elements in total, making {@link ArrayList#add(Object)
+ * add(E)} run in amortized {@code O(1)} time. A capped increment trades that
+ * guarantee for a bounded amount of unused space once the array is large,
+ * since past the cap every growth copies the whole array again.
+ *
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see ArrayList
+ * @see AbstractArrayList
+ */
+public interface GrowthPolicy {
+
+    /**
+     * The largest capacity a policy will grow an array to. Some virtual
+     * machines reserve header words in an array, so that requesting larger
+     * arrays may fail even if there is enough memory.
+     */
+    int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * A policy that grows the array by half of its capacity, i.e., to
+     * {@code 1.5} times its capacity. This is the default policy of every
+     * {@link ArrayList} in this package.
+     */
+    GrowthPolicy GEOMETRIC = (capacity, minCapacity) ->
+            bound((long) capacity + (capacity >> 1), minCapacity);
+
+    /**
+     * A policy that doubles the capacity of the array.
+     */
+    GrowthPolicy DOUBLING = (capacity, minCapacity) ->
+            bound((long) capacity << 1, minCapacity);
+
+    /**
+     * Computes the capacity of the new array.
+     *
+     * @param capacity    the capacity of the current array
+     * @param minCapacity the minimum capacity the new array must have
+     * @return the capacity of the new array, which is at least
+     * {@code minCapacity}
+     * @since 1.1
+     */
+    int newCapacity(int capacity, int minCapacity);
+
+    /**
+     * Creates a policy that doubles the capacity of the array, but grows it
+     * by no more than {@code maxIncrement} elements at a time.
+     *
+     * @param maxIncrement the maximum number of elements the array grows by
+     * @return a capped increment {@code GrowthPolicy}
+     * @throws IllegalArgumentException if {@code maxIncrement} is less than
+     *                                  {@code 1}
+     * @since 1.1
+     */
+    static GrowthPolicy cappedIncrement(int maxIncrement) {
+        if (maxIncrement < 1) {
+            throw new IllegalArgumentException("increment must be positive");
+        }
+        return (capacity, minCapacity) -> bound((long) capacity +
+                Math.min(capacity, maxIncrement), minCapacity);
+    }
+
+    /**
+     * A helper method to bound a computed capacity between
+     * {@code minCapacity} and {@link #MAXIMUM_CAPACITY}.
+     *
+     * @param capacity    the computed capacity
+     * @param minCapacity the minimum capacity the new array must have
+     * @return the bounded capacity
+     * @since 1.1
+     */
+    private static int bound(long capacity, int minCapacity) {
+        return (int) Math.max(minCapacity, Math.min(capacity,
+                MAXIMUM_CAPACITY));
+    }
+}
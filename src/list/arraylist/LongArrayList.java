@@ -0,0 +1,511 @@
+package list.arraylist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * This class is a primitive-specialized sibling of the
+ * {@link DefaultArrayList}, storing {@code long} elements.
+ *
+ * <p> A {@code LongArrayList} offers the same methods as an {@link ArrayList},
+ * only taking and returning {@code long} values instead of {@link Long}
+ * objects. Elements are stored directly in a {@code long[]}, so that every
+ * element only costs {@code 8} bytes and is never boxed, unless it is
+ * retrieved through the {@link java.util.Iterator#next() next()} method of
+ * its iterator.
+ *
+ * <p> The insertion order in a {@code LongArrayList} is maintained until a
+ * change is made by the user through the {@link #set(int, long)} method.
+ *
+ * <p> Equal elements are tested using the following logic
+ * {@code (a == b)}.
+ *
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see DefaultArrayList
+ * @see AbstractPrimitiveArrayList
+ */
+public class LongArrayList extends AbstractPrimitiveArrayList
+        implements Iterable<Long> {
+
+    /**
+     * An array storing elements of type {@code long}.
+     */
+    protected long[] arr;
+
+    /**
+     * Default Constructor. Initializes a starting array of capacity {@code 10}.
+     */
+    public LongArrayList() {
+        this(10);
+    }
+
+    /**
+     * Constructor. Initializes a starting array with a capacity specified
+     * in {@code minCapacity}.
+     *
+     * @param minCapacity the minimum capacity of the array to be initialized
+     */
+    public LongArrayList(int minCapacity) {
+        arr = new long[minCapacity];
+        size = 0;
+    }
+
+    /**
+     * Constructor. Initializes a starting array with a capacity specified
+     * in {@code minCapacity}, which grows according to {@code growthPolicy}
+     * once it is fully filled.
+     *
+     * @param minCapacity  the minimum capacity of the array to be initialized
+     * @param growthPolicy the policy deciding how the array grows
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     */
+    public LongArrayList(int minCapacity, GrowthPolicy growthPolicy) {
+        this(minCapacity);
+        setGrowthPolicy(growthPolicy);
+    }
+
+    /**
+     * Copy Constructor. Takes in another {@code LongArrayList} object
+     * and creates a deep copy of it.
+     *
+     * @param other the other {@code LongArrayList} object to be copied
+     */
+    public LongArrayList(LongArrayList other) {
+        this.size = other.size;
+        arr = Arrays.copyOf(other.arr, this.size);
+        growthPolicy = other.growthPolicy;
+    }
+
+    /**
+     * Appends {@code element} to the end of the list.
+     *
+     * @param element the element to be added to the end of the list
+     * @return {@code true} to indicate a change has been made to the list
+     * @since 1.1
+     */
+    public boolean add(long element) {
+        if (size == arr.length) {
+            grow(size + 1);
+        }
+        arr[size] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Inserts {@code element} to a position in the list specified by
+     * {@code index}.
+     *
+     * @param index   the index position where the element should be inserted
+     * @param element the element to be inserted
+     * @return {@code true} to indicate a change has been made to the list
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @since 1.1
+     */
+    public boolean add(int index, long element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        if (size == arr.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(arr, index, arr, index + 1, size - index);
+        arr[index] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Appends an array of elements to the end of the list.
+     *
+     * @param elements an array containing the elements to be added
+     * @throws NullPointerException if the array specified is {@code null}
+     * @since 1.1
+     */
+    public void addAll(long[] elements) {
+        addAll(size, elements);
+    }
+
+    /**
+     * Inserts an array of elements to a position in the list specified by
+     * {@code index}. The elements after {@code index} are shifted only once,
+     * and the new elements are then copied into the gap as a single block.
+     *
+     * @param index    the index position where the elements should be
+     *                 inserted
+     * @param elements an array containing the elements to be inserted
+     * @throws NullPointerException      if the array specified is
+     *                                   {@code null}
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @since 1.1
+     */
+    public void addAll(int index, long[] elements) {
+        if (elements == null) {
+            throw new NullPointerException("array is null");
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        int n = elements.length;
+        if (size + n > arr.length) {
+            grow(size + n);
+        }
+        System.arraycopy(arr, index, arr, index + n, size - index);
+        System.arraycopy(elements, 0, arr, index, n);
+        size += n;
+    }
+
+    /**
+     * Removes the element at a position in the list specified by
+     * {@code index}.
+     *
+     * @param index the index position of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @since 1.1
+     */
+    public long remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        long output = arr[index];
+        System.arraycopy(arr, index + 1, arr, index, size - index - 1);
+        size--;
+        return output;
+    }
+
+    /**
+     * Removes a set of elements between index positions specified by
+     * {@code from}, inclusive, and {@code to}, inclusive. If
+     * {@code (from == to)}, then this method simply removes the element
+     * specified at that index.
+     *
+     * @param from the index of the first element to be removed
+     * @param to   the index of the last element to be removed
+     * @return an array of elements that were removed from the list
+     * @throws IndexOutOfBoundsException if invalid indices were specified, or
+     *                                   if {@code from} is greater than
+     *                                   {@code to}
+     * @since 1.1
+     */
+    public long[] removeRange(int from, int to) {
+        if (from < 0 || to < from || to >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        long[] output = Arrays.copyOfRange(arr, from, to + 1);
+        System.arraycopy(arr, to + 1, arr, from, size - to - 1);
+        size -= to - from + 1;
+        return output;
+    }
+
+    /**
+     * Replaces the element at the position specified by {@code index}
+     * with {@code newElement}.
+     *
+     * @param index      the index position of the element to be replaced
+     * @param newElement the new element to replace the old element
+     * @return the element that had just been replaced
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @since 1.1
+     */
+    public long set(int index, long newElement) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        long output = arr[index];
+        arr[index] = newElement;
+        return output;
+    }
+
+    /**
+     * Retrieves the element at the position specified by {@code index}.
+     *
+     * @param index the index position of the element to be retrieved
+     * @return the element stored at the specified position
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has
+     *                                   been specified
+     * @since 1.1
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return arr[index];
+    }
+
+    /**
+     * Retrieves the index of the {@code n}th occurrence of {@code element}
+     * within the list. If there is less than {@code n} occurrences of the
+     * specified element, then this method will return {@code -1}.
+     *
+     * @param element the element to be searched for
+     * @param n       the number of element occurrences before returning the
+     *                index
+     * @return the index of the {@code n}th occurrence of {@code element}
+     * @since 1.1
+     */
+    public int getNthOccurrenceIndex(long element, int n) {
+        if (n > 0) {
+            for (int i = 0; i < size; i++) {
+                if (arr[i] == element) {
+                    n--;
+                    if (n == 0) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves the number of times {@code element} occurs in the list. If the
+     * element does not exist, then this method will return {@code 0}.
+     *
+     * @param element the element to be searched for
+     * @return the number of times {@code element} occurs in the list
+     * @since 1.1
+     */
+    public int getOccurrences(long element) {
+        int counter = 0;
+        for (int i = 0; i < size; i++) {
+            if (arr[i] == element) {
+                counter++;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * Indicates whether {@code element} exists within the list.
+     *
+     * @param element the element to be searched for
+     * @return {@code true} if {@code element} exists in the list
+     * @since 1.1
+     */
+    public boolean contains(long element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Retrieves the index of the first occurrence of {@code element} in the
+     * list.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first occurrence of {@code element}, or
+     * {@code -1} if it does not exist
+     * @since 1.1
+     */
+    public int indexOf(long element) {
+        for (int i = 0; i < size; i++) {
+            if (arr[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves the index of the last occurrence of {@code element} in the
+     * list. This means that the index returned will be the position of
+     * {@code element} furthest away from index {@code 0}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the last occurrence of {@code element}, or
+     * {@code -1} if it does not exist
+     * @since 1.1
+     */
+    public int lastIndexOf(long element) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (arr[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an array containing the elements of the list in the order they
+     * are stored. If the list is empty, then an empty array is returned.
+     *
+     * @return an array containing all the elements
+     * @since 1.1
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(arr, size);
+    }
+
+    /**
+     * Increases the capacity of the array being used by the list to be able
+     * to store {@code n} number of elements specified by {@code newSize}.
+     *
+     * <p> Note that this method does not offer the functionality to reduce the
+     * capacity of the array. If {@code newSize} is not bigger than the current
+     * capacity, then the array is left untouched.
+     *
+     * @param newSize the new and bigger capacity for the array
+     * @return {@code true} to indicate that a change has been made to the
+     * capacity of the array
+     * @since 1.1
+     */
+    @Override
+    public boolean ensureCapacity(int newSize) {
+        if (newSize > arr.length) {
+            arr = Arrays.copyOf(arr, newSize);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Trims the capacity of the current array being used by the list to
+     * remove excessive and unnecessary space.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void trimToSize() {
+        if (size < arr.length) {
+            arr = Arrays.copyOf(arr, size);
+        }
+    }
+
+    /**
+     * Retrieves the capacity of the array currently being used by the list.
+     *
+     * @return the length of the array
+     * @since 1.1
+     */
+    @Override
+    protected int capacity() {
+        return arr.length;
+    }
+
+    /**
+     * Provides a {@code String} representation to the whole list, such that
+     * it prints out all the elements current stored in it using the following
+     * format:
+     * <blockquote>{@code [a1 a2 a3 a4 ... an]}</blockquote>
+     *
+     * @return a {@code String} consisting of all the elements currently
+     * stored in the list
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size - 1; i++) {
+            str.append(arr[i]).append(" ");
+        }
+        return str.append(arr[size - 1]).append("]").toString();
+    }
+
+    /**
+     * Returns a primitive iterator over the elements of the list. Elements
+     * can be retrieved without boxing through the
+     * {@link PrimitiveIterator.OfLong#nextLong() nextLong()} method.
+     *
+     * @return a {@code PrimitiveIterator.OfLong}
+     * @see LongArrayListIterator
+     */
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongArrayListIterator();
+    }
+
+    /**
+     * This private inner class provides a {@code PrimitiveIterator} of type
+     * {@code long}, providing the functionality of looping through the
+     * elements of an {@code LongArrayList}. This implementation offers
+     * support for the {@link #remove()} method as well, and will not fail
+     * unless the {@link #nextLong()} method has never been called, or the
+     * element is already removed.
+     *
+     * @see PrimitiveIterator.OfLong
+     */
+    private class LongArrayListIterator implements PrimitiveIterator.OfLong {
+
+        /**
+         * A reference to the index the iterator is currently pointing to.
+         */
+        private int currentIndex;
+
+        /**
+         * An indicator whether the element last returned has been removed
+         */
+        private boolean removed;
+
+        /**
+         * An indicator whether the next element has ever been returned
+         */
+        private boolean nextCalled;
+
+        /**
+         * Constructor. Initializes the iterator to start at the beginning of
+         * the list.
+         */
+        public LongArrayListIterator() {
+            currentIndex = 0;
+            removed = true;
+        }
+
+        /**
+         * Indicates whether the iteration has more elements.
+         *
+         * @return {@code true} if the list still has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return currentIndex < size;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more
+         *                                elements
+         */
+        @Override
+        public long nextLong() {
+            if (currentIndex >= size) {
+                throw new NoSuchElementException("no more elements");
+            }
+            removed = false;
+            nextCalled = true;
+            return arr[currentIndex++];
+        }
+
+        /**
+         * Removes the last element returned by {@link #nextLong()}. Note that
+         * the method will fail if the {@link #nextLong()} has never been
+         * called during the lifespan of the iterator, or if the element to be
+         * removed has already been removed.
+         *
+         * @throws IllegalStateException if the {@link #nextLong()} has never
+         *                               been called or the element has already
+         *                               been removed
+         */
+        @Override
+        public void remove() {
+            if (removed) {
+                throw new IllegalStateException(!nextCalled ?
+                        "next() has not been called" :
+                        "element has already been removed");
+            }
+            System.arraycopy(arr, currentIndex, arr, currentIndex - 1,
+                    size - currentIndex);
+            currentIndex--;
+            size--;
+            removed = true;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package list.arraylist;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An implementation of the {@link ArrayList} interface that stores its
+ * elements in a memory-mapped file, so that the list outlives the virtual
+ * machine that created it.
+ *
+ * <p> Elements are encoded into the file by an {@link ElementCodec}, right
+ * after a header of {@link #HEADER_SIZE} bytes. Reopening the file maps it
+ * again without reading or decoding any element, and the operating system
+ * pages the elements in as they are accessed. The file has the following
+ * layout, in little-endian byte order:
+ * <ul>
+ *     <li>bytes {@code 0-3}: the {@link #MAGIC} number</li>
+ *     <li>bytes {@code 4-7}: the width of an element, in bytes</li>
+ *     <li>bytes {@code 8-15}: the number of elements stored</li>
+ *     <li>bytes {@code 16} onward: the encoded elements, followed by unused
+ *     capacity</li>
+ * </ul>
+ *
+ * <p> {@link #ensureCapacity(int)} and growing the list extend the file and
+ * its mapping, while {@link #trimToSize()} truncates the file to the elements
+ * stored. Changes to the elements are written back to the file by the
+ * operating system at its own pace, but the number of elements is only
+ * recorded in the header by {@link #force()} and {@link #close()}, which are
+ * therefore the durability points of the list. Operations that fail to access
+ * the file throw an {@link UncheckedIOException}.
+ *
+ * <p> Since a single mapping cannot exceed {@code Integer.MAX_VALUE} bytes,
+ * the file is mapped in segments of about a gigabyte each, holding a power of
+ * two of elements, so the list can store up to
+ * {@link GrowthPolicy#MAXIMUM_CAPACITY} elements no matter their width.
+ * Growing the list only maps the segments that change, and
+ * {@link #trimToSize()} and {@link #close()} unmap the segments they drop at
+ * once, rather than leaving them to the garbage collector.
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code ArrayList} would store.
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see AbstractBufferArrayList
+ * @see ElementCodec
+ */
+public class MappedArrayList<E> extends AbstractBufferArrayList<E> {
+
+    /**
+     * The number identifying a file created by a {@code MappedArrayList}.
+     */
+    public static final int MAGIC = 0x4D41524C;
+
+    /**
+     * The number of bytes of the header preceding the elements in the file.
+     */
+    public static final int HEADER_SIZE = 16;
+
+    /**
+     * The number of bytes a segment of the file is mapped in at most.
+     */
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * The channel of the file storing the list.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Constructor. Opens the list stored in {@code file}, or creates it with
+     * a capacity of {@code 10} elements if the file does not exist or is
+     * empty.
+     *
+     * @param file  the file storing the list
+     * @param codec the codec converting elements to and from bytes
+     * @throws IOException          if the file cannot be opened, or if it was
+     *                              not created by a {@code MappedArrayList}
+     *                              with a codec of the same width
+     * @throws NullPointerException if {@code file} or {@code codec} is
+     *                              {@code null}
+     */
+    public MappedArrayList(Path file, ElementCodec<E> codec)
+            throws IOException {
+        this(file, codec, 10);
+    }
+
+    /**
+     * Constructor. Opens the list stored in {@code file}, or creates it with
+     * a capacity of at least {@code minCapacity} elements if the file does
+     * not exist or is empty.
+     *
+     * @param file        the file storing the list
+     * @param codec       the codec converting elements to and from bytes
+     * @param minCapacity the minimum number of elements a new list can store
+     * @throws IOException              if the file cannot be opened, or if it
+     *                                  was not created by a
+     *                                  {@code MappedArrayList} with a codec
+     *                                  of the same width
+     * @throws NullPointerException     if {@code file} or {@code codec} is
+     *                                  {@code null}
+     * @throws IllegalArgumentException if {@code minCapacity} is negative, or
+     *                                  greater than
+     *                                  {@link GrowthPolicy#MAXIMUM_CAPACITY}
+     */
+    public MappedArrayList(Path file, ElementCodec<E> codec, int minCapacity)
+            throws IOException {
+        this(file, codec, minCapacity, GrowthPolicy.GEOMETRIC);
+    }
+
+    /**
+     * Constructor. Opens the list stored in {@code file}, or creates it with
+     * a capacity of at least {@code minCapacity} elements if the file does
+     * not exist or is empty. The mapping grows according to
+     * {@code growthPolicy} once it is fully filled.
+     *
+     * @param file         the file storing the list
+     * @param codec        the codec converting elements to and from bytes
+     * @param minCapacity  the minimum number of elements a new list can store
+     * @param growthPolicy the policy deciding how the mapping grows
+     * @throws IOException              if the file cannot be opened, or if it
+     *                                  was not created by a
+     *                                  {@code MappedArrayList} with a codec
+     *                                  of the same width
+     * @throws NullPointerException     if {@code file}, {@code codec} or
+     *                                  {@code growthPolicy} is {@code null}
+     * @throws IllegalArgumentException if {@code minCapacity} is negative, or
+     *                                  greater than
+     *                                  {@link GrowthPolicy#MAXIMUM_CAPACITY}
+     * @since 1.1
+     */
+    public MappedArrayList(Path file, ElementCodec<E> codec, int minCapacity,
+                           GrowthPolicy growthPolicy) throws IOException {
+        this(file, codec, minCapacity, growthPolicy, segmentShift(codec));
+    }
+
+    /**
+     * Constructor. Opens the list stored in {@code file}, or creates it with
+     * a capacity of at least {@code minCapacity} elements if the file does
+     * not exist or is empty. The file is mapped in segments of
+     * {@code 2^segmentShift} elements.
+     *
+     * @param file         the file storing the list
+     * @param codec        the codec converting elements to and from bytes
+     * @param minCapacity  the minimum number of elements a new list can store
+     * @param growthPolicy the policy deciding how the mapping grows
+     * @param segmentShift the base-2 logarithm of the number of elements
+     *                     mapped by a segment
+     * @throws IOException              if the file cannot be opened, or if it
+     *                                  was not created by a
+     *                                  {@code MappedArrayList} with a codec
+     *                                  of the same width
+     * @throws NullPointerException     if {@code file}, {@code codec} or
+     *                                  {@code growthPolicy} is {@code null}
+     * @throws IllegalArgumentException if {@code minCapacity} is negative, or
+     *                                  greater than
+     *                                  {@link GrowthPolicy#MAXIMUM_CAPACITY},
+     *                                  or if a segment would exceed
+     *                                  {@code Integer.MAX_VALUE} bytes
+     * @since 1.1
+     */
+    MappedArrayList(Path file, ElementCodec<E> codec, int minCapacity,
+                    GrowthPolicy growthPolicy, int segmentShift)
+            throws IOException {
+        super(codec, segmentShift);
+        if (((long) width << segmentShift) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid segment shift");
+        }
+        if (file == null) {
+            throw new NullPointerException("file is null");
+        }
+        if (minCapacity < 0 || minCapacity > maxCapacity()) {
+            throw new IllegalArgumentException("Invalid capacity");
+        }
+        setGrowthPolicy(growthPolicy);
+        channel = FileChannel.open(file, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        try {
+            if (channel.size() == 0) {
+                writeHeader();
+                segments = map(minCapacity);
+            } else {
+                readHeader();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the number of elements to the header of the file, and forces
+     * every change made to the list to be written to the storage device
+     * containing the file.
+     *
+     * @throws UncheckedIOException  if the file cannot be written
+     * @throws IllegalStateException if the list has been closed
+     * @since 1.1
+     */
+    public void force() {
+        ensureOpen();
+        try {
+            writeHeader();
+            for (ByteBuffer segment : segments) {
+                ((MappedByteBuffer) segment).force();
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Forces every change made to the list to the file, and closes it. Closing
+     * a list more than once has no effect.
+     *
+     * @throws UncheckedIOException if the file cannot be written or closed
+     * @since 1.1
+     */
+    @Override
+    public void close() {
+        if (!isOpen()) {
+            return;
+        }
+        try {
+            force();
+        } finally {
+            super.close();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Maps {@code newCapacity} elements of the file, truncating the file if
+     * the list shrinks. The file grows on its own when a larger region is
+     * mapped.
+     *
+     * @param newCapacity the number of elements the new segments can store
+     * @return the new segments
+     * @throws UncheckedIOException if the file cannot be mapped or truncated
+     * @since 1.1
+     */
+    @Override
+    protected ByteBuffer[] resize(int newCapacity) {
+        try {
+            int oldCapacity = capacity();
+            ByteBuffer[] newSegments = map(newCapacity);
+            if (newCapacity < oldCapacity) {
+                channel.truncate(HEADER_SIZE + (long) newCapacity * width);
+            }
+            return newSegments;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Retrieves the largest number of elements the list is able to store,
+     * which is not bounded by the size of a single mapping.
+     *
+     * @return {@link GrowthPolicy#MAXIMUM_CAPACITY}
+     * @since 1.1
+     */
+    @Override
+    protected int maxCapacity() {
+        return GrowthPolicy.MAXIMUM_CAPACITY;
+    }
+
+    /**
+     * A private helper method to map the segments of the file storing
+     * {@code capacity} elements. The current segments that keep their size
+     * are reused, while the others are unmapped.
+     *
+     * @param capacity the number of elements the segments can store
+     * @return the segments, of which there is always at least one
+     * @throws IOException if the file cannot be mapped
+     */
+    private ByteBuffer[] map(int capacity) throws IOException {
+        long perSegment = 1L << segmentShift;
+        int count = (int) Math.max(1, (capacity + perSegment - 1)
+                / perSegment);
+        ByteBuffer[] mapped = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long bytes = Math.min(perSegment, capacity - i * perSegment)
+                    * width;
+            if (segments != null && i < segments.length
+                    && segments[i].capacity() == bytes) {
+                mapped[i] = segments[i];
+            } else {
+                mapped[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                        HEADER_SIZE + i * perSegment * width, bytes)
+                        .order(BYTE_ORDER);
+            }
+        }
+        if (segments != null) {
+            for (int i = 0; i < segments.length; i++) {
+                if (i >= count || mapped[i] != segments[i]) {
+                    release(segments[i]);
+                }
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * A private helper method to compute the base-2 logarithm of the number
+     * of elements of {@code codec} a segment of at most
+     * {@link #SEGMENT_SIZE} bytes is able to store.
+     *
+     * @param codec the codec converting elements to and from bytes
+     * @return the shift of the segments
+     * @throws NullPointerException if {@code codec} is {@code null}
+     */
+    private static int segmentShift(ElementCodec<?> codec) {
+        if (codec == null) {
+            throw new NullPointerException("codec is null");
+        }
+        // an invalid width is rejected by the super constructor
+        int perSegment = Math.max(1, SEGMENT_SIZE
+                / Math.max(1, codec.width()));
+        return 31 - Integer.numberOfLeadingZeros(perSegment);
+    }
+
+    /**
+     * A private helper method to write the header of the file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER)
+                .putInt(MAGIC).putInt(width).putLong(size);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+    }
+
+    /**
+     * A private helper method to read the header of an existing file, and to
+     * map the elements it stores.
+     *
+     * @throws IOException if the file was not created by a
+     *                     {@code MappedArrayList} with a codec of the same
+     *                     width
+     */
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("file is not a list");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("file is not a list");
+        }
+        if (header.getInt() != width) {
+            throw new IOException("element width does not match the codec");
+        }
+        long storedSize = header.getLong();
+        long capacity = (channel.size() - HEADER_SIZE) / width;
+        if (storedSize < 0 || storedSize > capacity
+                || capacity > maxCapacity()) {
+            throw new IOException("file is corrupted");
+        }
+        size = (int) storedSize;
+        segments = map((int) capacity);
+    }
+}
@@ -0,0 +1,104 @@
+package list.arraylist;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An implementation of the {@link ArrayList} interface that stores its
+ * elements outside of the Java heap, in a direct {@link ByteBuffer}.
+ *
+ * <p> Elements are encoded into the buffer by an {@link ElementCodec}, so the
+ * list only holds a single object on the heap no matter how many elements it
+ * stores. This keeps large lists of fixed-width records away from the garbage
+ * collector, at the cost of decoding a new object every time an element is
+ * retrieved.
+ *
+ * <p> The buffer grows according to a {@link GrowthPolicy}, and is replaced by
+ * a new direct buffer on every growth, or on {@link #trimToSize()}. The
+ * native memory of the old buffer is freed as soon as it is replaced, and
+ * {@link #close()} frees the memory of the current buffer, so that releasing
+ * it never waits for the garbage collector to collect a buffer that has
+ * reached the old generation. This relies on {@code sun.misc.Unsafe} from the
+ * {@code jdk.unsupported} module; without it, the memory is freed once the
+ * buffer is collected.
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code ArrayList} would store.
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see AbstractBufferArrayList
+ * @see ElementCodec
+ */
+public class OffHeapArrayList<E> extends AbstractBufferArrayList<E> {
+
+    /**
+     * Constructor. Initializes the {@code ArrayList} with a buffer able to
+     * store {@code 10} elements.
+     *
+     * @param codec the codec converting elements to and from bytes
+     * @throws NullPointerException if {@code codec} is {@code null}
+     */
+    public OffHeapArrayList(ElementCodec<E> codec) {
+        this(codec, 10);
+    }
+
+    /**
+     * Constructor. Initializes the {@code ArrayList} with a buffer able to
+     * store at least {@code minCapacity} elements.
+     *
+     * @param codec       the codec converting elements to and from bytes
+     * @param minCapacity the minimum number of elements the buffer can store
+     * @throws NullPointerException     if {@code codec} is {@code null}
+     * @throws IllegalArgumentException if {@code minCapacity} is negative, or
+     *                                  if the buffer would exceed
+     *                                  {@code Integer.MAX_VALUE} bytes
+     */
+    public OffHeapArrayList(ElementCodec<E> codec, int minCapacity) {
+        this(codec, minCapacity, GrowthPolicy.GEOMETRIC);
+    }
+
+    /**
+     * Constructor. Initializes the {@code ArrayList} with a buffer able to
+     * store at least {@code minCapacity} elements, growing according to
+     * {@code growthPolicy} once it is fully filled.
+     *
+     * @param codec        the codec converting elements to and from bytes
+     * @param minCapacity  the minimum number of elements the buffer can store
+     * @param growthPolicy the policy deciding how the buffer grows
+     * @throws NullPointerException     if {@code codec} or
+     *                                  {@code growthPolicy} is {@code null}
+     * @throws IllegalArgumentException if {@code minCapacity} is negative, or
+     *                                  if the buffer would exceed
+     *                                  {@code Integer.MAX_VALUE} bytes
+     * @since 1.1
+     */
+    public OffHeapArrayList(ElementCodec<E> codec, int minCapacity,
+                            GrowthPolicy growthPolicy) {
+        super(codec);
+        if (minCapacity < 0 || minCapacity > maxCapacity()) {
+            throw new IllegalArgumentException("Invalid capacity");
+        }
+        setGrowthPolicy(growthPolicy);
+        segments = new ByteBuffer[]{ByteBuffer.allocateDirect(
+                minCapacity * width).order(BYTE_ORDER)};
+    }
+
+    /**
+     * Allocates a new direct buffer able to store exactly
+     * {@code newCapacity} elements, copies the elements of the list into it,
+     * and frees the memory of the old buffer.
+     *
+     * @param newCapacity the number of elements the new buffer can store
+     * @return the single segment holding the new buffer
+     * @since 1.1
+     */
+    @Override
+    protected ByteBuffer[] resize(int newCapacity) {
+        ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity * width)
+                .order(BYTE_ORDER);
+        ByteBuffer used = segments[0].duplicate();
+        used.limit(size * width).position(0);
+        newBuffer.put(used).clear();
+        release(segments[0]);
+        return new ByteBuffer[]{newBuffer};
+    }
+}
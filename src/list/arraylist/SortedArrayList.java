@@ -1,6 +1,12 @@
 package list.arraylist;
 
+import list.AbstractList;
+import list.List;
+
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * This class is an implementation of the {@link ComparableArrayList} class.
@@ -49,19 +55,31 @@ public class SortedArrayList<E extends Comparable<E>>
         super(minCapacity);
     }
 
+    /**
+     * Constructor. Initializes a starting array with a capacity specified
+     * in {@code minCapacity}, which grows according to {@code growthPolicy}
+     * once it is fully filled.
+     *
+     * @param minCapacity  the minimum capacity of the array to be initialized
+     * @param growthPolicy the policy deciding how the array grows
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     */
+    public SortedArrayList(int minCapacity, GrowthPolicy growthPolicy) {
+        super(minCapacity, growthPolicy);
+    }
+
     /**
      * Copy Constructor. Takes in another {@code ComparableArrayList} object
      * and creates a deep copy of it. If {@code cal} is not a
      * {@code SortedArrayList}, then this constructor will return a sorted
-     * version of the {@code ComparableArrayList} object.
+     * version of the {@code ComparableArrayList} object, without any of its
+     * {@code null} elements.
      *
      * @param cal the other {@code ComparableArrayList} object to be copied
      */
     public SortedArrayList(ComparableArrayList<E> cal) {
-        arr = (E[]) new Comparable[cal.size()];
-        for (int i = 0; i < cal.size(); i++) {
-            this.add(cal.get(i));
-        }
+        super(cal.size(), cal.growthPolicy);
+        addAll(Arrays.asList(cal.arr).subList(0, cal.size()));
     }
 
     /**
@@ -82,23 +100,12 @@ public class SortedArrayList<E extends Comparable<E>>
             // null elements are not accepted in a SortedArrayList
             return false;
         }
-        if (size >= arr.length - 1) {
-            ensureCapacity(size + 10);
-        }
-        boolean found = false;
-        int index = size;
-        int i = 0;
-        while (!found && i != size) {
-            if (element.compareTo(arr[i]) < 0) {
-                index = i;
-                found = true;
-            } else {
-                i++;
-            }
-        }
-        for (int j = size - 1; j >= index; j--) {
-            arr[j + 1] = arr[j];
+        if (size == arr.length) {
+            grow(size + 1);
         }
+        // equal elements are kept in the order they were added
+        int index = upperBound(element);
+        System.arraycopy(arr, index, arr, index + 1, size - index);
         arr[index] = element;
         size++;
         return true;
@@ -122,7 +129,14 @@ public class SortedArrayList<E extends Comparable<E>>
     }
 
     /**
-     * Appends a {@code Collection} of elements to the end of the {@code List}.
+     * Inserts a {@code Collection} of elements to the appropriate positions of
+     * the {@code SortedArrayList}.
+     *
+     * <p> Rather than inserting the elements one by one, which shifts the
+     * array once per element, the elements are sorted and then merged with
+     * the array in a single pass from its end. Runtime Complexity:
+     * {@code O(n + m log m)}, where {@code m} is the number of elements added.
+     * As with {@link #add(Comparable)}, {@code null} elements are ignored.
      *
      * @param c a {@code Collection} containing the elements to be added
      * @throws NullPointerException if the {@code Collection} of objects
@@ -135,9 +149,32 @@ public class SortedArrayList<E extends Comparable<E>>
         if (c == null) {
             throw new NullPointerException("Collection is null");
         }
-        for (E e : c) {
-            this.add(e);
+        Object[] elements = c.toArray();
+        int n = 0;
+        for (Object e : elements) {
+            if (e != null) {
+                elements[n++] = e;
+            }
+        }
+        if (n == 0) {
+            return;
         }
+        Arrays.sort(elements, 0, n);
+        if (size + n > arr.length) {
+            grow(size + n);
+        }
+        int i = size - 1;
+        int j = n - 1;
+        int k = size + n - 1;
+        // existing elements stay before the equal elements being added
+        while (j >= 0) {
+            if (i >= 0 && arr[i].compareTo((E) elements[j]) > 0) {
+                arr[k--] = arr[i--];
+            } else {
+                arr[k--] = (E) elements[j--];
+            }
+        }
+        size += n;
     }
 
     /**
@@ -177,6 +214,43 @@ public class SortedArrayList<E extends Comparable<E>>
         return e;
     }
 
+    /**
+     * Retrieves the index of the {@code n}th occurrence of {@code element}
+     * within the {@code ArrayList}. If there is less than {@code n} occurrences
+     * of the specified element, then this method will return {@code -1}.
+     * Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @param n       the number of element occurrences before returning the
+     *                index
+     * @return the index of the {@code n}th occurrence of
+     * {@code element}
+     * @since 1.1
+     */
+    @Override
+    public int getNthOccurrenceIndex(E element, int n) {
+        if (element == null || n <= 0) {
+            return -1;
+        }
+        int index = lowerBound(element) + n - 1;
+        return index < upperBound(element) ? index : -1;
+    }
+
+    /**
+     * Retrieves the number of times {@code element} occurs in the
+     * {@code ArrayList}. If the element does not exist, then this method
+     * will return {@code 0}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the number of times {@code element} occurs in the
+     * {@code ArrayList}
+     * @since 1.1
+     */
+    @Override
+    public int getOccurrences(E element) {
+        return element == null ? 0 : rangeCount(element, element);
+    }
+
     /**
      * Indicates whether {@code element} exists within the {@code ArrayList}.
      *
@@ -190,45 +264,485 @@ public class SortedArrayList<E extends Comparable<E>>
         return fastIndexOf(element) != -1;
     }
 
+    /**
+     * Retrieves the index of the first occurrence of {@code element} in
+     * the {@code ArrayList}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first occurrence of {@code element}
+     * @since 1.1
+     */
+    @Override
+    public int indexOf(E element) {
+        return fastIndexOf(element);
+    }
+
+    /**
+     * Retrieves the index of the last occurrence of {@code element} in the
+     * {@code ArrayList}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the last occurrence of {@code element}
+     * @since 1.1
+     */
+    @Override
+    public int lastIndexOf(E element) {
+        if (element == null) {
+            return -1;
+        }
+        int index = upperBound(element) - 1;
+        return index >= 0 && arr[index].compareTo(element) == 0 ? index : -1;
+    }
+
     /**
      * Retrieves the index of {@code element} in the {@code ArrayList}.
      *
      * <p> If duplicate elements exist, then this method will return the index
-     * of any of the occurrences of element. The point of this method is to
-     * be a more efficient alternative to {@link #indexOf(Comparable)} for the
-     * {@link #contains(Comparable)} method by using the binary search
-     * implementation.
+     * of the first occurrence of the element. The point of this method is to
+     * be a more efficient alternative to a linear search by using the binary
+     * search implementation. Runtime Complexity: {@code O(log n)}.
      *
      * @param element the element to be searched for
-     * @return the index of any occurrence of {@code element}
+     * @return the index of the first occurrence of {@code element}, or
+     * {@code -1} if it does not exist
      * @since 1.1
      */
     public int fastIndexOf(E element) {
-        return binarySearch(element, 0, size);
+        if (element == null) {
+            return -1;
+        }
+        int index = lowerBound(element);
+        return index < size && arr[index].compareTo(element) == 0 ? index : -1;
+    }
+
+    /**
+     * Retrieves the index of the first element that is not less than
+     * {@code element}, i.e., the first position {@code element} could be
+     * inserted at without breaking the order of the {@code ArrayList}. If
+     * every element is less than {@code element}, then this method will
+     * return {@link #size()}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first element not less than {@code element}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 1.1
+     */
+    public int lowerBound(E element) {
+        if (element == null) {
+            throw new NullPointerException("element is null");
+        }
+        return lowerBound(element, 0, size);
+    }
+
+    /**
+     * Retrieves the index of the first element that is greater than
+     * {@code element}, i.e., the last position {@code element} could be
+     * inserted at without breaking the order of the {@code ArrayList}. If no
+     * element is greater than {@code element}, then this method will return
+     * {@link #size()}. Runtime Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the index of the first element greater than {@code element}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 1.1
+     */
+    public int upperBound(E element) {
+        if (element == null) {
+            throw new NullPointerException("element is null");
+        }
+        return upperBound(element, 0, size);
+    }
+
+    /**
+     * Retrieves the number of elements between {@code from}, inclusive, and
+     * {@code to}, inclusive. If {@code from} is greater than {@code to}, then
+     * this method will return {@code 0}. Runtime Complexity:
+     * {@code O(log n)}.
+     *
+     * @param from the lowest element to be counted
+     * @param to   the highest element to be counted
+     * @return the number of elements within the range
+     * @throws NullPointerException if {@code from} or {@code to} is
+     *                              {@code null}
+     * @since 1.1
+     */
+    public int rangeCount(E from, E to) {
+        return Math.max(0, upperBound(to) - lowerBound(from));
+    }
+
+    /**
+     * Retrieves the greatest element that is less than or equal to
+     * {@code element}, or {@code null} if there is no such element. Runtime
+     * Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the greatest element not greater than {@code element}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 1.1
+     */
+    public E floor(E element) {
+        int index = upperBound(element) - 1;
+        return index >= 0 ? arr[index] : null;
     }
 
     /**
-     * This private recursive helper method is an implementation of the
-     * binary search algorithm to help search for elements more efficiently in
-     * a sorted array. Runtime Complexity: {@code O(log n)}.
+     * Retrieves the least element that is greater than or equal to
+     * {@code element}, or {@code null} if there is no such element. Runtime
+     * Complexity: {@code O(log n)}.
+     *
+     * @param element the element to be searched for
+     * @return the least element not less than {@code element}
+     * @throws NullPointerException if {@code element} is {@code null}
+     * @since 1.1
+     */
+    public E ceiling(E element) {
+        int index = lowerBound(element);
+        return index < size ? arr[index] : null;
+    }
+
+    /**
+     * Returns a read-only view of the elements between {@code from},
+     * inclusive, and {@code to}, inclusive. If {@code from} is greater than
+     * {@code to}, then the view is empty.
+     *
+     * <p> The view does not copy any element. It is backed by the array of
+     * the {@code SortedArrayList}, between the offsets found by binary search
+     * when it was created, so creating it takes {@code O(log n)} time. The
+     * bounds of the view are fixed, so it is only valid until the
+     * {@code SortedArrayList} is next modified.
+     *
+     * @param from the lowest element of the view
+     * @param to   the highest element of the view
+     * @return a read-only {@code List} view of the range
+     * @throws NullPointerException if {@code from} or {@code to} is
+     *                              {@code null}
+     * @see #view()
+     * @since 1.1
+     */
+    public List<E> subRange(E from, E to) {
+        int low = lowerBound(from);
+        return new RangeView(low, Math.max(low, upperBound(to)));
+    }
+
+    /**
+     * Returns a read-only view of the elements less than or equal to
+     * {@code to}. The view follows the same rules as the one returned by
+     * {@link #subRange(Comparable, Comparable)}.
+     *
+     * @param to the highest element of the view
+     * @return a read-only {@code List} view of the range
+     * @throws NullPointerException if {@code to} is {@code null}
+     * @since 1.1
+     */
+    public List<E> headRange(E to) {
+        return new RangeView(0, upperBound(to));
+    }
+
+    /**
+     * Returns a read-only view of the elements greater than or equal to
+     * {@code from}. The view follows the same rules as the one returned by
+     * {@link #subRange(Comparable, Comparable)}.
+     *
+     * @param from the lowest element of the view
+     * @return a read-only {@code List} view of the range
+     * @throws NullPointerException if {@code from} is {@code null}
+     * @since 1.1
+     */
+    public List<E> tailRange(E from) {
+        return new RangeView(lowerBound(from), size);
+    }
+
+    /**
+     * Returns a read-only view of every element of the
+     * {@code SortedArrayList}. The view follows the same rules as the one
+     * returned by {@link #subRange(Comparable, Comparable)}.
+     *
+     * @return a read-only {@code List} view of the whole list
+     * @since 1.1
+     */
+    public List<E> view() {
+        return new RangeView(0, size);
+    }
+
+    /**
+     * A private helper method to find the index of the first element between
+     * {@code low}, inclusive, and {@code high}, exclusive, that is not less
+     * than {@code element}.
      *
      * @param element the element to be searched for
      * @param low     the beginning index of a section of the array
      * @param high    the end index of a section of the array
-     * @return the index of {@code element}
+     * @return the index of the first element not less than {@code element},
+     * or {@code high} if there is none
      */
-    private int binarySearch(E element, int low, int high) {
-        if (low > high) {
-            return -1;
-        } else {
-            int mid = low + high / 2;
-            if (element.compareTo(arr[mid]) < 0) {
-                return binarySearch(element, low, mid - 1);
-            } else if (element.compareTo(arr[mid]) > 0) {
-                return binarySearch(element, mid + 1, high);
+    private int lowerBound(E element, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid].compareTo(element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A private helper method to find the index of the first element between
+     * {@code low}, inclusive, and {@code high}, exclusive, that is greater
+     * than {@code element}.
+     *
+     * @param element the element to be searched for
+     * @param low     the beginning index of a section of the array
+     * @param high    the end index of a section of the array
+     * @return the index of the first element greater than {@code element},
+     * or {@code high} if there is none
+     */
+    private int upperBound(E element, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (arr[mid].compareTo(element) <= 0) {
+                low = mid + 1;
             } else {
-                return mid;
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * This private inner class provides a read-only {@code List} view of a
+     * section of the array of the {@code SortedArrayList}, between the
+     * indices {@link #from}, inclusive, and {@code from + size}, exclusive.
+     * Searches within the view use binary search over that section only.
+     *
+     * @see #subRange(Comparable, Comparable)
+     */
+    private class RangeView extends AbstractList<E> {
+
+        /**
+         * The index of the first element of the view in the array.
+         */
+        private final int from;
+
+        /**
+         * Constructor. Initializes the view of the elements between
+         * {@code from}, inclusive, and {@code to}, exclusive.
+         *
+         * @param from the index of the first element of the view
+         * @param to   the index after the last element of the view
+         */
+        public RangeView(int from, int to) {
+            this.from = from;
+            this.size = to - from;
+        }
+
+        /**
+         * Not supported, since the view is read-only.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public boolean add(int index, E element) {
+            throw new UnsupportedOperationException("view is read-only");
+        }
+
+        /**
+         * Not supported, since the view is read-only.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public void addAll(int index, Collection<? extends E> c) {
+            throw new UnsupportedOperationException("view is read-only");
+        }
+
+        /**
+         * Not supported, since the view is read-only.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public E remove(int index) {
+            throw new UnsupportedOperationException("view is read-only");
+        }
+
+        /**
+         * Not supported, since the view is read-only.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public E[] removeRange(int from, int to) {
+            throw new UnsupportedOperationException("view is read-only");
+        }
+
+        /**
+         * Not supported, since the view is read-only.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public E set(int index, E newElement) {
+            throw new UnsupportedOperationException("view is read-only");
+        }
+
+        /**
+         * Not supported, since the view is read-only.
+         *
+         * @throws UnsupportedOperationException always
+         */
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException("view is read-only");
+        }
+
+        /**
+         * Retrieves the element at the position specified by {@code index},
+         * relative to the beginning of the view.
+         *
+         * @param index the index position of the element to be retrieved
+         * @return the element stored at the specified position
+         * @throws IndexOutOfBoundsException if an invalid {@code index} has
+         *                                   been specified
+         */
+        @Override
+        public E get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Invalid index");
+            }
+            return arr[from + index];
+        }
+
+        /**
+         * Retrieves the {@code n}th occurrence of {@code element} within the
+         * view, or {@code null} if there is less than {@code n} occurrences.
+         *
+         * @param element the element to be searched for
+         * @param n       the number of element occurrences before returning
+         * @return the {@code n}th occurrence of {@code element}
+         */
+        @Override
+        public E getNthOccurrence(E element, int n) {
+            int index = getNthOccurrenceIndex(element, n);
+            return index == -1 ? null : arr[from + index];
+        }
+
+        /**
+         * Retrieves the index of the {@code n}th occurrence of
+         * {@code element} within the view, or {@code -1} if there is less than
+         * {@code n} occurrences.
+         *
+         * @param element the element to be searched for
+         * @param n       the number of element occurrences before returning
+         *                the index
+         * @return the index of the {@code n}th occurrence of {@code element}
+         */
+        @Override
+        public int getNthOccurrenceIndex(E element, int n) {
+            if (element == null || n <= 0) {
+                return -1;
+            }
+            int index = lowerBound(element, from, from + size) + n - 1;
+            return index < upperBound(element, from, from + size) ?
+                    index - from : -1;
+        }
+
+        /**
+         * Retrieves the number of times {@code element} occurs in the view.
+         *
+         * @param element the element to be searched for
+         * @return the number of times {@code element} occurs in the view
+         */
+        @Override
+        public int getOccurrences(E element) {
+            if (element == null) {
+                return 0;
+            }
+            return upperBound(element, from, from + size) -
+                    lowerBound(element, from, from + size);
+        }
+
+        /**
+         * Retrieves the index of the first occurrence of {@code element} in
+         * the view.
+         *
+         * @param element the element to be searched for
+         * @return the index of the first occurrence of {@code element}
+         */
+        @Override
+        public int indexOf(E element) {
+            return getNthOccurrenceIndex(element, 1);
+        }
+
+        /**
+         * Retrieves the index of the last occurrence of {@code element} in
+         * the view.
+         *
+         * @param element the element to be searched for
+         * @return the index of the last occurrence of {@code element}
+         */
+        @Override
+        public int lastIndexOf(E element) {
+            if (element == null) {
+                return -1;
+            }
+            int index = upperBound(element, from, from + size) - 1;
+            return index >= from && arr[index].compareTo(element) == 0 ?
+                    index - from : -1;
+        }
+
+        /**
+         * Returns an array containing the elements of the view in the order
+         * they are stored, or {@code null} if the view is empty.
+         *
+         * @return an array containing all the elements of the view
+         */
+        @Override
+        public E[] toArray() {
+            return size == 0 ? null : Arrays.copyOfRange(arr, from,
+                    from + size);
+        }
+
+        /**
+         * Returns an iterator over the elements of the view. The iterator
+         * does not support the {@link Iterator#remove()} method.
+         *
+         * @return an {@code Iterator}
+         */
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int index = from;
+
+                @Override
+                public boolean hasNext() {
+                    return index < from + size;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException("no more elements");
+                    }
+                    return arr[index++];
+                }
+            };
+        }
+
+        /**
+         * Provides a {@code String} representation of the view, using the
+         * same format as the {@code SortedArrayList}.
+         *
+         * @return a {@code String} consisting of all the elements of the view
+         */
+        @Override
+        public String toString() {
+            StringBuilder str = new StringBuilder("[");
+            for (int i = from; i < from + size; i++) {
+                str.append(i == from ? "" : " ").append(arr[i]);
             }
+            return str.append("]").toString();
         }
     }
 
@@ -6,28 +6,32 @@ import java.util.Objects;
 /**
  * This class is an implementation of the {@link Queue} interface.
  *
- * <p> The {code ArrayQueue} class uses an array to represent a queue. It relies
- * on an arbitrary pointer that shows the index position of where the element
- * should be inserted. This is so the array can be used circularly and the
- * capacity of the array can be maximized. Here is how the pointer is used when
- * enqueueing an element with an array called {@code queue}:
- * <blockquote>{@code queue[(pointer + size) % queue.length] = e}</blockquote>
+ * <p> The {@code ArrayQueue} class uses an array to represent a queue. It
+ * relies on an arbitrary pointer that shows the index position of the head of
+ * the queue, so that the array can be used circularly. The capacity of the
+ * array is always a power of two, so that indices wrap around with a bitmask
+ * rather than a division. Here is how the pointer is used when enqueueing an
+ * element with an array called {@code queue}:
+ * <blockquote>{@code queue[(pointer + size) & (queue.length - 1)] = e}
+ * </blockquote>
  * The first part of the index ensures that the tail of the queue is reached
- * by performing {@code pointer + size}. This may result in indices  that go
- * over the constraints of the array. However, it is prevented by {@code %
- * queue.length}. Since elements are always dequeued from the head, there will
- * always be space at the front of the array, unless the array reaches full
- * capacity. Since the pointer always points to the head of the queue, then
- * the position of the element to be dequeued or retrieved is always known.
+ * by performing {@code pointer + size}. This may result in indices that go
+ * over the constraints of the array, which is prevented by the mask. Since the
+ * pointer always points to the head of the queue, then the position of the
+ * element to be dequeued or retrieved is always known.
  *
- * <p> All methods run {@code O(1)} time, similar to the time complexity of
- * updating an array. Therefore, all methods run in {@code O(1)} time, with the
- * exception of the {@link #contains(Object)} method, which depends on the
- * position of the element to be searched.
+ * <p> Once the array is full, it is replaced by one of twice the capacity,
+ * copying the elements from the head to the end of the old array, followed by
+ * the elements that wrapped around to its beginning. Optionally, the array is
+ * halved again once the queue drops to a quarter of its capacity, but never
+ * below the capacity it was created with. The gap between the two thresholds
+ * keeps a queue whose size moves around a power of two from resizing on every
+ * operation.
  *
- * <p> An array-based representation limits the capacity of elements that can be
- * added to the stack. In the current implementation, the capacity of the array
- * is set to {@code 1000}.
+ * <p> Enqueueing runs in amortized {@code O(1)} time, and all other methods
+ * run in {@code O(1)} time, with the exception of the
+ * {@link #contains(Object)} method, which depends on the position of the
+ * element to be searched.
  *
  * @author Samuel Adrian Kosasih
  *
@@ -40,9 +44,15 @@ import java.util.Objects;
 public class ArrayQueue<E> implements Queue<E> {
 
     /**
-     * The default maximum capacity the array can handle.
+     * The default initial capacity of the array.
      */
-    private final int MAXIMUM_CAPACITY = 1000;
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The largest capacity the array can grow to, which is the largest power
+     * of two an array can have.
+     */
+    public static final int MAXIMUM_CAPACITY = 1 << 30;
 
     /**
      * An array used to represent the queue.
@@ -55,35 +65,65 @@ public class ArrayQueue<E> implements Queue<E> {
     private int size;
 
     /**
-     * An arbitrary pointer to keep a reference of where the next element
-     * should be inserted.
+     * An arbitrary pointer to keep a reference of the head of the queue.
      */
     private int pointer;
 
     /**
-     * Default Constructor. Initializes the array to be used as the queue.
+     * The capacity the array was created with, below which it never shrinks.
+     */
+    private final int initialCapacity;
+
+    /**
+     * An indicator whether the array shrinks once the queue drops to a
+     * quarter of its capacity.
+     */
+    private final boolean shrink;
+
+    /**
+     * Default Constructor. Initializes the array to be used as the queue with
+     * a capacity of {@code 16}.
      */
     public ArrayQueue() {
-        queue = (E[]) new Object[MAXIMUM_CAPACITY];
-        size = 0;
-        pointer = 0;
+        this(DEFAULT_CAPACITY);
     }
 
     /**
      * Constructor. Initializes the array to be used as the queue with the
-     * specified capacity.
+     * specified capacity, rounded up to a power of two.
      *
      * <p> If {@code capacity} is less than {@code 1}, then the array
-     * initialized will be set to its default capacity, {@code 1000}.
+     * initialized will be set to its default capacity, {@code 16}.
      *
      * @param capacity the capacity of the array when initialized
      */
     public ArrayQueue(int capacity) {
-        if (capacity < 1) {
-            queue = (E[]) new Object[MAXIMUM_CAPACITY];
-        } else {
-            queue = (E[]) new Object[capacity];
+        this(capacity, false);
+    }
+
+    /**
+     * Constructor. Initializes the array to be used as the queue with the
+     * specified capacity, rounded up to a power of two, and indicates whether
+     * the array shrinks back as the queue empties.
+     *
+     * <p> If {@code capacity} is less than {@code 1}, then the array
+     * initialized will be set to its default capacity, {@code 16}.
+     *
+     * @param capacity the capacity of the array when initialized
+     * @param shrink   {@code true} if the array should be halved once the
+     *                 queue drops to a quarter of its capacity
+     * @throws IllegalArgumentException if {@code capacity} is greater than
+     *                                  {@link #MAXIMUM_CAPACITY}
+     * @since 1.1
+     */
+    public ArrayQueue(int capacity, boolean shrink) {
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("capacity is too large");
         }
+        initialCapacity = capacity < 1 ? DEFAULT_CAPACITY :
+                powerOfTwo(capacity);
+        this.shrink = shrink;
+        queue = (E[]) new Object[initialCapacity];
         size = 0;
         pointer = 0;
     }
@@ -93,16 +133,15 @@ public class ArrayQueue<E> implements Queue<E> {
      *
      * @param e the element to tbe inserted
      * @return {@code true} if the element is enqueued
-     * @throws IllegalStateException if the capacity of the array is fulfilled
+     * @throws IllegalStateException if the array cannot grow past
+     *                               {@link #MAXIMUM_CAPACITY}
      * @since 1.1
      */
     @Override
     public boolean add(E e) {
-        if (size == queue.length) {
+        if (!offer(e)) {
             throw new IllegalStateException("queue is full");
         }
-        queue[(pointer + size) % queue.length] = e;
-        size++;
         return true;
     }
 
@@ -110,15 +149,19 @@ public class ArrayQueue<E> implements Queue<E> {
      * Inserts the specified element {@code e} into the {@code Queue}.
      *
      * @param e the element to tbe inserted
-     * @return {@code true} if the element is enqueued
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the array cannot grow past {@link #MAXIMUM_CAPACITY}
      * @since 1.1
      */
     @Override
     public boolean offer(E e) {
         if (size == queue.length) {
-            return false;
+            if (queue.length == MAXIMUM_CAPACITY) {
+                return false;
+            }
+            resize(queue.length << 1);
         }
-        queue[(pointer + size) % queue.length] = e;
+        queue[(pointer + size) & (queue.length - 1)] = e;
         size++;
         return true;
     }
@@ -137,11 +180,7 @@ public class ArrayQueue<E> implements Queue<E> {
         if (isEmpty()) {
             throw new NoSuchElementException("queue is empty");
         }
-        E e = queue[pointer];
-        queue[pointer] = null;
-        pointer = (pointer + 1) % queue.length;
-        size--;
-        return e;
+        return poll();
     }
 
     /**
@@ -159,8 +198,12 @@ public class ArrayQueue<E> implements Queue<E> {
         }
         E e = queue[pointer];
         queue[pointer] = null;
-        pointer = (pointer + 1) % queue.length;
+        pointer = (pointer + 1) & (queue.length - 1);
         size--;
+        if (shrink && size < queue.length >> 2
+                && queue.length > initialCapacity) {
+            resize(queue.length >> 1);
+        }
         return e;
     }
 
@@ -227,7 +270,7 @@ public class ArrayQueue<E> implements Queue<E> {
      */
     @Override
     public void clear() {
-        int capacity = queue.length;
+        int capacity = shrink ? initialCapacity : queue.length;
         queue = (E[]) new Object[capacity];
         size = 0;
         pointer = 0;
@@ -241,11 +284,50 @@ public class ArrayQueue<E> implements Queue<E> {
      */
     @Override
     public boolean contains(E e) {
-        for (int i = pointer; i < size - pointer; i++) {
-            if (Objects.equals(e, queue[i])) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(e, queue[(pointer + i) & (queue.length - 1)])) {
                 return true;
             }
         }
         return false;
     }
+
+    /**
+     * Retrieves the capacity of the array currently being used by the queue.
+     *
+     * @return the length of the array
+     * @since 1.1
+     */
+    public int capacity() {
+        return queue.length;
+    }
+
+    /**
+     * A private helper method to round {@code capacity} up to a power of two.
+     *
+     * @param capacity a positive capacity
+     * @return the smallest power of two no less than {@code capacity}
+     */
+    private static int powerOfTwo(int capacity) {
+        int n = Integer.highestOneBit(capacity);
+        return n == capacity ? n : n << 1;
+    }
+
+    /**
+     * A private helper method to replace the array with one of
+     * {@code capacity} elements, copying the elements from the head to the
+     * end of the old array, followed by the elements that wrapped around to
+     * its beginning.
+     *
+     * @param capacity the capacity of the new array, a power of two no less
+     *                 than {@link #size}
+     */
+    private void resize(int capacity) {
+        E[] newQueue = (E[]) new Object[capacity];
+        int first = Math.min(size, queue.length - pointer);
+        System.arraycopy(queue, pointer, newQueue, 0, first);
+        System.arraycopy(queue, 0, newQueue, first, size - first);
+        queue = newQueue;
+        pointer = 0;
+    }
 }
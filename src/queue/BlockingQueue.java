@@ -0,0 +1,156 @@
+package queue;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This interface extends the {@link Queue} interface with operations that
+ * wait for the {@code Queue} to become non-empty when retrieving an element,
+ * or for space to become available when inserting an element, along with
+ * operations moving many elements at once.
+ *
+ * <p> On top of the methods of a {@code Queue}, which never wait, there are
+ * two more versions of the insertion and removal methods: one that waits for
+ * as long as it takes, and one that gives up after a timeout. The following
+ * is a summary of them. {@link java.util.concurrent.BlockingQueue}
+ * <table class="striped">
+ *  <thead>
+ *  <tr>
+ *    <td></td>
+ *    <th scope="col" style="font-weight:normal;">Blocks</th>
+ *    <th scope="col" style="font-weight:normal;">Times out</th>
+ *    <th scope="col" style="font-weight:normal;">Batch</th>
+ *  </tr>
+ *  </thead>
+ *  <tbody>
+ *  <tr>
+ *    <th scope="row">Insert</th>
+ *    <td>{@link #put(Object) put(e)}</td>
+ *    <td>{@link #offer(Object, long, TimeUnit) offer(e, time, unit)}</td>
+ *    <td>{@link #offerAll(Collection) offerAll(c)}</td>
+ *  </tr>
+ *  <tr>
+ *    <th scope="row">Remove</th>
+ *    <td>{@link #take() take()}</td>
+ *    <td>{@link #poll(long, TimeUnit) poll(time, unit)}</td>
+ *    <td>{@link #drainTo(Collection, int) drainTo(c, max)}</td>
+ *  </tr>
+ *  </tbody>
+ * </table>
+ *
+ * <p> The batch methods never wait, and move as many elements as they can in
+ * a single step, so that a consumer woken up by a single element can take
+ * every other element that arrived in the meantime at once.
+ *
+ * <p> Since {@link #poll()} returns {@code null} when the queue is empty,
+ * {@code null} elements are not accepted.
+ *
+ * @author Samuel Adrian Kosasih
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Queue} would store.
+ *
+ * @version 1.1
+ * @see Queue
+ */
+public interface BlockingQueue<E> extends Queue<E> {
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, waiting
+     * for space to become available if it is full.
+     *
+     * @param e the element to tbe inserted
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    void put(E e) throws InterruptedException;
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, waiting
+     * up to the specified time for space to become available if it is full.
+     *
+     * @param e       the element to tbe inserted
+     * @param timeout how long to wait before giving up, in units of
+     *                {@code unit}
+     * @param unit    the unit of {@code timeout}
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the time elapsed before space became available
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    boolean offer(E e, long timeout, TimeUnit unit)
+            throws InterruptedException;
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed, waiting for an element to become available if it
+     * is empty.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws InterruptedException if interrupted while waiting
+     * @since 1.1
+     */
+    E take() throws InterruptedException;
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed, waiting up to the specified time for an element
+     * to become available if it is empty.
+     *
+     * @param timeout how long to wait before giving up, in units of
+     *                {@code unit}
+     * @param unit    the unit of {@code timeout}
+     * @return the value of the element that was just dequeued, or
+     * {@code null} if the time elapsed before an element became available
+     * @throws InterruptedException if interrupted while waiting
+     * @since 1.1
+     */
+    E poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Inserts as many elements of {@code c} as there is space for into the
+     * {@code Queue} at once, in the order returned by the iterator of
+     * {@code c}.
+     *
+     * @param c the elements to be inserted
+     * @return the number of elements enqueued
+     * @throws NullPointerException if {@code c} contains a {@code null}
+     *                              element, in which case no element is
+     *                              enqueued
+     * @since 1.1
+     */
+    int offerAll(Collection<? extends E> c);
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the
+     * {@code Queue} at once, adding them to {@code c} in the order they were
+     * dequeued.
+     *
+     * @param c           the collection to add the elements to
+     * @param maxElements the maximum number of elements to be dequeued
+     * @return the number of elements dequeued
+     * @since 1.1
+     */
+    int drainTo(Collection<? super E> c, int maxElements);
+
+    /**
+     * Removes every element from the {@code Queue} at once, adding them to
+     * {@code c} in the order they were dequeued.
+     *
+     * @param c the collection to add the elements to
+     * @return the number of elements dequeued
+     * @since 1.1
+     */
+    int drainTo(Collection<? super E> c);
+
+    /**
+     * Returns the number of elements that can be inserted into the
+     * {@code Queue} without waiting.
+     *
+     * @return the remaining capacity of the {@code Queue}
+     * @since 1.1
+     */
+    int remainingCapacity();
+}
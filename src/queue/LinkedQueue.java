@@ -1,23 +1,29 @@
 package queue;
 
-import list.linkedlist.DoublyLinkedList;
-
+import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 /**
  * This class is an implementation of the {@link Queue} interface.
  *
- * <p> The {code LinkedQueue} class uses a {@link DoublyLinkedList} to represent
- * a queue. Every time an element is enqueued in the queue, the element will be
- * added to the {@link DoublyLinkedList#tail tail} of the list, in other words
- * the back of the queue. Meanwhile, to dequeue an element, the element will be
- * removed from the {@link DoublyLinkedList#head head} of the list, in other
- * words the front of the queue.
+ * <p> The {@code LinkedQueue} class uses a linked list of chunks to represent
+ * a queue, where every chunk is an array of {@link #CHUNK_SIZE} elements. The
+ * queue keeps direct references to the chunk at its head and the chunk at its
+ * tail, along with the index of the head and tail within them. Enqueueing an
+ * element stores it at the tail, and only links a new chunk once the tail
+ * chunk is full. Dequeueing an element takes it from the head, and unlinks
+ * the head chunk once every element in it has been dequeued.
+ *
+ * <p> Compared to a node per element, chunks allocate one object per
+ * {@link #CHUNK_SIZE} elements, and keep neighbouring elements next to each
+ * other in memory. The last chunk unlinked is kept aside and reused by the
+ * next chunk the tail needs, so that a queue whose size stays steady stops
+ * allocating altogether.
  *
- * <p> All methods run in the time complexity equivalent to the
- * {@link DoublyLinkedList} class. This is because the queue is based on both
- * the head and tail of the list, in which the {@link DoublyLinkedList} supports
- * as the beginning of iterations.
+ * <p> All methods run in {@code O(1)} time, with the exception of the
+ * {@link #contains(Object)} method, which depends on the position of the
+ * element to be searched.
  *
  * @author Samuel Adrian Kosasih
  *
@@ -25,20 +31,55 @@ import java.util.NoSuchElementException;
  *            {@code Queue} would store.
  * @version 1.1
  * @see Queue
- * @see DoublyLinkedList
  */
+@SuppressWarnings({"unchecked"})
 public class LinkedQueue<E> implements Queue<E> {
 
     /**
-     * The reference to the queue
+     * The number of elements stored in each chunk.
+     */
+    public static final int CHUNK_SIZE = 64;
+
+    /**
+     * The chunk holding the head of the queue
+     */
+    private Chunk<E> head;
+
+    /**
+     * The index of the head of the queue within the {@link #head} chunk
+     */
+    private int headIndex;
+
+    /**
+     * The chunk holding the tail of the queue
+     */
+    private Chunk<E> tail;
+
+    /**
+     * The index after the tail of the queue within the {@link #tail} chunk
+     */
+    private int tailIndex;
+
+    /**
+     * The number of elements currently stored in the queue
+     */
+    private int size;
+
+    /**
+     * An empty chunk kept aside to be reused, or {@code null} if there is
+     * none
      */
-    private final DoublyLinkedList<E> queue;
+    private Chunk<E> spare;
 
     /**
      * Default Constructor. Initializes the queue being used in this object.
      */
     public LinkedQueue() {
-        queue = new DoublyLinkedList<>();
+        head = new Chunk<>();
+        tail = head;
+        headIndex = 0;
+        tailIndex = 0;
+        size = 0;
     }
 
     /**
@@ -50,7 +91,7 @@ public class LinkedQueue<E> implements Queue<E> {
      */
     @Override
     public boolean add(E e) {
-        return queue.addLast(e);
+        return offer(e);
     }
 
     /**
@@ -62,7 +103,16 @@ public class LinkedQueue<E> implements Queue<E> {
      */
     @Override
     public boolean offer(E e) {
-        return queue.addLast(e);
+        if (tailIndex == CHUNK_SIZE) {
+            Chunk<E> chunk = spare != null ? spare : new Chunk<>();
+            spare = null;
+            tail.next = chunk;
+            tail = chunk;
+            tailIndex = 0;
+        }
+        tail.elements[tailIndex++] = e;
+        size++;
+        return true;
     }
 
     /**
@@ -79,7 +129,7 @@ public class LinkedQueue<E> implements Queue<E> {
         if (isEmpty()) {
             throw new NoSuchElementException("queue is empty");
         }
-        return queue.removeFirst();
+        return poll();
     }
 
     /**
@@ -95,7 +145,20 @@ public class LinkedQueue<E> implements Queue<E> {
         if (isEmpty()) {
             return null;
         }
-        return queue.removeFirst();
+        E e = (E) head.elements[headIndex];
+        head.elements[headIndex++] = null;
+        size--;
+        if (size == 0) {
+            // the head and tail are in the same chunk, which is reused
+            headIndex = 0;
+            tailIndex = 0;
+        } else if (headIndex == CHUNK_SIZE) {
+            spare = head;
+            head = head.next;
+            spare.next = null;
+            headIndex = 0;
+        }
+        return e;
     }
 
     /**
@@ -112,7 +175,7 @@ public class LinkedQueue<E> implements Queue<E> {
         if (isEmpty()) {
             throw new NoSuchElementException("queue is empty");
         }
-        return queue.head();
+        return (E) head.elements[headIndex];
     }
 
     /**
@@ -128,7 +191,7 @@ public class LinkedQueue<E> implements Queue<E> {
         if (isEmpty()) {
             return null;
         }
-        return queue.head();
+        return (E) head.elements[headIndex];
     }
 
     /**
@@ -139,7 +202,7 @@ public class LinkedQueue<E> implements Queue<E> {
      */
     @Override
     public boolean isEmpty() {
-        return queue.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -150,7 +213,7 @@ public class LinkedQueue<E> implements Queue<E> {
      */
     @Override
     public int size() {
-        return queue.size();
+        return size;
     }
 
     /**
@@ -161,7 +224,12 @@ public class LinkedQueue<E> implements Queue<E> {
      */
     @Override
     public void clear() {
-        queue.clear();
+        head.next = null;
+        Arrays.fill(head.elements, null);
+        tail = head;
+        headIndex = 0;
+        tailIndex = 0;
+        size = 0;
     }
 
     /**
@@ -172,7 +240,37 @@ public class LinkedQueue<E> implements Queue<E> {
      */
     @Override
     public boolean contains(E e) {
-        return queue.contains(e);
+        Chunk<E> chunk = head;
+        int index = headIndex;
+        for (int i = 0; i < size; i++) {
+            if (index == CHUNK_SIZE) {
+                chunk = chunk.next;
+                index = 0;
+            }
+            if (Objects.equals(e, chunk.elements[index++])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This private static inner class is a chunk of the queue, holding up to
+     * {@link #CHUNK_SIZE} elements in the order they were enqueued.
+     *
+     * @param <E> the type of elements in the queue
+     */
+    private static final class Chunk<E> {
+
+        /**
+         * The elements stored in the chunk
+         */
+        private final Object[] elements = new Object[CHUNK_SIZE];
+
+        /**
+         * The chunk after this one, or {@code null} if this is the tail
+         */
+        private Chunk<E> next;
     }
 
 }
@@ -0,0 +1,512 @@
+package queue;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class is an implementation of the {@link BlockingQueue} interface,
+ * which makes any {@link Queue}, such as an {@link ArrayQueue} or a
+ * {@link LinkedQueue}, safe to be shared between threads.
+ *
+ * <p> The {@code LockedQueue} class guards every access to the underlying
+ * queue with a single {@link ReentrantLock}, and bounds it to a capacity. The
+ * queue is also considered full whenever the underlying queue refuses an
+ * element, so wrapping a bounded queue such as an {@link SpscArrayQueue}
+ * blocks producers at its own capacity. A
+ * thread waiting for the queue to become non-empty waits on one
+ * {@link Condition} of the lock, while a thread waiting for space waits on
+ * another, so that inserting an element only wakes up a consumer, and
+ * removing an element only wakes up a producer.
+ *
+ * <p> The batch methods {@link #offerAll(Collection)} and
+ * {@link #drainTo(Collection, int)} move all of their elements under a single
+ * acquisition of the lock, and signal the waiting threads once for the whole
+ * batch.
+ *
+ * <p> Once wrapped, the underlying queue should only be accessed through the
+ * {@code LockedQueue}. Since {@link #poll()} returns {@code null} when the
+ * queue is empty, {@code null} elements are not accepted.
+ *
+ * @author Samuel Adrian Kosasih
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Queue} would store.
+ * @version 1.1
+ * @see BlockingQueue
+ */
+public class LockedQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * The underlying queue, only accessed while holding the {@link #lock}.
+     */
+    private final Queue<E> queue;
+
+    /**
+     * The maximum number of elements in the queue.
+     */
+    private final int capacity;
+
+    /**
+     * The lock guarding every access to the {@link #queue}.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The condition consumers wait on until the queue is non-empty.
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * The condition producers wait on until the queue has space.
+     */
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Constructor. Wraps the specified queue, without bounding it.
+     *
+     * @param queue the queue to be wrapped
+     * @throws NullPointerException if {@code queue} is {@code null}
+     */
+    public LockedQueue(Queue<E> queue) {
+        this(queue, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor. Wraps the specified queue, bounding it to
+     * {@code capacity} elements.
+     *
+     * @param queue    the queue to be wrapped
+     * @param capacity the maximum number of elements in the queue
+     * @throws IllegalArgumentException if {@code capacity} is less than
+     *                                  {@code 1}, or {@code queue} already
+     *                                  holds more than {@code capacity}
+     *                                  elements
+     * @throws NullPointerException     if {@code queue} is {@code null}
+     */
+    public LockedQueue(Queue<E> queue, int capacity) {
+        if (queue == null) {
+            throw new NullPointerException("queue is null");
+        }
+        if (capacity < 1 || queue.size() > capacity) {
+            throw new IllegalArgumentException("Invalid capacity");
+        }
+        this.queue = queue;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, unless
+     * it is full.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException  if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean add(E e) {
+        if (!offer(e)) {
+            throw new IllegalStateException("queue is full");
+        }
+        return true;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, unless
+     * it is full.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the queue is full
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean offer(E e) {
+        checkElement(e);
+        lock.lock();
+        try {
+            return enqueue(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, waiting
+     * for space to become available if it is full.
+     *
+     * @param e the element to tbe inserted
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public void put(E e) throws InterruptedException {
+        checkElement(e);
+        lock.lockInterruptibly();
+        try {
+            while (!enqueue(e)) {
+                notFull.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, waiting
+     * up to the specified time for space to become available if it is full.
+     *
+     * @param e       the element to tbe inserted
+     * @param timeout how long to wait before giving up, in units of
+     *                {@code unit}
+     * @param unit    the unit of {@code timeout}
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the time elapsed before space became available
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        checkElement(e);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (!enqueue(e)) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts as many elements of {@code c} as there is space for into the
+     * {@code Queue} under a single acquisition of the lock, in the order
+     * returned by the iterator of {@code c}.
+     *
+     * @param c the elements to be inserted
+     * @return the number of elements enqueued
+     * @throws NullPointerException if {@code c} contains a {@code null}
+     *                              element, in which case no element is
+     *                              enqueued
+     * @since 1.1
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int offerAll(Collection<? extends E> c) {
+        Object[] elements = c.toArray();
+        for (Object e : elements) {
+            checkElement(e);
+        }
+        int count = 0;
+        lock.lock();
+        try {
+            while (count < elements.length && queue.size() < capacity
+                    && queue.offer((E) elements[count])) {
+                count++;
+            }
+            if (count > 0) {
+                notEmpty.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return count;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will throw an exception.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E remove() {
+        E e = poll();
+        if (e == null) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return e;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will return {@code null}.
+     *
+     * @return the value of the element that was just dequeued
+     * @since 1.1
+     */
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            return queue.isEmpty() ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed, waiting for an element to become available if it
+     * is empty.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws InterruptedException if interrupted while waiting
+     * @since 1.1
+     */
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed, waiting up to the specified time for an element
+     * to become available if it is empty.
+     *
+     * @param timeout how long to wait before giving up, in units of
+     *                {@code unit}
+     * @param unit    the unit of {@code timeout}
+     * @return the value of the element that was just dequeued, or
+     * {@code null} if the time elapsed before an element became available
+     * @throws InterruptedException if interrupted while waiting
+     * @since 1.1
+     */
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the
+     * {@code Queue} under a single acquisition of the lock, adding them to
+     * {@code c} in the order they were dequeued.
+     *
+     * @param c           the collection to add the elements to
+     * @param maxElements the maximum number of elements to be dequeued
+     * @return the number of elements dequeued
+     * @since 1.1
+     */
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException("collection is null");
+        }
+        int count = 0;
+        lock.lock();
+        try {
+            while (count < maxElements && !queue.isEmpty()) {
+                // only dequeues the element once c has accepted it
+                c.add(queue.peek());
+                queue.poll();
+                count++;
+            }
+        } finally {
+            if (count > 0) {
+                notFull.signalAll();
+            }
+            lock.unlock();
+        }
+        return count;
+    }
+
+    /**
+     * Removes every element from the {@code Queue} under a single acquisition
+     * of the lock, adding them to {@code c} in the order they were dequeued.
+     *
+     * @param c the collection to add the elements to
+     * @return the number of elements dequeued
+     * @since 1.1
+     */
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will throw
+     * an exception.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E element() {
+        E e = peek();
+        if (e == null) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return e;
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will
+     * return {@code null}.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public E peek() {
+        lock.lock();
+        try {
+            return queue.peek();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indicates whether the {@code Queue} is currently storing any elements.
+     *
+     * @return {@code true} if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the {@code Queue}.
+     *
+     * @return the number of elements in the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of elements that can be inserted into the
+     * {@code Queue} without waiting, unless the underlying queue refuses them
+     * earlier.
+     *
+     * @return the remaining capacity of the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * Clears the {@code Queue} such that it is empty and ready to be used
+     * again.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            queue.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Indicates whether element {@code e} exists within the {@code Queue}.
+     *
+     * @param e the element to be searched for
+     * @return {@code true} if the element exists in the {@code Queue}
+     */
+    @Override
+    public boolean contains(E e) {
+        lock.lock();
+        try {
+            return queue.contains(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A private helper method to reject {@code null} elements.
+     *
+     * @param e the element to be checked
+     * @throws NullPointerException if {@code e} is {@code null}
+     */
+    private static void checkElement(Object e) {
+        if (e == null) {
+            throw new NullPointerException("null elements are not supported");
+        }
+    }
+
+    /**
+     * A private helper method to enqueue an element while holding the lock,
+     * waking up a consumer if it succeeds.
+     *
+     * @param e the element to be enqueued
+     * @return {@code true} if the element is enqueued, or {@code false} if the
+     * queue has reached its capacity or the underlying queue refuses it, in
+     * which case the queue is full
+     */
+    private boolean enqueue(E e) {
+        if (queue.size() >= capacity || !queue.offer(e)) {
+            return false;
+        }
+        notEmpty.signal();
+        return true;
+    }
+
+    /**
+     * A private helper method to dequeue the head of a non-empty queue while
+     * holding the lock, waking up a producer.
+     *
+     * @return the element dequeued
+     */
+    private E dequeue() {
+        E e = queue.poll();
+        notFull.signal();
+        return e;
+    }
+}
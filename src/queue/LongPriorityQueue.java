@@ -0,0 +1,284 @@
+package queue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class is a priority queue of elements, each paired with a
+ * {@code long} priority, whose head is always the element of the least
+ * priority.
+ *
+ * <p> The {@code LongPriorityQueue} class is the primitive counterpart of
+ * {@link PriorityQueue}: it uses the same d-ary heap, but keeps the priorities
+ * in a {@code long[]} array next to an array of the elements, so that no
+ * priority is ever boxed, and comparing two nodes never follows a reference.
+ * Since every element comes with a priority, the class does not implement the
+ * {@link Queue} interface, but mirrors its methods, with
+ * {@link #offer(long, Object)} and {@link #add(long, Object)} taking the
+ * priority along with the element.
+ *
+ * <p> Enqueueing and dequeueing run in {@code O(log n)} time,
+ * {@link #contains(Object)} runs in {@code O(n)} time, and all other methods
+ * in {@code O(1)} time. Elements of equal priorities are dequeued in no
+ * particular order. Since {@link #poll()} returns {@code null} when the queue
+ * is empty, {@code null} elements are not accepted.
+ *
+ * @author Samuel Adrian Kosasih
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Queue} would store.
+ * @version 1.1
+ * @see PriorityQueue
+ */
+@SuppressWarnings({"unchecked"})
+public class LongPriorityQueue<E> {
+
+    /**
+     * An array holding the priority of every node of the heap.
+     */
+    private long[] priorities;
+
+    /**
+     * An array holding the element of every node of the heap.
+     */
+    private Object[] elements;
+
+    /**
+     * A field to keep the number of elements in the queue.
+     */
+    private int size;
+
+    /**
+     * The number of children of every node.
+     */
+    private final int arity;
+
+    /**
+     * Default Constructor. Initializes an empty heap of the default arity,
+     * {@code 4}.
+     */
+    public LongPriorityQueue() {
+        this(PriorityQueue.DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructor. Initializes an empty heap of the specified arity.
+     *
+     * @param arity the number of children of every node
+     * @throws IllegalArgumentException if {@code arity} is less than
+     *                                  {@code 2}
+     */
+    public LongPriorityQueue(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Invalid arity");
+        }
+        this.arity = arity;
+        priorities = new long[PriorityQueue.DEFAULT_CAPACITY];
+        elements = new Object[PriorityQueue.DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the queue with the
+     * specified priority.
+     *
+     * @param priority the priority of the element
+     * @param e        the element to tbe inserted
+     * @return {@code true} if the element is enqueued
+     * @throws IllegalStateException if the arrays cannot grow past
+     *                               {@link PriorityQueue#MAXIMUM_CAPACITY}
+     * @throws NullPointerException  if {@code e} is {@code null}
+     * @since 1.1
+     */
+    public boolean add(long priority, E e) {
+        if (!offer(priority, e)) {
+            throw new IllegalStateException("queue is full");
+        }
+        return true;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the queue with the
+     * specified priority.
+     *
+     * @param priority the priority of the element
+     * @param e        the element to tbe inserted
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the arrays cannot grow past {@link PriorityQueue#MAXIMUM_CAPACITY}
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    public boolean offer(long priority, E e) {
+        if (e == null) {
+            throw new NullPointerException("null elements are not supported");
+        }
+        if (size == elements.length) {
+            if (size == PriorityQueue.MAXIMUM_CAPACITY) {
+                return false;
+            }
+            int capacity = (int) Math.min(PriorityQueue.MAXIMUM_CAPACITY,
+                    size + (size >> 1) + 1L);
+            priorities = Arrays.copyOf(priorities, capacity);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            if (priority >= priorities[parent]) {
+                break;
+            }
+            priorities[i] = priorities[parent];
+            elements[i] = elements[parent];
+            i = parent;
+        }
+        priorities[i] = priority;
+        elements[i] = e;
+        return true;
+    }
+
+    /**
+     * Removes the head of the queue and retrieves the value of the element
+     * just removed. If the queue is empty, then this method will throw an
+     * exception.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws NoSuchElementException if the queue is empty
+     * @since 1.1
+     */
+    public E remove() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return poll();
+    }
+
+    /**
+     * Removes the head of the queue and retrieves the value of the element
+     * just removed. If the queue is empty, then this method will return
+     * {@code null}.
+     *
+     * @return the value of the element that was just dequeued
+     * @since 1.1
+     */
+    public E poll() {
+        if (isEmpty()) {
+            return null;
+        }
+        E e = (E) elements[0];
+        int last = --size;
+        long priority = priorities[last];
+        Object moved = elements[last];
+        elements[last] = null;
+        int i = 0;
+        while (true) {
+            int first = arity * i + 1;
+            if (first >= last || first < 0) {
+                break;
+            }
+            int least = first;
+            int end = Math.min(first + arity, last);
+            for (int c = first + 1; c < end; c++) {
+                if (priorities[c] < priorities[least]) {
+                    least = c;
+                }
+            }
+            if (priority <= priorities[least]) {
+                break;
+            }
+            priorities[i] = priorities[least];
+            elements[i] = elements[least];
+            i = least;
+        }
+        if (last > 0) {
+            priorities[i] = priority;
+            elements[i] = moved;
+        }
+        return e;
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the queue.
+     * If the queue is empty, then this method will throw an exception.
+     *
+     * @return the value of the element at the head of the queue
+     * @throws NoSuchElementException if the queue is empty
+     * @since 1.1
+     */
+    public E element() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return (E) elements[0];
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the queue.
+     * If the queue is empty, then this method will return {@code null}.
+     *
+     * @return the value of the element at the head of the queue
+     * @since 1.1
+     */
+    public E peek() {
+        return (E) elements[0];
+    }
+
+    /**
+     * Retrieves the priority of the element at the head of the queue, which
+     * is the least priority in the queue.
+     *
+     * @return the priority of the head of the queue
+     * @throws NoSuchElementException if the queue is empty
+     * @since 1.1
+     */
+    public long peekPriority() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return priorities[0];
+    }
+
+    /**
+     * Indicates whether the queue is currently storing any elements.
+     *
+     * @return {@code true} if the queue is empty
+     * @since 1.1
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the queue.
+     *
+     * @return the number of elements in the queue
+     * @since 1.1
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clears the queue such that it is empty and ready to be used again.
+     *
+     * @since 1.1
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Indicates whether element {@code e} exists within the queue.
+     *
+     * @param e the element to be searched for
+     * @return {@code true} if the element exists in the queue
+     */
+    public boolean contains(E e) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(e, elements[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
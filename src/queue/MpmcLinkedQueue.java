@@ -0,0 +1,332 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class is an implementation of the {@link Queue} interface, safe to be
+ * shared between any number of producer and consumer threads without any
+ * locking.
+ *
+ * <p> The {@code MpmcLinkedQueue} class is a Michael-Scott queue: a singly
+ * linked list of nodes, with a reference to its {@code head} and its
+ * {@code tail}. The head is always a dummy node, whose successor holds the
+ * element at the front of the queue. Every change to the list is made by a
+ * single compare-and-set:
+ * <ul>
+ *     <li>to enqueue an element, a producer links a new node after the last
+ *     node, then swings the tail to it</li>
+ *     <li>to dequeue an element, a consumer swings the head to its successor,
+ *     which becomes the new dummy node</li>
+ * </ul>
+ * The tail may lag one node behind the last node, in which case any thread
+ * that notices swings it forward before going on. This way, a thread that is
+ * suspended in the middle of an operation never prevents other threads from
+ * completing theirs, so {@link #offer(Object)} and {@link #poll()} are
+ * lock-free, and every operation takes effect atomically at its successful
+ * compare-and-set.
+ *
+ * <p> The queue is unbounded, so {@link #offer(Object)} always succeeds.
+ * {@link #size()} and {@link #contains(Object)} go through the list while it
+ * may be changing, so they are only weakly consistent: they reflect some, but
+ * not necessarily all, of the operations running at the same time. Since
+ * {@link #poll()} returns {@code null} when the queue is empty, {@code null}
+ * elements are not accepted.
+ *
+ * @author Samuel Adrian Kosasih
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Queue} would store.
+ * @version 1.1
+ * @see Queue
+ */
+@SuppressWarnings({"unchecked"})
+public class MpmcLinkedQueue<E> implements Queue<E> {
+
+    /**
+     * A handle to the {@link #head} field.
+     */
+    private static final VarHandle HEAD;
+
+    /**
+     * A handle to the {@link #tail} field.
+     */
+    private static final VarHandle TAIL;
+
+    /**
+     * A handle to the {@link Node#next} field.
+     */
+    private static final VarHandle NEXT;
+
+    /**
+     * A handle to the {@link Node#element} field.
+     */
+    private static final VarHandle ELEMENT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(MpmcLinkedQueue.class, "head",
+                    Node.class);
+            TAIL = lookup.findVarHandle(MpmcLinkedQueue.class, "tail",
+                    Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            ELEMENT = lookup.findVarHandle(Node.class, "element",
+                    Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The dummy node before the front of the queue
+     */
+    private volatile Node head;
+
+    /**
+     * The last node of the queue, or the one before it
+     */
+    private volatile Node tail;
+
+    /**
+     * Default Constructor. Initializes the queue with a single dummy node.
+     */
+    public MpmcLinkedQueue() {
+        head = new Node(null);
+        tail = head;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean add(E e) {
+        return offer(e);
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}. Since
+     * the queue is unbounded, this method always succeeds.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException("null elements are not supported");
+        }
+        Node node = new Node(e);
+        while (true) {
+            Node last = tail;
+            Node next = (Node) NEXT.getAcquire(last);
+            if (last != tail) {
+                continue;
+            }
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, node)) {
+                    // fails harmlessly if another thread swung it already
+                    TAIL.compareAndSet(this, last, node);
+                    return true;
+                }
+            } else {
+                // the tail is lagging behind, so helps it forward
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will throw an exception.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E remove() {
+        E e = poll();
+        if (e == null) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return e;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will return {@code null}.
+     *
+     * @return the value of the element that was just dequeued
+     * @since 1.1
+     */
+    @Override
+    public E poll() {
+        while (true) {
+            Node first = head;
+            Node last = tail;
+            Node next = (Node) NEXT.getAcquire(first);
+            if (first != head) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                // the tail is lagging behind, so helps it forward
+                TAIL.compareAndSet(this, last, next);
+                continue;
+            }
+            Object e = ELEMENT.getAcquire(next);
+            if (HEAD.compareAndSet(this, first, next)) {
+                // the node is the new dummy, so lets go of its element
+                ELEMENT.setRelease(next, null);
+                return (E) e;
+            }
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will throw
+     * an exception.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E element() {
+        E e = peek();
+        if (e == null) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return e;
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will
+     * return {@code null}.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public E peek() {
+        while (true) {
+            Node first = head;
+            Node next = (Node) NEXT.getAcquire(first);
+            if (next == null) {
+                return null;
+            }
+            Object e = ELEMENT.getAcquire(next);
+            // the element is only valid if no consumer dequeued it meanwhile
+            if (first == head) {
+                return (E) e;
+            }
+        }
+    }
+
+    /**
+     * Indicates whether the {@code Queue} is currently storing any elements.
+     *
+     * @return {@code true} if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public boolean isEmpty() {
+        return NEXT.getAcquire(head) == null;
+    }
+
+    /**
+     * Returns the number of elements currently in the {@code Queue}, by going
+     * through the whole list. The result is only weakly consistent while other
+     * threads are using the queue.
+     *
+     * @return the number of elements in the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public int size() {
+        int count = 0;
+        for (Node node = (Node) NEXT.getAcquire(head); node != null;
+             node = (Node) NEXT.getAcquire(node)) {
+            if (ELEMENT.getAcquire(node) != null && count < Integer.MAX_VALUE) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Clears the {@code Queue} by dequeueing every element in it.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // dequeues every element, competing with other consumers
+        }
+    }
+
+    /**
+     * Indicates whether element {@code e} exists within the {@code Queue}. The
+     * result is only weakly consistent while other threads are using the
+     * queue.
+     *
+     * @param e the element to be searched for
+     * @return {@code true} if the element exists in the {@code Queue}
+     */
+    @Override
+    public boolean contains(E e) {
+        if (e == null) {
+            return false;
+        }
+        for (Node node = (Node) NEXT.getAcquire(head); node != null;
+             node = (Node) NEXT.getAcquire(node)) {
+            if (Objects.equals(e, ELEMENT.getAcquire(node))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This private static inner class is a node of the list, holding a single
+     * element.
+     */
+    private static final class Node {
+
+        /**
+         * The element of the node, or {@code null} if the node is the dummy
+         */
+        private Object element;
+
+        /**
+         * The next node, or {@code null} if this is the last node
+         */
+        private Node next;
+
+        /**
+         * Constructor. Initializes the node with its element.
+         *
+         * @param element the element of the node
+         */
+        private Node(Object element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,650 @@
+package queue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class is an implementation of the {@link Queue} interface, whose head
+ * is always its least element rather than its oldest.
+ *
+ * <p> The {@code PriorityQueue} class uses an array to represent a d-ary
+ * heap: a complete tree in which every node has up to {@code d} children, and
+ * is no greater than any of them. The children of the node at index
+ * {@code i} are at indices {@code d * i + 1} to {@code d * i + d}, and its
+ * parent is at index {@code (i - 1) / d}. Elements are ordered by a
+ * {@link Comparator}, or by their natural ordering if none is given.
+ *
+ * <p> A heap of a higher arity is shallower, so inserting an element, which
+ * moves it up towards the root, compares it with fewer parents, while
+ * removing the head, which moves the last element down from the root,
+ * compares more children on each level. The children of a node are next to
+ * each other in the array, so they are usually on the same cache lines. The
+ * default arity is {@code 4}.
+ *
+ * <p> Enqueueing and dequeueing run in {@code O(log n)} time, and building a
+ * queue from a collection runs in {@code O(n)} time, by moving every node down
+ * into place from the last parent up to the root. {@link #contains(Object)}
+ * runs in {@code O(n)} time, and all other methods in {@code O(1)} time.
+ *
+ * <p> {@link #insert(Object)} enqueues an element and returns a
+ * {@link Handle} to it, which stays valid while the element moves around the
+ * heap. The handle can then be used to lower the element in the order with
+ * {@link #decreaseKey(Handle, Object)}, or to remove it with
+ * {@link #remove(Handle)}, both in {@code O(log n)} time. Handles are only
+ * kept for the elements inserted with {@link #insert(Object)}.
+ *
+ * <p> Equal elements are dequeued in no particular order. Since
+ * {@link #poll()} returns {@code null} when the queue is empty, {@code null}
+ * elements are not accepted.
+ *
+ * @author Samuel Adrian Kosasih
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Queue} would store.
+ * @version 1.1
+ * @see Queue
+ * @see LongPriorityQueue
+ */
+@SuppressWarnings({"unchecked"})
+public class PriorityQueue<E> implements Queue<E> {
+
+    /**
+     * The default arity of the heap.
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    /**
+     * The default initial capacity of the array.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The largest capacity the array can grow to.
+     */
+    public static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * An array used to represent the heap.
+     */
+    private Object[] heap;
+
+    /**
+     * The handle of every element in the heap, at the same index, or
+     * {@code null} until the first element is inserted with a handle.
+     */
+    private Handle<E>[] handles;
+
+    /**
+     * A field to keep the number of elements in the queue.
+     */
+    private int size;
+
+    /**
+     * The number of children of every node.
+     */
+    private final int arity;
+
+    /**
+     * The comparator ordering the elements, or {@code null} to use their
+     * natural ordering.
+     */
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Default Constructor. Initializes an empty queue ordering its elements
+     * by their natural ordering.
+     */
+    public PriorityQueue() {
+        this(null);
+    }
+
+    /**
+     * Constructor. Initializes an empty queue ordering its elements with the
+     * specified comparator.
+     *
+     * @param comparator the comparator ordering the elements, or
+     *                   {@code null} to use their natural ordering
+     */
+    public PriorityQueue(Comparator<? super E> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Constructor. Initializes an empty heap of the specified arity, ordering
+     * its elements with the specified comparator.
+     *
+     * @param arity      the number of children of every node
+     * @param comparator the comparator ordering the elements, or
+     *                   {@code null} to use their natural ordering
+     * @throws IllegalArgumentException if {@code arity} is less than
+     *                                  {@code 2}
+     * @since 1.1
+     */
+    public PriorityQueue(int arity, Comparator<? super E> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Invalid arity");
+        }
+        this.arity = arity;
+        this.comparator = comparator;
+        heap = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Constructor. Initializes a queue holding the elements of the specified
+     * collection, ordered with the specified comparator. The heap is built in
+     * {@code O(n)} time.
+     *
+     * @param c          the elements to be enqueued
+     * @param comparator the comparator ordering the elements, or
+     *                   {@code null} to use their natural ordering
+     * @throws NullPointerException if {@code c} contains a {@code null}
+     *                              element
+     * @since 1.1
+     */
+    public PriorityQueue(Collection<? extends E> c,
+                         Comparator<? super E> comparator) {
+        this(c, DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Constructor. Initializes a heap of the specified arity holding the
+     * elements of the specified collection, ordered with the specified
+     * comparator. The heap is built in {@code O(n)} time.
+     *
+     * @param c          the elements to be enqueued
+     * @param arity      the number of children of every node
+     * @param comparator the comparator ordering the elements, or
+     *                   {@code null} to use their natural ordering
+     * @throws IllegalArgumentException if {@code arity} is less than
+     *                                  {@code 2}
+     * @throws NullPointerException     if {@code c} contains a {@code null}
+     *                                  element
+     * @since 1.1
+     */
+    public PriorityQueue(Collection<? extends E> c, int arity,
+                         Comparator<? super E> comparator) {
+        this(arity, comparator);
+        Object[] elements = c.toArray();
+        for (Object e : elements) {
+            checkElement(e);
+        }
+        if (elements.length > heap.length) {
+            heap = Arrays.copyOf(elements, elements.length, Object[].class);
+        } else {
+            System.arraycopy(elements, 0, heap, 0, elements.length);
+        }
+        size = elements.length;
+        for (int i = size > 1 ? (size - 2) / arity : -1; i >= 0; i--) {
+            siftDown(i, (E) heap[i], null);
+        }
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued
+     * @throws IllegalStateException if the array cannot grow past
+     *                               {@link #MAXIMUM_CAPACITY}
+     * @throws NullPointerException  if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean add(E e) {
+        if (!offer(e)) {
+            throw new IllegalStateException("queue is full");
+        }
+        return true;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the array cannot grow past {@link #MAXIMUM_CAPACITY}
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean offer(E e) {
+        checkElement(e);
+        if (size == heap.length && !grow()) {
+            return false;
+        }
+        siftUp(size++, e, null);
+        return true;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, and
+     * returns a handle to it, to be used with
+     * {@link #decreaseKey(Handle, Object)} and {@link #remove(Handle)}.
+     *
+     * @param e the element to tbe inserted
+     * @return the handle to the element
+     * @throws IllegalStateException if the array cannot grow past
+     *                               {@link #MAXIMUM_CAPACITY}
+     * @throws NullPointerException  if {@code e} is {@code null}
+     * @since 1.1
+     */
+    public Handle<E> insert(E e) {
+        checkElement(e);
+        if (size == heap.length && !grow()) {
+            throw new IllegalStateException("queue is full");
+        }
+        if (handles == null) {
+            handles = new Handle[heap.length];
+        }
+        Handle<E> handle = new Handle<>(this);
+        siftUp(size++, e, handle);
+        return handle;
+    }
+
+    /**
+     * Replaces the element of the specified handle with {@code e}, which
+     * must be no greater than it, moving it towards the head of the queue.
+     *
+     * @param handle the handle to the element
+     * @param e      the new element
+     * @throws IllegalArgumentException if {@code e} is greater than the
+     *                                  current element, or the handle belongs
+     *                                  to another queue
+     * @throws IllegalStateException    if the element of the handle is no
+     *                                  longer in the queue
+     * @throws NullPointerException     if {@code e} is {@code null}
+     * @since 1.1
+     */
+    public void decreaseKey(Handle<E> handle, E e) {
+        checkElement(e);
+        int i = checkHandle(handle);
+        if (compare(e, (E) heap[i]) > 0) {
+            throw new IllegalArgumentException("new key is greater than " +
+                    "current key");
+        }
+        siftUp(i, e, handle);
+    }
+
+    /**
+     * Removes the element of the specified handle from the {@code Queue}.
+     *
+     * @param handle the handle to the element
+     * @return the element just removed
+     * @throws IllegalArgumentException if the handle belongs to another queue
+     * @throws IllegalStateException    if the element of the handle is no
+     *                                  longer in the queue
+     * @since 1.1
+     */
+    public E remove(Handle<E> handle) {
+        return removeAt(checkHandle(handle));
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will throw an exception.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E remove() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return poll();
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will return {@code null}.
+     *
+     * @return the value of the element that was just dequeued
+     * @since 1.1
+     */
+    @Override
+    public E poll() {
+        return isEmpty() ? null : removeAt(0);
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will throw
+     * an exception.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E element() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return (E) heap[0];
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will
+     * return {@code null}.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public E peek() {
+        return (E) heap[0];
+    }
+
+    /**
+     * Indicates whether the {@code Queue} is currently storing any elements.
+     *
+     * @return {@code true} if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the {@code Queue}.
+     *
+     * @return the number of elements in the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Clears the {@code Queue} such that it is empty and ready to be used
+     * again, invalidating every handle.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void clear() {
+        if (handles != null) {
+            for (int i = 0; i < size; i++) {
+                if (handles[i] != null) {
+                    handles[i].index = -1;
+                    handles[i] = null;
+                }
+            }
+        }
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Indicates whether element {@code e} exists within the {@code Queue}.
+     *
+     * @param e the element to be searched for
+     * @return {@code true} if the element exists in the {@code Queue}
+     */
+    @Override
+    public boolean contains(E e) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(e, heap[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the comparator ordering the elements.
+     *
+     * @return the comparator, or {@code null} if the elements are ordered by
+     * their natural ordering
+     * @since 1.1
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Retrieves the arity of the heap.
+     *
+     * @return the number of children of every node
+     * @since 1.1
+     */
+    public int arity() {
+        return arity;
+    }
+
+    /**
+     * A private helper method to remove the element at index {@code i}, by
+     * moving the last element into its place, then moving it up or down.
+     *
+     * @param i the index of the element to be removed
+     * @return the element removed
+     */
+    private E removeAt(int i) {
+        E e = (E) heap[i];
+        invalidate(i);
+        int last = --size;
+        E moved = (E) heap[last];
+        Handle<E> movedHandle = handles == null ? null : handles[last];
+        heap[last] = null;
+        if (handles != null) {
+            handles[last] = null;
+        }
+        if (i < last && siftDown(i, moved, movedHandle) == i) {
+            siftUp(i, moved, movedHandle);
+        }
+        return e;
+    }
+
+    /**
+     * A private helper method to move element {@code e} up from index
+     * {@code i}, shifting its greater parents down, until it is placed.
+     *
+     * @param i      the index the element starts at
+     * @param e      the element
+     * @param handle the handle of the element, or {@code null} if it has none
+     */
+    private void siftUp(int i, E e, Handle<E> handle) {
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            Object p = heap[parent];
+            if (compare(e, (E) p) >= 0) {
+                break;
+            }
+            place(i, p, handles == null ? null : handles[parent]);
+            i = parent;
+        }
+        place(i, e, handle);
+    }
+
+    /**
+     * A private helper method to move element {@code e} down from index
+     * {@code i}, shifting its least child up on each level, until it is
+     * placed.
+     *
+     * @param i      the index the element starts at
+     * @param e      the element
+     * @param handle the handle of the element, or {@code null} if it has none
+     * @return the index the element is placed at
+     */
+    private int siftDown(int i, E e, Handle<E> handle) {
+        while (true) {
+            int first = arity * i + 1;
+            if (first >= size || first < 0) {
+                break;
+            }
+            int least = first;
+            int end = Math.min(first + arity, size);
+            for (int c = first + 1; c < end; c++) {
+                if (compare((E) heap[c], (E) heap[least]) < 0) {
+                    least = c;
+                }
+            }
+            if (compare(e, (E) heap[least]) <= 0) {
+                break;
+            }
+            place(i, heap[least], handles == null ? null : handles[least]);
+            i = least;
+        }
+        place(i, e, handle);
+        return i;
+    }
+
+    /**
+     * A private helper method to store an element and its handle at index
+     * {@code i}, updating the index of the handle.
+     *
+     * @param i      the index
+     * @param e      the element
+     * @param handle the handle of the element, or {@code null} if it has none
+     */
+    private void place(int i, Object e, Handle<E> handle) {
+        heap[i] = e;
+        if (handles != null) {
+            handles[i] = handle;
+            if (handle != null) {
+                handle.index = i;
+            }
+        }
+    }
+
+    /**
+     * A private helper method to invalidate the handle of the element at
+     * index {@code i}, if it has one.
+     *
+     * @param i the index
+     */
+    private void invalidate(int i) {
+        if (handles != null && handles[i] != null) {
+            handles[i].index = -1;
+            handles[i] = null;
+        }
+    }
+
+    /**
+     * A private helper method to grow the array, along with the handles, by
+     * half of its capacity.
+     *
+     * @return {@code true} if the array grew, or {@code false} if it is
+     * already at {@link #MAXIMUM_CAPACITY}
+     */
+    private boolean grow() {
+        if (heap.length == MAXIMUM_CAPACITY) {
+            return false;
+        }
+        int capacity = (int) Math.min(MAXIMUM_CAPACITY,
+                heap.length + (heap.length >> 1) + 1L);
+        heap = Arrays.copyOf(heap, capacity);
+        if (handles != null) {
+            handles = Arrays.copyOf(handles, capacity);
+        }
+        return true;
+    }
+
+    /**
+     * A private helper method to compare two elements with the comparator, or
+     * by their natural ordering.
+     *
+     * @param a the first element
+     * @param b the second element
+     * @return a negative integer, zero, or a positive integer as {@code a} is
+     * less than, equal to, or greater than {@code b}
+     */
+    private int compare(E a, E b) {
+        return comparator != null ? comparator.compare(a, b) :
+                ((Comparable<? super E>) a).compareTo(b);
+    }
+
+    /**
+     * A private helper method to reject {@code null} elements.
+     *
+     * @param e the element to be checked
+     * @throws NullPointerException if {@code e} is {@code null}
+     */
+    private static void checkElement(Object e) {
+        if (e == null) {
+            throw new NullPointerException("null elements are not supported");
+        }
+    }
+
+    /**
+     * A private helper method to check that a handle belongs to this queue
+     * and still refers to an element in it.
+     *
+     * @param handle the handle to be checked
+     * @return the index of the element of the handle
+     * @throws IllegalArgumentException if the handle belongs to another queue
+     * @throws IllegalStateException    if the element of the handle is no
+     *                                  longer in the queue
+     */
+    private int checkHandle(Handle<E> handle) {
+        if (handle.queue != this) {
+            throw new IllegalArgumentException("handle belongs to another " +
+                    "queue");
+        }
+        if (handle.index < 0) {
+            throw new IllegalStateException("element is no longer in the " +
+                    "queue");
+        }
+        return handle.index;
+    }
+
+    /**
+     * This public static inner class is a handle to an element inserted with
+     * {@link #insert(Object)}, following it as it moves around the heap.
+     *
+     * @param <E> the type of the element
+     */
+    public static final class Handle<E> {
+
+        /**
+         * The queue holding the element
+         */
+        private final PriorityQueue<E> queue;
+
+        /**
+         * The index of the element in the heap, or {@code -1} once it has
+         * been removed
+         */
+        private int index;
+
+        /**
+         * Constructor. Initializes a handle to an element of the specified
+         * queue.
+         *
+         * @param queue the queue holding the element
+         */
+        private Handle(PriorityQueue<E> queue) {
+            this.queue = queue;
+            this.index = -1;
+        }
+
+        /**
+         * Retrieves the element of the handle.
+         *
+         * @return the element
+         * @throws IllegalStateException if the element is no longer in the
+         *                               queue
+         */
+        public E element() {
+            return (E) queue.heap[queue.checkHandle(this)];
+        }
+
+        /**
+         * Indicates whether the element of the handle is still in the queue.
+         *
+         * @return {@code true} if the element is still in the queue
+         */
+        public boolean isValid() {
+            return index >= 0;
+        }
+    }
+}
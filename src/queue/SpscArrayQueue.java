@@ -0,0 +1,409 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class is an implementation of the {@link Queue} interface, safe to be
+ * shared between exactly one producer thread and one consumer thread without
+ * any locking.
+ *
+ * <p> The {@code SpscArrayQueue} class uses a bounded array, whose capacity is
+ * a power of two, along with two ever-increasing indices: the {@code tail},
+ * only ever written by the producer, and the {@code head}, only ever written
+ * by the consumer. The producer stores an element in the array before
+ * publishing the new tail with a release write, and the consumer reads the
+ * tail with an acquire read before reading the element, so that the element
+ * is always visible to the consumer once the tail is. The head is published
+ * back to the producer in the same way.
+ *
+ * <p> To keep the two threads from slowing each other down:
+ * <ul>
+ *     <li>each index lives in its own padded object, so that the producer and
+ *     the consumer never write to the same cache line</li>
+ *     <li>each thread keeps a cached copy of the other thread's index, and
+ *     only reads the other thread's index again once the cached copy says
+ *     the queue is full, or empty</li>
+ * </ul>
+ *
+ * <p> Only the producer may call {@link #add(Object)} and
+ * {@link #offer(Object)}, and only the consumer may call {@link #remove()},
+ * {@link #poll()}, {@link #element()}, {@link #peek()}, {@link #clear()} and
+ * {@link #contains(Object)}. {@link #size()} and {@link #isEmpty()} may be
+ * called from any thread, but only give an estimate while the other thread is
+ * running. Since {@link #poll()} returns {@code null} when the queue is empty,
+ * {@code null} elements are not accepted.
+ *
+ * @author Samuel Adrian Kosasih
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Queue} would store.
+ * @version 1.1
+ * @see Queue
+ */
+@SuppressWarnings({"unchecked"})
+public class SpscArrayQueue<E> implements Queue<E> {
+
+    /**
+     * A handle to the {@link Index#value} field, used for the acquire and
+     * release accesses to the indices.
+     */
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Index.class, "value",
+                    long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * An array used to represent the queue.
+     */
+    private final E[] queue;
+
+    /**
+     * The mask turning an index into a position in the array.
+     */
+    private final int mask;
+
+    /**
+     * The index after the last element enqueued, written by the producer,
+     * along with the producer's cached copy of the {@link #head}.
+     */
+    private final PaddedIndex tail = new PaddedIndex();
+
+    /**
+     * The index of the next element to be dequeued, written by the consumer,
+     * along with the consumer's cached copy of the {@link #tail}.
+     */
+    private final PaddedIndex head = new PaddedIndex();
+
+    /**
+     * Constructor. Initializes the array to be used as the queue with the
+     * specified capacity, rounded up to a power of two.
+     *
+     * @param capacity the maximum number of elements in the queue
+     * @throws IllegalArgumentException if {@code capacity} is less than
+     *                                  {@code 1} or greater than
+     *                                  {@code 2^30}
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity");
+        }
+        int n = Integer.highestOneBit(capacity);
+        n = n == capacity ? n : n << 1;
+        queue = (E[]) new Object[n];
+        mask = n - 1;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}. This
+     * method may only be called by the producer.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException  if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean add(E e) {
+        if (!offer(e)) {
+            throw new IllegalStateException("queue is full");
+        }
+        return true;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, unless
+     * it is full. This method may only be called by the producer.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the queue is full
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException("null elements are not supported");
+        }
+        long t = tail.value;
+        if (t - tail.cache >= queue.length) {
+            tail.cache = (long) VALUE.getAcquire(head);
+            if (t - tail.cache >= queue.length) {
+                return false;
+            }
+        }
+        queue[(int) t & mask] = e;
+        VALUE.setRelease(tail, t + 1);
+        return true;
+    }
+
+    /**
+     * Inserts as many elements of {@code c} as there is space for into the
+     * {@code Queue}, in the order returned by the iterator of {@code c}, and
+     * publishes them to the consumer with a single release write. This method
+     * may only be called by the producer.
+     *
+     * @param c the elements to be inserted
+     * @return the number of elements enqueued
+     * @throws NullPointerException if {@code c} contains a {@code null}
+     *                              element, in which case no element is
+     *                              enqueued
+     * @since 1.1
+     */
+    public int offerAll(Collection<? extends E> c) {
+        Object[] elements = c.toArray();
+        for (Object e : elements) {
+            if (e == null) {
+                throw new NullPointerException("null elements are not " +
+                        "supported");
+            }
+        }
+        long t = tail.value;
+        if (t + elements.length - tail.cache > queue.length) {
+            tail.cache = (long) VALUE.getAcquire(head);
+        }
+        int count = (int) Math.min(elements.length,
+                queue.length - (t - tail.cache));
+        for (int i = 0; i < count; i++) {
+            queue[(int) (t + i) & mask] = (E) elements[i];
+        }
+        if (count > 0) {
+            VALUE.setRelease(tail, t + count);
+        }
+        return count;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will throw an exception. This method may only be called by the
+     * consumer.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E remove() {
+        E e = poll();
+        if (e == null) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return e;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will return {@code null}. This method may only be called by the
+     * consumer.
+     *
+     * @return the value of the element that was just dequeued
+     * @since 1.1
+     */
+    @Override
+    public E poll() {
+        long h = head.value;
+        if (h >= head.cache && !refreshTail(h)) {
+            return null;
+        }
+        int index = (int) h & mask;
+        E e = queue[index];
+        queue[index] = null;
+        VALUE.setRelease(head, h + 1);
+        return e;
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the
+     * {@code Queue}, adding them to {@code c} in the order they were
+     * dequeued, and hands their space back to the producer with a single
+     * release write. This method may only be called by the consumer.
+     *
+     * @param c           the collection to add the elements to
+     * @param maxElements the maximum number of elements to be dequeued
+     * @return the number of elements dequeued
+     * @since 1.1
+     */
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        long h = head.value;
+        if (head.cache - h < maxElements) {
+            refreshTail(h);
+        }
+        long available = Math.min(maxElements, head.cache - h);
+        int count = 0;
+        try {
+            while (count < available) {
+                int index = (int) (h + count) & mask;
+                c.add(queue[index]);
+                queue[index] = null;
+                count++;
+            }
+        } finally {
+            if (count > 0) {
+                VALUE.setRelease(head, h + count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will throw
+     * an exception. This method may only be called by the consumer.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E element() {
+        E e = peek();
+        if (e == null) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return e;
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will
+     * return {@code null}. This method may only be called by the consumer.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public E peek() {
+        long h = head.value;
+        if (h >= head.cache && !refreshTail(h)) {
+            return null;
+        }
+        return queue[(int) h & mask];
+    }
+
+    /**
+     * Indicates whether the {@code Queue} is currently storing any elements.
+     *
+     * @return {@code true} if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the {@code Queue}.
+     *
+     * @return the number of elements in the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public int size() {
+        long h = (long) VALUE.getAcquire(head);
+        long t = (long) VALUE.getAcquire(tail);
+        return (int) Math.max(0, Math.min(t - h, queue.length));
+    }
+
+    /**
+     * Clears the {@code Queue} by dequeueing every element in it. This method
+     * may only be called by the consumer.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void clear() {
+        while (poll() != null) {
+            // dequeues every element the producer has published
+        }
+    }
+
+    /**
+     * Indicates whether element {@code e} exists within the {@code Queue}.
+     * This method may only be called by the consumer.
+     *
+     * @param e the element to be searched for
+     * @return {@code true} if the element exists in the {@code Queue}
+     */
+    @Override
+    public boolean contains(E e) {
+        long t = (long) VALUE.getAcquire(tail);
+        for (long i = head.value; i < t; i++) {
+            if (Objects.equals(e, queue[(int) i & mask])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retrieves the capacity of the queue.
+     *
+     * @return the maximum number of elements in the queue
+     * @since 1.1
+     */
+    public int capacity() {
+        return queue.length;
+    }
+
+    /**
+     * A private helper method for the consumer to read the {@link #tail}
+     * again, once its cached copy says the queue is empty.
+     *
+     * @param h the current head
+     * @return {@code true} if the queue is not empty after all
+     */
+    private boolean refreshTail(long h) {
+        head.cache = (long) VALUE.getAcquire(tail);
+        return h < head.cache;
+    }
+
+    /**
+     * This private static inner class pads the start of an {@link Index}, so
+     * that no field of another object is laid out within a cache line of it.
+     * Fields of a superclass are always laid out before those of a subclass.
+     */
+    @SuppressWarnings("unused")
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+        long p08, p09, p10, p11, p12, p13, p14, p15;
+    }
+
+    /**
+     * This private static inner class holds an index of the queue, and the
+     * cached copy of the other index, both used by the same thread.
+     */
+    private static class Index extends LeftPadding {
+
+        /**
+         * The index, only written by its owning thread
+         */
+        long value;
+
+        /**
+         * The owning thread's cached copy of the other index
+         */
+        long cache;
+    }
+
+    /**
+     * This private static inner class pads the end of an {@link Index}.
+     */
+    @SuppressWarnings("unused")
+    private static final class PaddedIndex extends Index {
+        long p16, p17, p18, p19, p20, p21, p22, p23;
+        long p24, p25, p26, p27, p28, p29, p30, p31;
+    }
+}
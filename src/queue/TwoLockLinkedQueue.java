@@ -0,0 +1,668 @@
+package queue;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class is an implementation of the {@link BlockingQueue} interface,
+ * letting producers and consumers proceed in parallel.
+ *
+ * <p> The {@code TwoLockLinkedQueue} class uses a singly linked list of
+ * nodes, whose head is always a dummy node, guarded by two
+ * {@link ReentrantLock}s rather than one: producers only ever take the
+ * {@code putLock} to link a node after the last node, and consumers only ever
+ * take the {@code takeLock} to unlink the node after the head. The two ends
+ * only meet through an atomic count of the elements, which tells a consumer
+ * whether there is a node to unlink, and a producer whether there is space.
+ * A producer that makes the queue non-empty, or a consumer that makes it
+ * non-full, briefly takes the other lock to wake up a thread waiting on it.
+ *
+ * <p> The queue never uses {@code synchronized} monitors, so a virtual thread
+ * waiting on it unmounts from its carrier thread rather than pinning it.
+ *
+ * <p> The batch methods {@link #offerAll(Collection)} and
+ * {@link #drainTo(Collection, int)} move all of their elements under a single
+ * acquisition of their lock, and update the count once for the whole batch.
+ * {@link #contains(Object)} and {@link #clear()} take both locks. Since
+ * {@link #poll()} returns {@code null} when the queue is empty, {@code null}
+ * elements are not accepted.
+ *
+ * @author Samuel Adrian Kosasih
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Queue} would store.
+ * @version 1.1
+ * @see BlockingQueue
+ */
+public class TwoLockLinkedQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * The maximum number of elements in the queue.
+     */
+    private final int capacity;
+
+    /**
+     * The number of elements in the queue.
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * The dummy node before the head of the queue, guarded by the
+     * {@link #takeLock}.
+     */
+    private Node<E> head;
+
+    /**
+     * The last node of the queue, guarded by the {@link #putLock}.
+     */
+    private Node<E> last;
+
+    /**
+     * The lock taken by consumers.
+     */
+    private final ReentrantLock takeLock = new ReentrantLock();
+
+    /**
+     * The condition consumers wait on until the queue is non-empty.
+     */
+    private final Condition notEmpty = takeLock.newCondition();
+
+    /**
+     * The lock taken by producers.
+     */
+    private final ReentrantLock putLock = new ReentrantLock();
+
+    /**
+     * The condition producers wait on until the queue has space.
+     */
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * Default Constructor. Initializes an unbounded queue.
+     */
+    public TwoLockLinkedQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor. Initializes a queue bounded to {@code capacity} elements.
+     *
+     * @param capacity the maximum number of elements in the queue
+     * @throws IllegalArgumentException if {@code capacity} is less than
+     *                                  {@code 1}
+     */
+    public TwoLockLinkedQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity");
+        }
+        this.capacity = capacity;
+        head = new Node<>(null);
+        last = head;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, unless
+     * it is full.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException  if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean add(E e) {
+        if (!offer(e)) {
+            throw new IllegalStateException("queue is full");
+        }
+        return true;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, unless
+     * it is full.
+     *
+     * @param e the element to tbe inserted
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the queue is full
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean offer(E e) {
+        checkElement(e);
+        if (count.get() >= capacity) {
+            return false;
+        }
+        int c = -1;
+        putLock.lock();
+        try {
+            if (count.get() < capacity) {
+                c = enqueue(new Node<>(e));
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0) {
+            signalNotEmpty();
+        }
+        return c >= 0;
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, waiting
+     * for space to become available if it is full.
+     *
+     * @param e the element to tbe inserted
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public void put(E e) throws InterruptedException {
+        checkElement(e);
+        Node<E> node = new Node<>(e);
+        int c;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() >= capacity) {
+                notFull.await();
+            }
+            c = enqueue(node);
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Inserts the specified element {@code e} into the {@code Queue}, waiting
+     * up to the specified time for space to become available if it is full.
+     *
+     * @param e       the element to tbe inserted
+     * @param timeout how long to wait before giving up, in units of
+     *                {@code unit}
+     * @param unit    the unit of {@code timeout}
+     * @return {@code true} if the element is enqueued, or {@code false} if
+     * the time elapsed before space became available
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if {@code e} is {@code null}
+     * @since 1.1
+     */
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        checkElement(e);
+        Node<E> node = new Node<>(e);
+        long nanos = unit.toNanos(timeout);
+        int c;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            c = enqueue(node);
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    /**
+     * Inserts as many elements of {@code c} as there is space for into the
+     * {@code Queue} under a single acquisition of the {@code putLock}, in the
+     * order returned by the iterator of {@code c}.
+     *
+     * @param c the elements to be inserted
+     * @return the number of elements enqueued
+     * @throws NullPointerException if {@code c} contains a {@code null}
+     *                              element, in which case no element is
+     *                              enqueued
+     * @since 1.1
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int offerAll(Collection<? extends E> c) {
+        Object[] elements = c.toArray();
+        for (Object e : elements) {
+            checkElement(e);
+        }
+        int added = 0;
+        int before = -1;
+        putLock.lock();
+        try {
+            added = Math.min(elements.length, capacity - count.get());
+            for (int i = 0; i < added; i++) {
+                last.next = new Node<>((E) elements[i]);
+                last = last.next;
+            }
+            if (added > 0) {
+                before = count.getAndAdd(added);
+                if (before + added < capacity) {
+                    notFull.signal();
+                }
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (before == 0) {
+            signalNotEmpty();
+        }
+        return added;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will throw an exception.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E remove() {
+        E e = poll();
+        if (e == null) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return e;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed. If the {@code Queue} is empty, then this method
+     * will return {@code null}.
+     *
+     * @return the value of the element that was just dequeued
+     * @since 1.1
+     */
+    @Override
+    public E poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+        E e = null;
+        int c = -1;
+        takeLock.lock();
+        try {
+            if (count.get() > 0) {
+                e = dequeue();
+                c = count.getAndDecrement();
+                if (c > 1) {
+                    notEmpty.signal();
+                }
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == capacity) {
+            signalNotFull();
+        }
+        return e;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed, waiting for an element to become available if it
+     * is empty.
+     *
+     * @return the value of the element that was just dequeued
+     * @throws InterruptedException if interrupted while waiting
+     * @since 1.1
+     */
+    @Override
+    public E take() throws InterruptedException {
+        E e;
+        int c;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            e = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == capacity) {
+            signalNotFull();
+        }
+        return e;
+    }
+
+    /**
+     * Removes the head of the {@code Queue} and retrieves the value of the
+     * element just removed, waiting up to the specified time for an element
+     * to become available if it is empty.
+     *
+     * @param timeout how long to wait before giving up, in units of
+     *                {@code unit}
+     * @param unit    the unit of {@code timeout}
+     * @return the value of the element that was just dequeued, or
+     * {@code null} if the time elapsed before an element became available
+     * @throws InterruptedException if interrupted while waiting
+     * @since 1.1
+     */
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E e;
+        int c;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            e = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == capacity) {
+            signalNotFull();
+        }
+        return e;
+    }
+
+    /**
+     * Removes up to {@code maxElements} elements from the head of the
+     * {@code Queue} under a single acquisition of the {@code takeLock},
+     * adding them to {@code c} in the order they were dequeued.
+     *
+     * @param c           the collection to add the elements to
+     * @param maxElements the maximum number of elements to be dequeued
+     * @return the number of elements dequeued
+     * @since 1.1
+     */
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException("collection is null");
+        }
+        int removed = 0;
+        int before = -1;
+        takeLock.lock();
+        try {
+            int n = Math.min(maxElements, count.get());
+            try {
+                while (removed < n) {
+                    // only dequeues the element once c has accepted it
+                    c.add(head.next.element);
+                    dequeue();
+                    removed++;
+                }
+            } finally {
+                if (removed > 0) {
+                    before = count.getAndAdd(-removed);
+                    if (before - removed > 0) {
+                        notEmpty.signal();
+                    }
+                }
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (before == capacity) {
+            signalNotFull();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every element from the {@code Queue} under a single acquisition
+     * of the {@code takeLock}, adding them to {@code c} in the order they were
+     * dequeued.
+     *
+     * @param c the collection to add the elements to
+     * @return the number of elements dequeued
+     * @since 1.1
+     */
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will throw
+     * an exception.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @throws NoSuchElementException if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public E element() {
+        E e = peek();
+        if (e == null) {
+            throw new NoSuchElementException("queue is empty");
+        }
+        return e;
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the head of the
+     * {@code Queue}. If the {@code Queue} is empty, then this method will
+     * return {@code null}.
+     *
+     * @return the value of the element at the head of the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public E peek() {
+        if (count.get() == 0) {
+            return null;
+        }
+        takeLock.lock();
+        try {
+            return count.get() > 0 ? head.next.element : null;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * Indicates whether the {@code Queue} is currently storing any elements.
+     *
+     * @return {@code true} if the {@code Queue} is empty
+     * @since 1.1
+     */
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * Returns the number of elements currently in the {@code Queue}.
+     *
+     * @return the number of elements in the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    /**
+     * Returns the number of elements that can be inserted into the
+     * {@code Queue} without waiting.
+     *
+     * @return the remaining capacity of the {@code Queue}
+     * @since 1.1
+     */
+    @Override
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    /**
+     * Clears the {@code Queue} such that it is empty and ready to be used
+     * again.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void clear() {
+        putLock.lock();
+        takeLock.lock();
+        try {
+            head.next = null;
+            head.element = null;
+            last = head;
+            if (count.getAndSet(0) == capacity) {
+                notFull.signalAll();
+            }
+        } finally {
+            takeLock.unlock();
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * Indicates whether element {@code e} exists within the {@code Queue}.
+     *
+     * @param e the element to be searched for
+     * @return {@code true} if the element exists in the {@code Queue}
+     */
+    @Override
+    public boolean contains(E e) {
+        if (e == null) {
+            return false;
+        }
+        putLock.lock();
+        takeLock.lock();
+        try {
+            for (Node<E> node = head.next; node != null; node = node.next) {
+                if (Objects.equals(e, node.element)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            takeLock.unlock();
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * A private helper method to reject {@code null} elements.
+     *
+     * @param e the element to be checked
+     * @throws NullPointerException if {@code e} is {@code null}
+     */
+    private static void checkElement(Object e) {
+        if (e == null) {
+            throw new NullPointerException("null elements are not supported");
+        }
+    }
+
+    /**
+     * A private helper method to link a node after the last node while
+     * holding the {@code putLock}, waking up another producer if there is
+     * still space.
+     *
+     * @param node the node to be linked
+     * @return the number of elements before the node was linked
+     */
+    private int enqueue(Node<E> node) {
+        last.next = node;
+        last = node;
+        int c = count.getAndIncrement();
+        if (c + 1 < capacity) {
+            notFull.signal();
+        }
+        return c;
+    }
+
+    /**
+     * A private helper method to unlink the node after the head while holding
+     * the {@code takeLock}, making it the new dummy node.
+     *
+     * @return the element of the node unlinked
+     */
+    private E dequeue() {
+        Node<E> first = head.next;
+        head.next = null;
+        head = first;
+        E e = first.element;
+        first.element = null;
+        return e;
+    }
+
+    /**
+     * A private helper method for a producer to wake up a consumer, once the
+     * queue is no longer empty.
+     */
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * A private helper method for a consumer to wake up a producer, once the
+     * queue is no longer full.
+     */
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * This private static inner class is a node of the list, holding a single
+     * element.
+     *
+     * @param <E> the type of the element
+     */
+    private static final class Node<E> {
+
+        /**
+         * The element of the node, or {@code null} if the node is the dummy
+         */
+        private E element;
+
+        /**
+         * The next node, or {@code null} if this is the last node
+         */
+        private Node<E> next;
+
+        /**
+         * Constructor. Initializes the node with its element.
+         *
+         * @param element the element of the node
+         */
+        private Node(E element) {
+            this.element = element;
+        }
+    }
+}
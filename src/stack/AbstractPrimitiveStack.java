@@ -0,0 +1,137 @@
+package stack;
+
+import list.arraylist.GrowthPolicy;
+
+/**
+ * This abstract class provides a skeletal implementation to the
+ * primitive-specialized stacks, such as {@link IntStack} and
+ * {@link LongStack}.
+ *
+ * <p> These stacks mirror the methods of a {@link Stack}, but store their
+ * elements in an array of a primitive type instead of an array of objects,
+ * so that pushing and popping elements never boxes them. Once the array has
+ * grown to the deepest size the stack reaches, no method allocates anything,
+ * since {@link #clear()} keeps the array.
+ *
+ * <p> Since the type of the array differs between abstractions, the array
+ * itself and every method accessing it are left to the subclasses. This
+ * class only keeps track of the number of elements stored in the stack, and
+ * of the {@link GrowthPolicy} used to grow the array once it is fully filled.
+ *
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see Stack
+ * @see GrowthPolicy
+ */
+public abstract class AbstractPrimitiveStack {
+
+    /**
+     * A field to keep track of the number of elements currently stored in the
+     * stack.
+     */
+    protected int size;
+
+    /**
+     * The policy deciding the new capacity of the array once it is fully
+     * filled.
+     */
+    protected GrowthPolicy growthPolicy = GrowthPolicy.GEOMETRIC;
+
+    /**
+     * Returns the number of elements currently in the stack.
+     *
+     * @return the number of elements in the stack
+     * @since 1.1
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Indicates whether the stack has no elements currently stored in it.
+     *
+     * @return {@code true} if the stack is empty
+     * @since 1.1
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the {@link GrowthPolicy} deciding how the array grows once it
+     * is fully filled.
+     *
+     * @return the {@code GrowthPolicy} of the stack
+     * @since 1.1
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Replaces the {@link GrowthPolicy} deciding how the array grows once it
+     * is fully filled. The new policy only takes effect on the next growth.
+     *
+     * @param growthPolicy the new {@code GrowthPolicy}
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     * @since 1.1
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new NullPointerException("growth policy is null");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+
+    /**
+     * Grows the array, if necessary, such that it is able to store at least
+     * {@code minCapacity} elements without growing again.
+     *
+     * @param minCapacity the minimum capacity required
+     * @since 1.1
+     */
+    public abstract void ensureCapacity(int minCapacity);
+
+    /**
+     * Trims the capacity of the current array being used by the stack to
+     * remove excessive and unnecessary space.
+     *
+     * @since 1.1
+     */
+    public abstract void trimToSize();
+
+    /**
+     * Clears the stack such that it is empty and ready to be used again. The
+     * array is kept.
+     *
+     * @since 1.1
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Retrieves the capacity of the array currently being used by the stack.
+     *
+     * @return the length of the array
+     * @since 1.1
+     */
+    public abstract int capacity();
+
+    /**
+     * A protected helper method to grow the array, such that it is able to
+     * store at least {@code minCapacity} elements. The new capacity is decided
+     * by the {@link #growthPolicy}.
+     *
+     * @param minCapacity the minimum capacity required
+     * @throws IllegalStateException if the array cannot grow past
+     *                               {@link GrowthPolicy#MAXIMUM_CAPACITY}
+     * @since 1.1
+     */
+    protected void grow(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("array is fully filled");
+        }
+        ensureCapacity(growthPolicy.newCapacity(capacity(), minCapacity));
+    }
+}
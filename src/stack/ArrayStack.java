@@ -1,5 +1,8 @@
 package stack;
 
+import list.arraylist.GrowthPolicy;
+
+import java.util.Arrays;
 import java.util.EmptyStackException;
 import java.util.Objects;
 
@@ -11,13 +14,18 @@ import java.util.Objects;
  * slot after the last element of the array. Popping and retrieving the top of
  * the stack works in a similar fashion.
  *
- * <p> All methods run {@code O(1)} time, similar to the time complexity of
- * updating an array. Therefore, all methods run in {@code O(1)} time, with the
- * exception of the {@link #search(Object)} method, which depends on the
- * position of the element to be searched. However, an array-based
- * representation limits the capacity of elements that can be added to the
- * stack. In the current implementation, the capacity of the array is set to
- * {@code 1000}.
+ * <p> Once the array is full, it is replaced by a larger one, whose capacity
+ * is decided by a {@link GrowthPolicy}, {@link GrowthPolicy#GEOMETRIC} by
+ * default. Optionally, the array is halved again once the stack drops to a
+ * quarter of its capacity, but never below the capacity it was created with.
+ * The gap between the two thresholds keeps a stack whose size moves around a
+ * threshold from resizing on every operation. {@link #clear()} keeps the
+ * array, and only clears the slots in use.
+ *
+ * <p> Pushing runs in amortized {@code O(1)} time, and all other methods run
+ * in {@code O(1)} time, with the exception of the {@link #search(Object)}
+ * method, which depends on the position of the element to be searched, and
+ * the {@link #clear()} method, which depends on the size of the stack.
  *
  * @author Samuel Adrian Kosasih
  *
@@ -30,9 +38,9 @@ import java.util.Objects;
 public class ArrayStack<E> implements Stack<E> {
 
     /**
-     * The default maximum capacity the array can handle.
+     * The default initial capacity of the array.
      */
-    private final int MAXIMUM_CAPACITY = 1000;
+    public static final int DEFAULT_CAPACITY = 16;
 
     /**
      * An array used to represent the stack.
@@ -45,11 +53,27 @@ public class ArrayStack<E> implements Stack<E> {
     private int size;
 
     /**
-     * Default Constructor. Initializes the array to be used as the stack.
+     * The capacity the array was created with, below which it never shrinks.
+     */
+    private final int initialCapacity;
+
+    /**
+     * The policy deciding the capacity of the array once it is full.
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * An indicator whether the array shrinks once the stack drops to a
+     * quarter of its capacity.
+     */
+    private final boolean shrink;
+
+    /**
+     * Default Constructor. Initializes the array to be used as the stack with
+     * a capacity of {@code 16}.
      */
     public ArrayStack() {
-        stack = (E[]) new Object[MAXIMUM_CAPACITY];
-        size = 0;
+        this(DEFAULT_CAPACITY);
     }
 
     /**
@@ -57,16 +81,39 @@ public class ArrayStack<E> implements Stack<E> {
      * specified capacity.
      *
      * <p> If {@code capacity} is less than {@code 1}, then the array
-     * initialized will be set to its default capacity, {@code 1000}.
+     * initialized will be set to its default capacity, {@code 16}.
      *
      * @param capacity the capacity of the array when initialized
      */
     public ArrayStack(int capacity) {
-        if (capacity < 1) {
-            stack = (E[]) new Object[MAXIMUM_CAPACITY];
-        } else {
-            stack = (E[]) new Object[capacity];
+        this(capacity, GrowthPolicy.GEOMETRIC, false);
+    }
+
+    /**
+     * Constructor. Initializes the array to be used as the stack with the
+     * specified capacity and {@link GrowthPolicy}, and indicates whether the
+     * array shrinks back as the stack empties.
+     *
+     * <p> If {@code capacity} is less than {@code 1}, then the array
+     * initialized will be set to its default capacity, {@code 16}.
+     *
+     * @param capacity     the capacity of the array when initialized
+     * @param growthPolicy the policy deciding the capacity of the array once
+     *                     it is full
+     * @param shrink       {@code true} if the array should be halved once the
+     *                     stack drops to a quarter of its capacity
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     * @since 1.1
+     */
+    public ArrayStack(int capacity, GrowthPolicy growthPolicy,
+                      boolean shrink) {
+        if (growthPolicy == null) {
+            throw new NullPointerException("growth policy is null");
         }
+        initialCapacity = capacity < 1 ? DEFAULT_CAPACITY : capacity;
+        this.growthPolicy = growthPolicy;
+        this.shrink = shrink;
+        stack = (E[]) new Object[initialCapacity];
         size = 0;
     }
 
@@ -74,14 +121,17 @@ public class ArrayStack<E> implements Stack<E> {
      * Pushes the element {@code e} to the top of the stack.
      *
      * @param e the element to be pushed into the stack
-     * @throws IllegalStateException if the array being used as the stack is at
-     *                               full capacity
+     * @throws IllegalStateException if the array cannot grow past
+     *                               {@link GrowthPolicy#MAXIMUM_CAPACITY}
      * @since 1.1
      */
     @Override
     public void push(E e) {
         if (stack.length == size) {
-            throw new IllegalStateException("array is fully filled");
+            if (size == GrowthPolicy.MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("array is fully filled");
+            }
+            resize(growthPolicy.newCapacity(size, size + 1));
         }
         stack[size] = e;
         size++;
@@ -102,6 +152,10 @@ public class ArrayStack<E> implements Stack<E> {
         E e = stack[size - 1];
         stack[size - 1] = null;
         size--;
+        if (shrink && size < stack.length >> 2
+                && stack.length > initialCapacity) {
+            resize(Math.max(stack.length >> 1, initialCapacity));
+        }
         return e;
     }
 
@@ -171,13 +225,60 @@ public class ArrayStack<E> implements Stack<E> {
 
     /**
      * Clears the {@code Stack} such that it is empty and ready to be
-     * used again.
+     * used again. The array is kept, and only the slots in use are cleared.
      *
      * @since 1.1
      */
     @Override
     public void clear() {
-        stack = (E[]) new Object[MAXIMUM_CAPACITY];
+        Arrays.fill(stack, 0, size, null);
         size = 0;
     }
+
+    /**
+     * Retrieves the capacity of the array currently being used by the stack.
+     *
+     * @return the length of the array
+     * @since 1.1
+     */
+    public int capacity() {
+        return stack.length;
+    }
+
+    /**
+     * Grows the array, if necessary, such that it is able to store at least
+     * {@code minCapacity} elements without growing again.
+     *
+     * @param minCapacity the minimum capacity required
+     * @since 1.1
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > stack.length) {
+            resize(growthPolicy.newCapacity(stack.length, minCapacity));
+        }
+    }
+
+    /**
+     * Trims the array to the size of the stack, but never below the capacity
+     * it was created with.
+     *
+     * @since 1.1
+     */
+    public void trimToSize() {
+        int capacity = Math.max(size, initialCapacity);
+        if (capacity < stack.length) {
+            resize(capacity);
+        }
+    }
+
+    /**
+     * A private helper method to replace the array with one of
+     * {@code capacity} elements, copying the elements of the stack.
+     *
+     * @param capacity the capacity of the new array, no less than
+     *                 {@link #size}
+     */
+    private void resize(int capacity) {
+        stack = Arrays.copyOf(stack, capacity);
+    }
 }
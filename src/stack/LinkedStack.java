@@ -1,23 +1,28 @@
 package stack;
 
-import list.linkedlist.SinglyLinkedList;
-
+import java.util.Arrays;
 import java.util.EmptyStackException;
+import java.util.Objects;
 
 /**
  * This class is an implementation of the {@link Stack} interface.
  *
- * <p> The {code LinkedStack} class uses a {@link SinglyLinkedList} to represent
- * a stack. Every time an element is pushed onto the stack, the element will be
- * added to the {@link SinglyLinkedList#head head} of the list, in other words
- * the top of the stack. Popping and retrieving the top of the stack works in a
- * similar fashion.
+ * <p> The {@code LinkedStack} class uses a linked list of chunks to represent
+ * a stack, where every chunk is an array of {@link #CHUNK_SIZE} elements. The
+ * stack keeps a direct reference to the chunk at the top, along with the
+ * number of elements in it. Pushing an element stores it in the top chunk,
+ * and only links a new chunk on top once the current one is full. Popping
+ * works in a similar fashion, unlinking the top chunk once it is empty.
+ *
+ * <p> Compared to a node per element, chunks allocate one object per
+ * {@link #CHUNK_SIZE} elements, and keep neighbouring elements next to each
+ * other in memory. The last chunk unlinked is kept aside and reused by the
+ * next push that needs a chunk, so that pushing and popping around the edge
+ * of a chunk does not allocate.
  *
- * <p> All methods run in the best-case time complexity equivalent to the
- * {@link SinglyLinkedList} class. This is because the stack is based on the
- * head of the list, where the iteration begins. Therefore, all methods run in
- * {@code O(1)} time, with the exception of the {@link #search(Object)} method,
- * which depends on the position of the element to be searched.
+ * <p> All methods run in {@code O(1)} time, with the exception of the
+ * {@link #search(Object)} method, which depends on the position of the
+ * element to be searched.
  *
  * @author Samuel Adrian Kosasih
  *
@@ -25,20 +30,43 @@ import java.util.EmptyStackException;
  *            {@code Stack} would store.
  * @version 1.1
  * @see Stack
- * @see SinglyLinkedList
  */
+@SuppressWarnings({"unchecked"})
 public class LinkedStack<E> implements Stack<E> {
 
     /**
-     * The reference to the stack
+     * The number of elements stored in each chunk.
+     */
+    public static final int CHUNK_SIZE = 64;
+
+    /**
+     * The chunk at the top of the stack
+     */
+    private Chunk<E> head;
+
+    /**
+     * The number of elements stored in the {@link #head} chunk
+     */
+    private int top;
+
+    /**
+     * The number of elements currently stored in the stack
+     */
+    private int size;
+
+    /**
+     * An empty chunk kept aside to be reused, or {@code null} if there is
+     * none
      */
-    private final SinglyLinkedList<E> stack;
+    private Chunk<E> spare;
 
     /**
      * Default Constructor. Initializes the stack being used in this object.
      */
     public LinkedStack() {
-        stack = new SinglyLinkedList<>();
+        head = new Chunk<>();
+        top = 0;
+        size = 0;
     }
 
     /**
@@ -49,7 +77,15 @@ public class LinkedStack<E> implements Stack<E> {
      */
     @Override
     public void push(E e) {
-        stack.add(0, e);
+        if (top == CHUNK_SIZE) {
+            Chunk<E> chunk = spare != null ? spare : new Chunk<>();
+            spare = null;
+            chunk.next = head;
+            head = chunk;
+            top = 0;
+        }
+        head.elements[top++] = e;
+        size++;
     }
 
     /**
@@ -64,7 +100,16 @@ public class LinkedStack<E> implements Stack<E> {
         if (isEmpty()) {
             throw new EmptyStackException();
         }
-        return stack.remove(0);
+        E e = (E) head.elements[--top];
+        head.elements[top] = null;
+        size--;
+        if (top == 0 && head.next != null) {
+            spare = head;
+            head = head.next;
+            spare.next = null;
+            top = CHUNK_SIZE;
+        }
+        return e;
     }
 
     /**
@@ -79,7 +124,7 @@ public class LinkedStack<E> implements Stack<E> {
         if (isEmpty()) {
             throw new EmptyStackException();
         }
-        return stack.get(0);
+        return (E) head.elements[top - 1];
     }
 
     /**
@@ -90,7 +135,7 @@ public class LinkedStack<E> implements Stack<E> {
      */
     @Override
     public int size() {
-        return stack.size();
+        return size;
     }
 
     /**
@@ -101,7 +146,7 @@ public class LinkedStack<E> implements Stack<E> {
      */
     @Override
     public boolean isEmpty() {
-        return stack.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -122,7 +167,18 @@ public class LinkedStack<E> implements Stack<E> {
         if (isEmpty()) {
             throw new EmptyStackException();
         }
-        return stack.indexOf(e);
+        int distance = 0;
+        int count = top;
+        for (Chunk<E> chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = count - 1; i >= 0; i--) {
+                if (Objects.equals(e, chunk.elements[i])) {
+                    return distance;
+                }
+                distance++;
+            }
+            count = CHUNK_SIZE;
+        }
+        return -1;
     }
 
     /**
@@ -133,6 +189,29 @@ public class LinkedStack<E> implements Stack<E> {
      */
     @Override
     public void clear() {
-        stack.clear();
+        Arrays.fill(head.elements, 0, top, null);
+        head.next = null;
+        top = 0;
+        size = 0;
+    }
+
+    /**
+     * This private static inner class is a chunk of the stack, holding up to
+     * {@link #CHUNK_SIZE} elements, with the element pushed last at the
+     * highest index.
+     *
+     * @param <E> the type of elements in the stack
+     */
+    private static final class Chunk<E> {
+
+        /**
+         * The elements stored in the chunk
+         */
+        private final Object[] elements = new Object[CHUNK_SIZE];
+
+        /**
+         * The chunk below this one, or {@code null} if this is the bottom
+         */
+        private Chunk<E> next;
     }
 }
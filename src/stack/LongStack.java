@@ -0,0 +1,196 @@
+package stack;
+
+import list.arraylist.GrowthPolicy;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+
+/**
+ * This class is a primitive-specialized sibling of the {@link ArrayStack},
+ * storing {@code long} elements.
+ *
+ * <p> A {@code LongStack} offers the same methods as a {@link Stack}, only
+ * taking and returning {@code long} values instead of {@link Long} objects.
+ * Elements are stored directly in a {@code long[]}, so that every element
+ * only costs {@code 8} bytes and is never boxed. This makes it suited
+ * to iterative traversals pushing indices, which would otherwise allocate a
+ * wrapper object for every index pushed.
+ *
+ * <p> Pushing runs in amortized {@code O(1)} time, and all other methods run
+ * in {@code O(1)} time, with the exception of the {@link #search(long)}
+ * method, which depends on the position of the element to be searched.
+ *
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see ArrayStack
+ * @see AbstractPrimitiveStack
+ */
+public class LongStack extends AbstractPrimitiveStack {
+
+    /**
+     * An array storing elements of type {@code long}.
+     */
+    private long[] stack;
+
+    /**
+     * Default Constructor. Initializes the array to be used as the stack with
+     * a capacity of {@code 16}.
+     */
+    public LongStack() {
+        this(ArrayStack.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor. Initializes the array to be used as the stack with the
+     * specified capacity.
+     *
+     * <p> If {@code capacity} is less than {@code 1}, then the array
+     * initialized will be set to its default capacity, {@code 16}.
+     *
+     * @param capacity the capacity of the array when initialized
+     */
+    public LongStack(int capacity) {
+        stack = new long[capacity < 1 ? ArrayStack.DEFAULT_CAPACITY :
+                capacity];
+        size = 0;
+    }
+
+    /**
+     * Constructor. Initializes the array to be used as the stack with the
+     * specified capacity, which grows according to {@code growthPolicy} once
+     * it is fully filled.
+     *
+     * @param capacity     the capacity of the array when initialized
+     * @param growthPolicy the policy deciding how the array grows
+     * @throws NullPointerException if {@code growthPolicy} is {@code null}
+     */
+    public LongStack(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity);
+        setGrowthPolicy(growthPolicy);
+    }
+
+    /**
+     * Pushes the element {@code e} to the top of the stack.
+     *
+     * @param e the element to be pushed into the stack
+     * @throws IllegalStateException if the array cannot grow past
+     *                               {@link GrowthPolicy#MAXIMUM_CAPACITY}
+     * @since 1.1
+     */
+    public void push(long e) {
+        if (size == stack.length) {
+            grow(size + 1);
+        }
+        stack[size++] = e;
+    }
+
+    /**
+     * Retrieves and removes the element at the top of the stack.
+     *
+     * @return the element at the top of the stack
+     * @throws EmptyStackException if the stack has no elements currently stored
+     * @since 1.1
+     */
+    public long popLong() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return stack[--size];
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the top of the stack.
+     *
+     * @return the element at the top of the stack
+     * @throws EmptyStackException if the stack has no elements currently stored
+     * @since 1.1
+     */
+    public long peekLong() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return stack[size - 1];
+    }
+
+    /**
+     * Retrieves the distance of element {@code e} from the top of the stack.
+     * Like {@link ArrayStack#search(Object)}, the stack is searched from the
+     * bottom up, so the deepest occurrence of {@code e} is found.
+     *
+     * <p> The method will return {@code -1} if {@code e} does not exist.
+     *
+     * @param e the element to be searched
+     * @return the distance of {@code e} from the top of the stack
+     * @throws EmptyStackException if the stack has no elements currently stored
+     * @since 1.1
+     */
+    public int search(long e) {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        for (int i = 0; i < size; i++) {
+            if (stack[i] == e) {
+                return size - i - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Grows the array, if necessary, such that it is able to store at least
+     * {@code minCapacity} elements without growing again.
+     *
+     * @param minCapacity the minimum capacity required
+     * @since 1.1
+     */
+    @Override
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > stack.length) {
+            stack = Arrays.copyOf(stack, minCapacity);
+        }
+    }
+
+    /**
+     * Trims the capacity of the current array being used by the stack to
+     * remove excessive and unnecessary space.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void trimToSize() {
+        if (size < stack.length) {
+            stack = Arrays.copyOf(stack, size);
+        }
+    }
+
+    /**
+     * Retrieves the capacity of the array currently being used by the stack.
+     *
+     * @return the length of the array
+     * @since 1.1
+     */
+    @Override
+    public int capacity() {
+        return stack.length;
+    }
+
+    /**
+     * Provides a {@code String} representation to the whole stack, from the
+     * bottom to the top, using the following format:
+     * <blockquote>{@code [a1 a2 a3 a4 ... an]}</blockquote>
+     *
+     * @return a {@code String} consisting of all the elements currently
+     * stored in the stack
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                str.append(" ");
+            }
+            str.append(stack[i]);
+        }
+        return str.append("]").toString();
+    }
+}
@@ -0,0 +1,307 @@
+package stack;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.EmptyStackException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class is an implementation of the {@link Stack} interface, safe to be
+ * shared between any number of threads without any locking.
+ *
+ * <p> The {@code TreiberStack} class is a Treiber stack: a singly linked list
+ * of immutable nodes, with a reference to the node at the top. Pushing an
+ * element links a new node to the current top, then swings the top to it with
+ * a compare-and-set, and popping an element swings the top to the next node
+ * the same way. If another thread changed the top in the meantime, the
+ * compare-and-set fails and the operation starts over, so a thread suspended
+ * in the middle of an operation never prevents other threads from completing
+ * theirs. Every node records the size of the stack it is the top of, so that
+ * {@link #size()} is exact and runs in {@code O(1)} time.
+ *
+ * <p> Under high contention, every thread competes for the same top, and
+ * most compare-and-sets fail. Optionally, a thread whose compare-and-set
+ * fails backs off to an elimination array instead of retrying at once: a
+ * pushing thread offers its node in a random slot of the array for a short
+ * while, and a popping thread looks for a node offered in a random slot. When
+ * the two meet, the push and the pop cancel each other out without touching
+ * the top at all, as if the element had been pushed and popped right away.
+ *
+ * <p> {@link #search(Object)} goes through the stack as it was when the
+ * search started. All other methods run in {@code O(1)} time, if not slowed
+ * down by other threads.
+ *
+ * @author Samuel Adrian Kosasih
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Stack} would store.
+ * @version 1.1
+ * @see Stack
+ */
+public class TreiberStack<E> implements Stack<E> {
+
+    /**
+     * The number of times a pushing thread checks whether its node has been
+     * taken, before withdrawing it from the elimination array.
+     */
+    private static final int ELIMINATION_SPINS = 64;
+
+    /**
+     * A handle to the {@link #top} field.
+     */
+    private static final VarHandle TOP;
+
+    /**
+     * A handle to the elements of the {@link #slots} array.
+     */
+    private static final VarHandle SLOT =
+            MethodHandles.arrayElementVarHandle(Node[].class);
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(TreiberStack.class,
+                    "top", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The node at the top of the stack, or {@code null} if it is empty.
+     */
+    private volatile Node<E> top;
+
+    /**
+     * The elimination array, or {@code null} if elimination is disabled.
+     */
+    private final Node<E>[] slots;
+
+    /**
+     * Default Constructor. Initializes an empty stack without elimination.
+     */
+    public TreiberStack() {
+        this(0);
+    }
+
+    /**
+     * Constructor. Initializes an empty stack with an elimination array of
+     * the specified number of slots. A few slots per pair of threads
+     * contending for the stack are usually enough.
+     *
+     * @param eliminationSlots the number of slots in the elimination array,
+     *                         or {@code 0} to disable elimination
+     * @throws IllegalArgumentException if {@code eliminationSlots} is
+     *                                  negative
+     * @since 1.1
+     */
+    @SuppressWarnings("unchecked")
+    public TreiberStack(int eliminationSlots) {
+        if (eliminationSlots < 0) {
+            throw new IllegalArgumentException("Invalid number of slots");
+        }
+        slots = eliminationSlots == 0 ? null : new Node[eliminationSlots];
+    }
+
+    /**
+     * Pushes the element {@code e} to the top of the stack.
+     *
+     * @param e the element to be pushed into the stack
+     * @since 1.1
+     */
+    @Override
+    public void push(E e) {
+        while (true) {
+            Node<E> t = top;
+            Node<E> node = new Node<>(e, t);
+            if (TOP.compareAndSet(this, t, node) || eliminatePush(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes the element at the top of the stack.
+     *
+     * @return the element at the top of the stack
+     * @throws EmptyStackException if the stack has no elements currently stored
+     * @since 1.1
+     */
+    @Override
+    public E pop() throws EmptyStackException {
+        while (true) {
+            Node<E> t = top;
+            if (t == null) {
+                throw new EmptyStackException();
+            }
+            if (TOP.compareAndSet(this, t, t.next)) {
+                return t.element;
+            }
+            Node<E> node = eliminatePop();
+            if (node != null) {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Retrieves, but does not remove, the element at the top of the stack.
+     *
+     * @return the element at the top of the stack
+     * @throws EmptyStackException if the stack has no elements currently stored
+     * @since 1.1
+     */
+    @Override
+    public E peek() {
+        Node<E> t = top;
+        if (t == null) {
+            throw new EmptyStackException();
+        }
+        return t.element;
+    }
+
+    /**
+     * Returns the number of elements currently in the stack.
+     *
+     * @return the number of elements in the stack
+     * @since 1.1
+     */
+    @Override
+    public int size() {
+        Node<E> t = top;
+        return t == null ? 0 : t.size;
+    }
+
+    /**
+     * Indicates whether the stack has no elements currently stored in it.
+     *
+     * @return {@code true} if the stack is empty
+     * @since 1.1
+     */
+    @Override
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    /**
+     * Retrieves the distance of element {@code e} from the top of the stack,
+     * as it was when the search started. Like
+     * {@link ArrayStack#search(Object)}, the deepest occurrence of {@code e}
+     * is found, so the whole stack is always gone through.
+     *
+     * <p> The method will return {@code -1} if {@code e} does not exist.
+     *
+     * <p> This method uses the {@link Object#equals(Object)} method to check
+     * for equivalent elements.
+     *
+     * @param e the element to be searched
+     * @return the distance of {@code e} from the top of the stack
+     * @throws EmptyStackException if the stack has no elements currently stored
+     * @since 1.1
+     */
+    @Override
+    public int search(E e) throws EmptyStackException {
+        Node<E> t = top;
+        if (t == null) {
+            throw new EmptyStackException();
+        }
+        int distance = -1;
+        for (Node<E> node = t; node != null; node = node.next) {
+            if (Objects.equals(e, node.element)) {
+                distance = t.size - node.size;
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * Clears the {@code Stack} such that it is empty and ready to be
+     * used again.
+     *
+     * @since 1.1
+     */
+    @Override
+    public void clear() {
+        top = null;
+    }
+
+    /**
+     * A private helper method for a pushing thread to offer its node in a
+     * random slot of the elimination array, and wait for a popping thread to
+     * take it.
+     *
+     * @param node the node to be pushed
+     * @return {@code true} if a popping thread took the node
+     */
+    private boolean eliminatePush(Node<E> node) {
+        if (slots == null) {
+            return false;
+        }
+        int i = ThreadLocalRandom.current().nextInt(slots.length);
+        if (!SLOT.compareAndSet(slots, i, null, node)) {
+            return false;
+        }
+        for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+            if (SLOT.getAcquire(slots, i) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // if withdrawing the node fails, a popping thread took it just now
+        return !SLOT.compareAndSet(slots, i, node, null);
+    }
+
+    /**
+     * A private helper method for a popping thread to take a node offered in
+     * a random slot of the elimination array.
+     *
+     * @return the node taken, or {@code null} if there was none
+     */
+    @SuppressWarnings("unchecked")
+    private Node<E> eliminatePop() {
+        if (slots == null) {
+            return null;
+        }
+        int i = ThreadLocalRandom.current().nextInt(slots.length);
+        Node<E> node = (Node<E>) SLOT.getAcquire(slots, i);
+        if (node != null && SLOT.compareAndSet(slots, i, node, null)) {
+            return node;
+        }
+        return null;
+    }
+
+    /**
+     * This private static inner class is an immutable node of the stack.
+     *
+     * @param <E> the type of the element
+     */
+    private static final class Node<E> {
+
+        /**
+         * The element of the node
+         */
+        private final E element;
+
+        /**
+         * The node below, or {@code null} if this is the bottom node
+         */
+        private final Node<E> next;
+
+        /**
+         * The size of the stack whose top is this node
+         */
+        private final int size;
+
+        /**
+         * Constructor. Initializes a node on top of the specified node.
+         *
+         * @param element the element of the node
+         * @param next    the node below, or {@code null} if there is none
+         */
+        private Node(E element, Node<E> next) {
+            this.element = element;
+            this.next = next;
+            this.size = next == null ? 1 : next.size + 1;
+        }
+    }
+}
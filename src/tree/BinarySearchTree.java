@@ -1,5 +1,9 @@
 package tree;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 /**
  * This class is an implementation of the {@link Tree} interface.
  *
@@ -20,6 +24,21 @@ package tree;
  * class requires that its elements extend the {@link Comparable} interface, in
  * order to specify a specific form of comparison.</p>
  *
+ * <p> Adding, removing and searching for an element walk down the
+ * {@code Tree} with a loop, comparing the element once per level, so that
+ * none of them is limited by the depth of the {@code Tree}. Every node keeps
+ * a link to its parent.</p>
+ *
+ * <p> Every node also keeps the number of nodes in its subtree, such that
+ * {@link #select(int)}, {@link #rank(Comparable)} and
+ * {@link #countInRange(Comparable, Comparable)} answer order statistics by
+ * walking down a single path, in time proportional to the height of the
+ * {@code Tree}.</p>
+ *
+ * <p> {@link #range(Comparable, Comparable)} walks through the elements
+ * within a range in ascending order, lazily, by following the parent links
+ * from one node to the next.</p>
+ *
  * @param <E> generic type parameter determining the type of object the
  *            {@code Tree} would store.
  * @author Samuel Adrian Kosasih
@@ -28,6 +47,32 @@ package tree;
  */
 public class BinarySearchTree<E extends Comparable<E>> extends BinaryTree<E> {
 
+    /**
+     * This protected inner class defines a node which keeps the number of
+     * nodes in the subtree rooted at it.
+     *
+     * @param <E> generic type parameter determining the type of object the
+     *            {@code BinarySearchTree} would store.
+     */
+    protected static class SizedNode<E> extends Node<E> {
+
+        /**
+         * The number of nodes in the subtree rooted at this {@code Node},
+         * including itself.
+         */
+        int subtreeSize;
+
+        /**
+         * Constructor. Initializes the node's element to {@code e}.
+         *
+         * @param e the element to be stored by the {@code Node}.
+         */
+        public SizedNode(E e) {
+            super(e);
+            subtreeSize = 1;
+        }
+    }
+
     /**
      * Default Constructor.Initializes the root of the {@code Tree}.
      */
@@ -40,7 +85,8 @@ public class BinarySearchTree<E extends Comparable<E>> extends BinaryTree<E> {
      * {@code e}.
      */
     public BinarySearchTree(E e) {
-        super(e);
+        super();
+        add(e);
     }
 
     /**
@@ -127,29 +173,52 @@ public class BinarySearchTree<E extends Comparable<E>> extends BinaryTree<E> {
      * @since 1.1
      */
     public boolean add(E e) {
-        root = add(e, root);
+        insert(e);
         return true;
     }
 
     /**
-     * A private helper method to assist the {@link #add(Comparable)} method in
-     * searching for an appropriate position for the element {@code e}.
+     * A protected helper method to assist the {@link #add(Comparable)} method
+     * in placing the element {@code e} in a new leaf. Equal elements are
+     * placed in the right subtree.
      *
      * @param e the new element to be added
-     * @param cur the node it is currently pointing to
-     * @return references to the nodes it is traversing through
+     * @return the node just added
      * @since 1.1
      */
-    private Node<E> add(E e, Node<E> cur) {
-        if (cur == null) {
-            return new Node<>(e);
+    protected Node<E> insert(E e) {
+        Node<E> parent = null;
+        Node<E> cur = root;
+        int cmp = 0;
+        while (cur != null) {
+            parent = cur;
+            ((SizedNode<E>) cur).subtreeSize++;
+            cmp = e.compareTo(cur.element);
+            cur = cmp >= 0 ? cur.right : cur.left;
         }
-        if (e.compareTo(cur.element) >= 0) {
-            cur.right = add(e, cur.right);
+        Node<E> node = newNode(e);
+        node.parent = parent;
+        if (parent == null) {
+            root = node;
+        } else if (cmp >= 0) {
+            parent.right = node;
         } else {
-            cur.left = add(e, cur.left);
+            parent.left = node;
         }
-        return cur;
+        size++;
+        return node;
+    }
+
+    /**
+     * A protected helper method to create the node storing the new element
+     * {@code e}, such that subclasses are able to store more in every node.
+     *
+     * @param e the element to be stored
+     * @return a new {@code Node}
+     * @since 1.1
+     */
+    protected Node<E> newNode(E e) {
+        return new SizedNode<>(e);
     }
 
     /**
@@ -189,50 +258,226 @@ public class BinarySearchTree<E extends Comparable<E>> extends BinaryTree<E> {
     /**
      * Removes the element {@code e} from the {@code Tree}.
      *
-     * <p> If the element {@code e} is a parent, then all of its children will
-     * be removed as well.
+     * <p> If the element {@code e} is a parent, then it is replaced by the
+     * next greatest element, such that its children are kept.
      *
      * @param e the element to be removed
      * @return {@code true} if {@code e} is removed successfully
+     * @throws IllegalStateException if tree has no root
      * @since 1.1
      */
     @Override
     public boolean remove(E e) {
-        if (root == null) {
-            throw new IllegalStateException("tree has no root");
+        Node<E> n = findNode(e, root);
+        if (n == null) {
+            return false;
+        }
+        if (n.left != null && n.right != null) {
+            Node<E> s = successor(n);
+            n.element = s.element;
+            n = s;
         }
-        return remove(e, root) != null;
+        shrinkPath(n);
+        replace(n, n.left != null ? n.left : n.right);
+        n.parent = null;
+        size--;
+        return true;
     }
 
     /**
-     * A private helper method to assist the {@link #remove(Comparable)} method
-     * in removing the element {@code e} from the {@code Tree} and ensuring it
-     * maintains the Binary Search Tree property.
+     * Retrieves the element at the position {@code index} in ascending
+     * order, such that {@code select(0)} is the smallest element. Runtime
+     * Complexity: {@code O(h)}, where {@code h} is the height of the
+     * {@code Tree}.
      *
-     * @param e the element to be removed
-     * @param cur the node it is currently pointing to
-     * @return references to the nodes it is traversing through
+     * @param index the position of the element in ascending order
+     * @return the element at the position {@code index}
+     * @throws IndexOutOfBoundsException if an invalid {@code index} has been
+     *                                   specified
      * @since 1.1
      */
-    private Node<E> remove(E e, Node<E> cur) {
-        if (cur == null) {
-            return null;
+    public E select(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Invalid index");
         }
-        if (e.compareTo(cur.element) < 0) {
-            cur.left = remove(e, cur.left);
-        } else if (e.compareTo(cur.element) > 0) {
-            cur.right = remove(e, cur.right);
-        } else {
-            if (cur.left == null) {
-                return cur.right;
-            } else if (cur.right == null) {
-                return cur.left;
+        Node<E> n = root;
+        while (true) {
+            int left = subtreeSize(n.left);
+            if (index < left) {
+                n = n.left;
+            } else if (index > left) {
+                index -= left + 1;
+                n = n.right;
             } else {
-                cur.element = minValue();
-                cur.right = remove(cur.element, cur.right);
+                return n.element;
             }
         }
-        return cur;
+    }
+
+    /**
+     * Retrieves the number of elements less than {@code e}, which is also
+     * the position at which {@code e} would be in ascending order. Runtime
+     * Complexity: {@code O(h)}, where {@code h} is the height of the
+     * {@code Tree}.
+     *
+     * @param e the element to be ranked
+     * @return the number of elements less than {@code e}
+     * @since 1.1
+     */
+    public int rank(E e) {
+        return countBelow(e, false);
+    }
+
+    /**
+     * Retrieves the number of elements between {@code from}, inclusive, and
+     * {@code to}, inclusive. If {@code from} is greater than {@code to}, then
+     * this method will return {@code 0}. Runtime Complexity: {@code O(h)},
+     * where {@code h} is the height of the {@code Tree}.
+     *
+     * @param from the lowest element to be counted
+     * @param to   the highest element to be counted
+     * @return the number of elements within the range
+     * @since 1.1
+     */
+    public int countInRange(E from, E to) {
+        if (from.compareTo(to) > 0) {
+            return 0;
+        }
+        return countBelow(to, true) - countBelow(from, false);
+    }
+
+    /**
+     * A private helper method to count the elements less than {@code e}, or
+     * no greater than {@code e} if {@code inclusive} is {@code true}.
+     *
+     * @param e         the element to be compared with
+     * @param inclusive {@code true} to count the elements equal to {@code e}
+     * @return the number of elements counted
+     */
+    private int countBelow(E e, boolean inclusive) {
+        int count = 0;
+        Node<E> n = root;
+        while (n != null) {
+            int cmp = e.compareTo(n.element);
+            if (cmp > 0 || (inclusive && cmp == 0)) {
+                count += subtreeSize(n.left) + 1;
+                n = n.right;
+            } else {
+                n = n.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * A protected helper method to retrieve the number of nodes in the
+     * subtree rooted at the node {@code n}.
+     *
+     * @param n the root of the subtree, or {@code null} if it is empty
+     * @return the number of nodes in the subtree
+     * @since 1.1
+     */
+    protected static int subtreeSize(Node<?> n) {
+        return n == null ? 0 : ((SizedNode<?>) n).subtreeSize;
+    }
+
+    /**
+     * A protected helper method to account for the node {@code n} about to
+     * be unlinked, by decrementing the subtree size of each of its
+     * ancestors.
+     *
+     * @param n the node about to be unlinked
+     * @since 1.1
+     */
+    protected void shrinkPath(Node<E> n) {
+        for (Node<E> p = n.parent; p != null; p = p.parent) {
+            ((SizedNode<E>) p).subtreeSize--;
+        }
+    }
+
+    /**
+     * Returns an iterator over the elements between {@code from}, inclusive,
+     * and {@code to}, inclusive, in ascending order. If {@code from} is
+     * greater than {@code to}, then the iterator is empty.
+     *
+     * <p> The iterator is lazy: it walks down to the first element no less
+     * than {@code from} once, then follows the parent links from one node to
+     * the next, stopping at the first element greater than {@code to}. It
+     * holds no more than the next node, so it takes {@code O(h + k)} time to
+     * go through {@code k} elements, in a {@code Tree} of height {@code h},
+     * and no extra space. The {@code Tree} must not be changed while it is
+     * being iterated.
+     *
+     * @param from the lowest element to be returned
+     * @param to   the highest element to be returned
+     * @return an {@code Iterator} over the elements within the range
+     * @since 1.1
+     */
+    public Iterator<E> range(E from, E to) {
+        Node<E> first = null;
+        if (from.compareTo(to) <= 0) {
+            Node<E> n = root;
+            while (n != null) {
+                if (from.compareTo(n.element) <= 0) {
+                    first = n;
+                    n = n.left;
+                } else {
+                    n = n.right;
+                }
+            }
+        }
+        return new RangeIterator(first, to);
+    }
+
+    /**
+     * A protected helper method to retrieve the node storing the next
+     * element after the node {@code n} in ascending order.
+     *
+     * <p> If {@code n} has a right child, then this is the leftmost node of
+     * its right subtree. Otherwise, this is the nearest ancestor whose left
+     * subtree holds {@code n}.
+     *
+     * @param n the node to be queried
+     * @return the next node in ascending order, or {@code null} if {@code n}
+     * stores the greatest element
+     * @since 1.1
+     */
+    protected Node<E> successor(Node<E> n) {
+        if (n.right != null) {
+            Node<E> s = n.right;
+            while (s.left != null) {
+                s = s.left;
+            }
+            return s;
+        }
+        Node<E> p = n.parent;
+        while (p != null && n == p.right) {
+            n = p;
+            p = p.parent;
+        }
+        return p;
+    }
+
+    /**
+     * A protected helper method to link the node {@code y} to the parent of
+     * the node {@code x}, in place of {@code x}.
+     *
+     * @param x the node to be replaced
+     * @param y the node taking its place, or {@code null} to unlink {@code x}
+     * @since 1.1
+     */
+    protected void replace(Node<E> x, Node<E> y) {
+        Node<E> p = x.parent;
+        if (y != null) {
+            y.parent = p;
+        }
+        if (p == null) {
+            root = y;
+        } else if (p.left == x) {
+            p.left = y;
+        } else {
+            p.right = y;
+        }
     }
 
     /**
@@ -255,6 +500,44 @@ public class BinarySearchTree<E extends Comparable<E>> extends BinaryTree<E> {
                 "implementation does not support this method");
     }
 
+    /**
+     * Removes all the children of {@code e}.
+     *
+     * <p> Removing whole subtrees at once would leave the subtree sizes of
+     * the ancestors of {@code e} out of date, so elements may only be removed
+     * one at a time, through {@link #remove(Comparable)}.
+     *
+     * @param e the parent of the children to be removed
+     * @return a {@code Collection} of elements that were once children of
+     * {@code e}
+     * @since 1.1
+     * @deprecated this implementation does not support this method
+     */
+    @Override
+    public Collection<E> removeChildren(E e) {
+        throw new UnsupportedOperationException("the Binary Search Tree " +
+                "implementation does not support this method");
+    }
+
+    /**
+     * Builds or drops the index mapping every element to the node storing
+     * it.
+     *
+     * <p> A Binary Search Tree already finds the node storing an element by
+     * comparing it with the elements along a single path, and accepts
+     * duplicate elements, so it is never indexed.
+     *
+     * @param indexed {@code true} to build the index, or {@code false} to
+     *                drop it
+     * @since 1.1
+     * @deprecated this implementation does not support this method
+     */
+    @Override
+    public void setIndexed(boolean indexed) {
+        throw new UnsupportedOperationException("the Binary Search Tree " +
+                "implementation does not support this method");
+    }
+
     /**
      * A protected helper method to traverse through the {@code Tree} and
      * returns the {@code Node} which stores the element {@code e}. This method
@@ -271,14 +554,75 @@ public class BinarySearchTree<E extends Comparable<E>> extends BinaryTree<E> {
         if (root == null) {
             throw new IllegalStateException("tree has no root");
         }
-        if (n == null) {
-            return null;
-        } else if (e.compareTo(n.element) == 0) {
-            return n;
-        } else if (e.compareTo(n.element) > 0) {
-            return findNode(e, n.right);
-        } else {
-            return findNode(e, n.left);
+        while (n != null) {
+            int cmp = e.compareTo(n.element);
+            if (cmp == 0) {
+                return n;
+            }
+            n = cmp > 0 ? n.right : n.left;
+        }
+        return null;
+    }
+
+    /**
+     * This private inner class provides an {@code Iterator} walking through
+     * the elements within a range in ascending order, one successor at a
+     * time.
+     *
+     * @see Iterator
+     */
+    private class RangeIterator implements Iterator<E> {
+
+        /**
+         * The next node to be returned, or {@code null} if there is none.
+         */
+        private Node<E> next;
+
+        /**
+         * The highest element to be returned.
+         */
+        private final E to;
+
+        /**
+         * Constructor. Initializes the iterator to start at the node
+         * {@code first}.
+         *
+         * @param first the node storing the lowest element within the range,
+         *              or {@code null} if there is none
+         * @param to    the highest element to be returned
+         */
+        RangeIterator(Node<E> first, E to) {
+            this.to = to;
+            next = first != null && to.compareTo(first.element) >= 0 ?
+                    first : null;
+        }
+
+        /**
+         * Indicates whether the iteration has more elements.
+         *
+         * @return {@code true} if the range still has more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more
+         *                                elements
+         */
+        @Override
+        public E next() {
+            Node<E> n = next;
+            if (n == null) {
+                throw new NoSuchElementException("no more elements");
+            }
+            Node<E> s = successor(n);
+            next = s != null && to.compareTo(s.element) >= 0 ? s : null;
+            return n.element;
         }
     }
 }
@@ -1,6 +1,7 @@
 package tree;
 
-import queue.LinkedQueue;
+import queue.ArrayQueue;
+import stack.ArrayStack;
 
 import java.util.*;
 
@@ -12,6 +13,20 @@ import java.util.*;
  * parent a maximum number of two children (hence the name, binary). Each
  * element can now only have either a left child or a right child.
  *
+ * <p> Every traversal walks the tree iteratively, with an explicit stack or
+ * queue of nodes, so that no traversal is limited by the depth of the tree.
+ * The traversal methods collect the elements into a single
+ * {@code Collection}, while {@link #iterator()}, {@link #preorderIterator()},
+ * {@link #inorderIterator()} and {@link #postorderIterator()} walk the tree
+ * lazily, one element at a time, without copying it.
+ *
+ * <p> Every element-addressed method has to search the whole {@code Tree}
+ * for the node storing the element, which takes {@code O(n)} time.
+ * Optionally, through {@link #setIndexed(boolean)}, the {@code Tree} keeps a
+ * hash index mapping every element to its node, updated on every change, such
+ * that the node is found in {@code O(1)} time instead. An indexed
+ * {@code Tree} does not accept duplicate elements.
+ *
  * @param <E> generic type parameter determining the type of object the
  *            {@code Tree} would store.
  * @author Samuel Adrian Kosasih
@@ -30,6 +45,12 @@ public class BinaryTree<E> implements Tree<E> {
      */
     protected int size;
 
+    /**
+     * The index mapping every element to the node storing it, or
+     * {@code null} if the {@code Tree} is not indexed.
+     */
+    protected Map<E, Node<E>> index;
+
     /**
      * This private inner class defines a node to be used for storing elements
      * in a {@code BinaryTree}.
@@ -87,7 +108,7 @@ public class BinaryTree<E> implements Tree<E> {
      */
     public BinaryTree(E e) {
         root = new Node<>(e);
-        size = 0;
+        size = 1;
     }
 
     /**
@@ -99,6 +120,8 @@ public class BinaryTree<E> implements Tree<E> {
      * @param e the element to set as the root
      * @return the element previously at the root, or {@code null} if there was
      * originally no root
+     * @throws IllegalArgumentException if the {@code Tree} is indexed and
+     *                                  {@code e} already exists elsewhere
      * @since 1.1
      */
     @Override
@@ -106,9 +129,19 @@ public class BinaryTree<E> implements Tree<E> {
         if (root == null) {
             root = new Node<>(e);
             size++;
+            if (index != null) {
+                index.put(e, root);
+            }
             return null;
         }
         E element = root.element;
+        if (index != null && !Objects.equals(e, element)) {
+            if (index.containsKey(e)) {
+                throw new IllegalArgumentException("element already exists");
+            }
+            index.remove(element);
+            index.put(e, root);
+        }
         root.element = e;
         return element;
     }
@@ -120,7 +153,8 @@ public class BinaryTree<E> implements Tree<E> {
      * take its place, otherwise, it will become a right child.
      *
      * <p> If the parent already has two nodes, then the method will return
-     * {@code false}.
+     * {@code false}. If the {@code Tree} is indexed and {@code newChild}
+     * already exists, then the method will return {@code false} as well.
      *
      * @param parent   the parent of the new element to be added
      * @param newChild the new child element to be added
@@ -130,16 +164,12 @@ public class BinaryTree<E> implements Tree<E> {
     @Override
     public boolean addAsChild(E parent, E newChild) {
         Node<E> n = findNode(parent, root);
-        if (n != null) {
-            Node<E> newNode = new Node<>(newChild);
-            newNode.parent = n;
+        if (n != null && accepts(newChild)) {
             if (n.left == null) {
-                n.left = newNode;
-                size++;
+                n.left = newChild(n, newChild);
                 return true;
             } else if (n.right == null) {
-                n.right = newNode;
-                size++;
+                n.right = newChild(n, newChild);
                 return true;
             }
         }
@@ -150,7 +180,8 @@ public class BinaryTree<E> implements Tree<E> {
      * Adds the element {@code newChild} as a left child of {@code parent}.
      *
      * <p> If the parent already has a left child, then the method will return
-     * {@code false}.
+     * {@code false}. If the {@code Tree} is indexed and {@code newChild}
+     * already exists, then the method will return {@code false} as well.
      *
      * @param parent   the parent of the new element to be added
      * @param newChild the new child element to be added
@@ -159,14 +190,9 @@ public class BinaryTree<E> implements Tree<E> {
      */
     public boolean addLeftChild(E parent, E newChild) {
         Node<E> n = findNode(parent, root);
-        if (n != null) {
-            Node<E> newNode = new Node<>(newChild);
-            newNode.parent = n;
-            if (n.left == null) {
-                n.left = newNode;
-                size++;
-                return true;
-            }
+        if (n != null && n.left == null && accepts(newChild)) {
+            n.left = newChild(n, newChild);
+            return true;
         }
         return false;
     }
@@ -175,7 +201,8 @@ public class BinaryTree<E> implements Tree<E> {
      * Adds the element {@code newChild} as a right child of {@code parent}.
      *
      * <p> If the parent already has a right child, then the method will return
-     * {@code false}.
+     * {@code false}. If the {@code Tree} is indexed and {@code newChild}
+     * already exists, then the method will return {@code false} as well.
      *
      * @param parent   the parent of the new element to be added
      * @param newChild the new child element to be added
@@ -184,14 +211,9 @@ public class BinaryTree<E> implements Tree<E> {
      */
     public boolean addRightChild(E parent, E newChild) {
         Node<E> n = findNode(parent, root);
-        if (n != null) {
-            Node<E> newNode = new Node<>(newChild);
-            newNode.parent = n;
-            if (n.right == null) {
-                n.right = newNode;
-                size++;
-                return true;
-            }
+        if (n != null && n.right == null && accepts(newChild)) {
+            n.right = newChild(n, newChild);
+            return true;
         }
         return false;
     }
@@ -211,12 +233,15 @@ public class BinaryTree<E> implements Tree<E> {
         Node<E> n = findNode(e, root);
         if (n != null) {
             Node<E> p = n.parent;
-            if (p.left.element.equals(e)) {
+            if (p == null) {
+                root = null;
+            } else if (p.left == n) {
                 p.left = null;
             } else {
                 p.right = null;
             }
-            size--;
+            n.parent = null;
+            discard(n);
             return true;
         }
         return false;
@@ -253,10 +278,17 @@ public class BinaryTree<E> implements Tree<E> {
         try {
             Node<E> n = findNode(e, root);
             if (n != null) {
-                LinkedHashSet<E> output = new LinkedHashSet<>(
-                        Arrays.asList(n.left.element, n.right.element));
-                n.left = null;
-                n.right = null;
+                LinkedHashSet<E> output = new LinkedHashSet<>();
+                if (n.left != null) {
+                    output.add(n.left.element);
+                    discard(n.left);
+                    n.left = null;
+                }
+                if (n.right != null) {
+                    output.add(n.right.element);
+                    discard(n.right);
+                    n.right = null;
+                }
                 return output;
             }
             return null;
@@ -272,6 +304,9 @@ public class BinaryTree<E> implements Tree<E> {
      * This ultimately means that traversals will start from the root, and
      * traverse through every level of the {@code Tree}.
      *
+     * <p> If the {@code Tree} is indexed and {@code newElement} already
+     * exists elsewhere, then the method will return {@code false}.
+     *
      * @param e          the element to be replaced
      * @param newElement the element used to replace {@code e}
      * @return {@code true} if {@code e} is successfully replaced with
@@ -282,6 +317,13 @@ public class BinaryTree<E> implements Tree<E> {
     public boolean set(E e, E newElement) {
         Node<E> n = findNode(e, root);
         if (n != null) {
+            if (index != null && !Objects.equals(e, newElement)) {
+                if (index.containsKey(newElement)) {
+                    return false;
+                }
+                index.remove(e);
+                index.put(newElement, n);
+            }
             n.element = newElement;
             return true;
         }
@@ -386,14 +428,25 @@ public class BinaryTree<E> implements Tree<E> {
      */
     private Collection<E> getNodesAtLevel(int l, Node<E> n) {
         Collection<E> c = new LinkedHashSet<>();
-        if (n != null) {
-            if (l == 0) {
-                c.add(n.element);
-            } else {
-                c.addAll(getNodesAtLevel(l - 1, n.left));
-                c.addAll(getNodesAtLevel(l - 1, n.right));
+        if (n == null || l < 0) {
+            return c;
+        }
+        ArrayQueue<Node<E>> q = new ArrayQueue<>();
+        q.add(n);
+        for (int cur = 0; cur < l && !q.isEmpty(); cur++) {
+            for (int i = q.size(); i > 0; i--) {
+                Node<E> node = q.remove();
+                if (node.left != null) {
+                    q.add(node.left);
+                }
+                if (node.right != null) {
+                    q.add(node.right);
+                }
             }
         }
+        while (!q.isEmpty()) {
+            c.add(q.remove().element);
+        }
         return c;
     }
 
@@ -489,22 +542,7 @@ public class BinaryTree<E> implements Tree<E> {
      */
     @Override
     public int level() {
-        return level(root) + 1;
-    }
-
-    /**
-     * A private helper method to retrieve the number of levels the {@code Tree}
-     * has.
-     *
-     * @param n a cursor to the node the method is currently pointing to
-     * @return the number of levels in the {@code Tree}
-     * @since 1.1
-     */
-    private int level(Node<E> n) {
-        if (n != null) {
-            return Math.max(level(n.left), level(n.right)) + 1;
-        }
-        return -1;
+        return height(root) + 1;
     }
 
     /**
@@ -581,10 +619,24 @@ public class BinaryTree<E> implements Tree<E> {
      * @since 1.1
      */
     private int height(Node<E> n) {
-        if (n == null) {
-            return -1;
+        int height = -1;
+        ArrayQueue<Node<E>> q = new ArrayQueue<>();
+        if (n != null) {
+            q.add(n);
         }
-        return Math.max(height(n.left), height(n.right)) + 1;
+        while (!q.isEmpty()) {
+            for (int i = q.size(); i > 0; i--) {
+                Node<E> node = q.remove();
+                if (node.left != null) {
+                    q.add(node.left);
+                }
+                if (node.right != null) {
+                    q.add(node.right);
+                }
+            }
+            height++;
+        }
+        return height;
     }
 
     /**
@@ -611,11 +663,11 @@ public class BinaryTree<E> implements Tree<E> {
      * @since 1.1
      */
     private int depth(Node<E> n) {
-        if (n == null) {
-            return -1;
-        } else {
-            return depth(n.parent) + 1;
+        int depth = -1;
+        for (; n != null; n = n.parent) {
+            depth++;
         }
+        return depth;
     }
 
     /**
@@ -661,6 +713,51 @@ public class BinaryTree<E> implements Tree<E> {
     public void clear() {
         root = null;
         size = 0;
+        if (index != null) {
+            index.clear();
+        }
+    }
+
+    /**
+     * Indicates whether the {@code Tree} keeps an index mapping every element
+     * to the node storing it.
+     *
+     * @return {@code true} if the {@code Tree} is indexed
+     * @since 1.1
+     */
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    /**
+     * Builds or drops the index mapping every element to the node storing
+     * it. Building the index takes {@code O(n)} time, after which every
+     * element-addressed method finds its node in {@code O(1)} time, and the
+     * {@code Tree} no longer accepts duplicate elements.
+     *
+     * @param indexed {@code true} to build the index, or {@code false} to
+     *                drop it
+     * @throws IllegalStateException if the {@code Tree} currently stores
+     *                               duplicate elements
+     * @since 1.1
+     */
+    public void setIndexed(boolean indexed) {
+        if (!indexed) {
+            index = null;
+            return;
+        }
+        if (index == null) {
+            Map<E, Node<E>> map = new HashMap<>();
+            PreorderIterator itr = new PreorderIterator(root);
+            while (itr.hasNext()) {
+                Node<E> n = itr.nextNode();
+                if (map.putIfAbsent(n.element, n) != null) {
+                    throw new IllegalStateException("tree has duplicate " +
+                            "elements");
+                }
+            }
+            index = map;
+        }
     }
 
     /**
@@ -784,22 +881,43 @@ public class BinaryTree<E> implements Tree<E> {
      */
     @Override
     public Iterator<E> iterator() {
-        LinkedQueue<E> q = new LinkedQueue<>();
-        Collection<E> c = BFS(root);
-        for (E e : c) {
-            q.add(e);
-        }
-        return new Iterator<>() {
-            @Override
-            public boolean hasNext() {
-                return !q.isEmpty();
-            }
+        return new BreadthFirstIterator(root);
+    }
 
-            @Override
-            public E next() {
-                return q.poll();
-            }
-        };
+    /**
+     * Returns an iterator over elements of type {@code E} arranged using a
+     * pre-order traversal. The elements are visited lazily, as the iterator
+     * advances.
+     *
+     * @return an {@code Iterator}
+     * @since 1.1
+     */
+    public Iterator<E> preorderIterator() {
+        return new PreorderIterator(root);
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code E} arranged using an
+     * inorder traversal. The elements are visited lazily, as the iterator
+     * advances.
+     *
+     * @return an {@code Iterator}
+     * @since 1.1
+     */
+    public Iterator<E> inorderIterator() {
+        return new InorderIterator(root);
+    }
+
+    /**
+     * Returns an iterator over elements of type {@code E} arranged using a
+     * post-order traversal. The elements are visited lazily, as the iterator
+     * advances.
+     *
+     * @return an {@code Iterator}
+     * @since 1.1
+     */
+    public Iterator<E> postorderIterator() {
+        return new PostorderIterator(root);
     }
 
     /**
@@ -807,6 +925,9 @@ public class BinaryTree<E> implements Tree<E> {
      * returns the {@code Node} which stores the element {@code e}. This method
      * will start to traverse the tree from the {@code Node n}.
      *
+     * <p> If the {@code Tree} is indexed and {@code n} is the root, then the
+     * {@code Node} is looked up in the index instead.
+     *
      * @param e the element of the {@code Node} to be searched
      * @param n the {@code Node} to start traversal
      * @return the {@code Node} storing the element {@code e}
@@ -817,17 +938,83 @@ public class BinaryTree<E> implements Tree<E> {
         if (root == null) {
             throw new IllegalStateException("tree has no root");
         }
-        if (n == null) {
-            return null;
-        } else if (Objects.equals(e, n.element)) {
-            return n;
-        } else {
-            Node<E> l = findNode(e, n.left);
-            Node<E> r = findNode(e, n.right);
-            return l == null ? r : l;
+        if (index != null && n == root) {
+            return index.get(e);
+        }
+        PreorderIterator itr = new PreorderIterator(n);
+        while (itr.hasNext()) {
+            Node<E> node = itr.nextNode();
+            if (Objects.equals(e, node.element)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A private helper method to indicate whether the element {@code e} may
+     * be added to the {@code Tree}, which is not the case if the
+     * {@code Tree} is indexed and {@code e} already exists.
+     *
+     * @param e the element to be added
+     * @return {@code true} if {@code e} may be added
+     */
+    private boolean accepts(E e) {
+        return index == null || !index.containsKey(e);
+    }
+
+    /**
+     * A private helper method to create a node storing the element {@code e}
+     * as a child of the node {@code parent}, and account for it in the size
+     * and the index. The caller links the node to {@code parent}.
+     *
+     * @param parent the parent of the new node
+     * @param e      the element to be stored
+     * @return the new node
+     */
+    private Node<E> newChild(Node<E> parent, E e) {
+        Node<E> n = new Node<>(e);
+        n.parent = parent;
+        size++;
+        if (index != null) {
+            index.put(e, n);
+        }
+        return n;
+    }
+
+    /**
+     * A private helper method to account for every node of the subtree
+     * rooted at the node {@code n}, which has just been unlinked, in the size
+     * and the index.
+     *
+     * @param n the root of the subtree unlinked
+     */
+    private void discard(Node<E> n) {
+        PreorderIterator itr = new PreorderIterator(n);
+        while (itr.hasNext()) {
+            Node<E> node = itr.nextNode();
+            size--;
+            if (index != null) {
+                index.remove(node.element);
+            }
         }
     }
 
+    /**
+     * A private helper method to collect every element returned by the
+     * iterator {@code itr} into a single {@code Collection}.
+     *
+     * @param itr the iterator walking through the nodes
+     * @return a {@code Collection} of elements returned by {@code itr}
+     */
+    private Collection<E> collect(Iterator<E> itr) {
+        LinkedHashSet<E> c = new LinkedHashSet<>();
+        while (itr.hasNext()) {
+            c.add(itr.next());
+        }
+        return c;
+    }
+
     /**
      * A private helper method to retrieve a {@code Collection} of all the
      * elements rooted at the node {@code n} using pre-order traversal.
@@ -842,13 +1029,7 @@ public class BinaryTree<E> implements Tree<E> {
      * @since 1.1
      */
     private Collection<E> preorder(Node<E> n) {
-        LinkedHashSet<E> c = new LinkedHashSet<>();
-        if (n != null) {
-            c.add(n.element);
-            c.addAll(preorder(n.left));
-            c.addAll(preorder(n.right));
-        }
-        return c;
+        return collect(new PreorderIterator(n));
     }
 
     /**
@@ -865,15 +1046,7 @@ public class BinaryTree<E> implements Tree<E> {
      * @since 1.1
      */
     private Collection<E> inorder(Node<E> n) {
-        LinkedHashSet<E> c = new LinkedHashSet<>();
-        if (n.left != null) {
-            c.addAll(inorder(n.left));
-        }
-        c.add(n.element);
-        if (n.right != null) {
-            c.addAll(inorder(n.right));
-        }
-        return c;
+        return collect(new InorderIterator(n));
     }
 
     /**
@@ -890,13 +1063,7 @@ public class BinaryTree<E> implements Tree<E> {
      * @since 1.1
      */
     private Collection<E> postorder(Node<E> n) {
-        LinkedHashSet<E> c = new LinkedHashSet<>();
-        if (n != null) {
-            c.addAll(postorder(n.left));
-            c.addAll(postorder(n.right));
-            c.add(n.element);
-        }
-        return c;
+        return collect(new PostorderIterator(n));
     }
 
     /**
@@ -914,22 +1081,238 @@ public class BinaryTree<E> implements Tree<E> {
      * @since 1.1
      */
     private Collection<E> BFS(Node<E> n) {
-        LinkedHashSet<E> c = new LinkedHashSet<>();
-        if (n != null) {
-            LinkedQueue<Node<E>> q = new LinkedQueue<>();
-            q.add(n);
-            while (!q.isEmpty()) {
-                Node<E> cur = q.remove();
-                c.add(cur.element);
-                if (cur.left != null) {
-                    q.add(cur.left);
+        return collect(new BreadthFirstIterator(n));
+    }
+
+    /**
+     * This private inner class provides the skeleton of an {@code Iterator}
+     * walking through the nodes of a subtree, returning the element of every
+     * node in turn.
+     *
+     * @see Iterator
+     */
+    private abstract class TreeIterator implements Iterator<E> {
+
+        /**
+         * Returns the next node in the iteration.
+         *
+         * @return the next node in the iteration
+         * @throws NoSuchElementException if the iteration has no more
+         *                                elements
+         */
+        abstract Node<E> nextNode();
+
+        /**
+         * Returns the next element in the iteration.
+         *
+         * @return the next element in the iteration
+         * @throws NoSuchElementException if the iteration has no more
+         *                                elements
+         */
+        @Override
+        public E next() {
+            return nextNode().element;
+        }
+    }
+
+    /**
+     * This private inner class provides an {@code Iterator} walking through a
+     * subtree using pre-order traversal. Only the right children still to be
+     * visited are kept on the stack.
+     */
+    private class PreorderIterator extends TreeIterator {
+
+        /**
+         * The right children whose subtrees are still to be visited.
+         */
+        private final ArrayStack<Node<E>> stack = new ArrayStack<>();
+
+        /**
+         * The next node to be returned, or {@code null} if there is none.
+         */
+        private Node<E> next;
+
+        /**
+         * Constructor. Initializes the iterator to start at the node
+         * {@code n}.
+         *
+         * @param n the root of the subtree, or {@code null} if it is empty
+         */
+        PreorderIterator(Node<E> n) {
+            next = n;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        Node<E> nextNode() {
+            Node<E> n = next;
+            if (n == null) {
+                throw new NoSuchElementException("no more elements");
+            }
+            if (n.left != null) {
+                if (n.right != null) {
+                    stack.push(n.right);
                 }
-                if (cur.right != null) {
-                    q.add(cur.right);
+                next = n.left;
+            } else if (n.right != null) {
+                next = n.right;
+            } else {
+                next = stack.isEmpty() ? null : stack.pop();
+            }
+            return n;
+        }
+    }
+
+    /**
+     * This private inner class provides an {@code Iterator} walking through a
+     * subtree using inorder traversal. The stack holds the path of left
+     * children leading to the next node.
+     */
+    private class InorderIterator extends TreeIterator {
+
+        /**
+         * The nodes whose left subtrees are being visited.
+         */
+        private final ArrayStack<Node<E>> stack = new ArrayStack<>();
+
+        /**
+         * Constructor. Initializes the iterator to start at the leftmost node
+         * of the subtree rooted at {@code n}.
+         *
+         * @param n the root of the subtree, or {@code null} if it is empty
+         */
+        InorderIterator(Node<E> n) {
+            pushLeft(n);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        Node<E> nextNode() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException("no more elements");
+            }
+            Node<E> n = stack.pop();
+            pushLeft(n.right);
+            return n;
+        }
+
+        /**
+         * Pushes the node {@code n} and its chain of left children.
+         *
+         * @param n the node to start from
+         */
+        private void pushLeft(Node<E> n) {
+            for (; n != null; n = n.left) {
+                stack.push(n);
+            }
+        }
+    }
+
+    /**
+     * This private inner class provides an {@code Iterator} walking through a
+     * subtree using post-order traversal. The stack holds the path from the
+     * root of the subtree down to the next node.
+     */
+    private class PostorderIterator extends TreeIterator {
+
+        /**
+         * The ancestors of the next node, and the next node at the top.
+         */
+        private final ArrayStack<Node<E>> stack = new ArrayStack<>();
+
+        /**
+         * Constructor. Initializes the iterator to start at the first leaf
+         * of the subtree rooted at {@code n}.
+         *
+         * @param n the root of the subtree, or {@code null} if it is empty
+         */
+        PostorderIterator(Node<E> n) {
+            descend(n);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        Node<E> nextNode() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException("no more elements");
+            }
+            Node<E> n = stack.pop();
+            if (!stack.isEmpty()) {
+                Node<E> p = stack.peek();
+                if (p.left == n && p.right != null) {
+                    descend(p.right);
                 }
             }
+            return n;
+        }
+
+        /**
+         * Pushes the node {@code n} and the path down to the first leaf of
+         * its subtree, preferring left children over right children.
+         *
+         * @param n the node to start from
+         */
+        private void descend(Node<E> n) {
+            while (n != null) {
+                stack.push(n);
+                n = n.left != null ? n.left : n.right;
+            }
         }
-        return c;
     }
 
+    /**
+     * This private inner class provides an {@code Iterator} walking through a
+     * subtree using breadth-first search traversal.
+     */
+    private class BreadthFirstIterator extends TreeIterator {
+
+        /**
+         * The nodes discovered but not returned yet.
+         */
+        private final ArrayQueue<Node<E>> q = new ArrayQueue<>();
+
+        /**
+         * Constructor. Initializes the iterator to start at the node
+         * {@code n}.
+         *
+         * @param n the root of the subtree, or {@code null} if it is empty
+         */
+        BreadthFirstIterator(Node<E> n) {
+            if (n != null) {
+                q.add(n);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !q.isEmpty();
+        }
+
+        @Override
+        Node<E> nextNode() {
+            Node<E> n = q.poll();
+            if (n == null) {
+                throw new NoSuchElementException("no more elements");
+            }
+            if (n.left != null) {
+                q.add(n.left);
+            }
+            if (n.right != null) {
+                q.add(n.right);
+            }
+            return n;
+        }
+    }
 }
@@ -0,0 +1,367 @@
+package tree;
+
+/**
+ * This class is an implementation of the {@link Tree} interface.
+ *
+ * <p> The Red-Black Tree is a self-balancing {@link BinarySearchTree}. Every
+ * node is colored either red or black, such that no red node has a red
+ * child, and every path from a node down to an empty subtree goes through the
+ * same number of black nodes. Adding or removing an element recolors the
+ * nodes along the path to the root, and restores these properties with at
+ * most three rotations, which rearrange the nodes without changing their
+ * order.
+ *
+ * <p> As a result, the height of the tree never exceeds
+ * {@code 2 log(n + 1)}, even if the elements are added in sorted order, which
+ * would degenerate an unbalanced {@code BinarySearchTree} into a linked list.
+ * Adding, removing and searching for an element therefore run in
+ * {@code O(log n)} time.
+ *
+ * <p> Since rotations move equal elements between subtrees, an element is
+ * only guaranteed to be no less than the elements in its left subtree, and no
+ * greater than the elements in its right subtree.
+ *
+ * <p> Rotations keep the subtree sizes of the nodes up to date, so the order
+ * statistics inherited from {@code BinarySearchTree}, such as
+ * {@link #select(int)}, run in {@code O(log n)} time as well.
+ *
+ * <p> Elements are only removed one at a time, through
+ * {@link #remove(Comparable)}. Removing whole subtrees through
+ * {@link #removeChildren(Comparable)} would break the balance of the tree, so
+ * it is rejected as by the {@code BinarySearchTree}.
+ *
+ * @param <E> generic type parameter determining the type of object the
+ *            {@code Tree} would store.
+ * @author Samuel Adrian Kosasih
+ * @version 1.1
+ * @see BinarySearchTree
+ */
+public class RedBlackTree<E extends Comparable<E>> extends BinarySearchTree<E> {
+
+    /**
+     * This private inner class defines a node which is colored either red or
+     * black.
+     *
+     * @param <E> generic type parameter determining the type of object the
+     *            {@code RedBlackTree} would store.
+     */
+    private static final class ColoredNode<E> extends SizedNode<E> {
+
+        /**
+         * An indicator whether the {@code Node} is red, or black otherwise.
+         */
+        boolean red;
+
+        /**
+         * Constructor. Initializes a red node storing the element {@code e}.
+         *
+         * @param e the element to be stored by the {@code Node}.
+         */
+        ColoredNode(E e) {
+            super(e);
+            red = true;
+        }
+    }
+
+    /**
+     * Default Constructor.Initializes an empty {@code Tree}.
+     */
+    public RedBlackTree() {
+        super();
+    }
+
+    /**
+     * Constructor.Initializes the root of the {@code Tree} with the element
+     * {@code e}.
+     */
+    public RedBlackTree(E e) {
+        super();
+        add(e);
+    }
+
+    /**
+     * Adds the new element {@code e} to the {@code Tree}, placing it in its
+     * appropriate position, then rebalances the {@code Tree}.
+     *
+     * @param e the new element to be added
+     * @return {@code true} if {@code e} is added successfully
+     * @since 1.1
+     */
+    @Override
+    public boolean add(E e) {
+        fixAfterInsertion(insert(e));
+        return true;
+    }
+
+    /**
+     * A protected helper method to create the red node storing the new
+     * element {@code e}.
+     *
+     * @param e the element to be stored
+     * @return a new red {@code Node}
+     * @since 1.1
+     */
+    @Override
+    protected Node<E> newNode(E e) {
+        return new ColoredNode<>(e);
+    }
+
+    /**
+     * Removes the element {@code e} from the {@code Tree}, then rebalances
+     * the {@code Tree}.
+     *
+     * <p> If the element {@code e} is a parent, then it is replaced by the
+     * next greatest element, such that its children are kept.
+     *
+     * @param e the element to be removed
+     * @return {@code true} if {@code e} is removed successfully
+     * @throws IllegalStateException if tree has no root
+     * @since 1.1
+     */
+    @Override
+    public boolean remove(E e) {
+        Node<E> n = findNode(e, root);
+        if (n == null) {
+            return false;
+        }
+        removeNode(n);
+        return true;
+    }
+
+    /**
+     * A private helper method to unlink the node {@code n} from the
+     * {@code Tree}. If {@code n} has two children, then its element is
+     * replaced with the element of its successor, which is unlinked instead.
+     *
+     * @param n the node to be removed
+     */
+    private void removeNode(Node<E> n) {
+        size--;
+        if (n.left != null && n.right != null) {
+            Node<E> s = successor(n);
+            n.element = s.element;
+            n = s;
+        }
+        shrinkPath(n);
+        Node<E> replacement = n.left != null ? n.left : n.right;
+        if (replacement != null) {
+            replace(n, replacement);
+            n.left = null;
+            n.right = null;
+            n.parent = null;
+            if (!isRed(n)) {
+                fixAfterDeletion(replacement);
+            }
+        } else if (n.parent == null) {
+            root = null;
+        } else {
+            // n is a leaf, so it is used as the replacement while fixing, and
+            // counts as an empty subtree for the rotations
+            ((ColoredNode<E>) n).subtreeSize = 0;
+            if (!isRed(n)) {
+                fixAfterDeletion(n);
+            }
+            replace(n, null);
+            n.parent = null;
+        }
+    }
+
+    /**
+     * A private helper method to restore the properties of the {@code Tree}
+     * after the red node {@code x} is added.
+     *
+     * @param x the node just added
+     */
+    private void fixAfterInsertion(Node<E> x) {
+        while (x != root && isRed(x.parent)) {
+            Node<E> p = x.parent;
+            Node<E> g = p.parent;
+            if (p == g.left) {
+                Node<E> uncle = g.right;
+                if (isRed(uncle)) {
+                    setRed(p, false);
+                    setRed(uncle, false);
+                    setRed(g, true);
+                    x = g;
+                } else {
+                    if (x == p.right) {
+                        x = p;
+                        rotateLeft(x);
+                        p = x.parent;
+                    }
+                    setRed(p, false);
+                    setRed(g, true);
+                    rotateRight(g);
+                }
+            } else {
+                Node<E> uncle = g.left;
+                if (isRed(uncle)) {
+                    setRed(p, false);
+                    setRed(uncle, false);
+                    setRed(g, true);
+                    x = g;
+                } else {
+                    if (x == p.left) {
+                        x = p;
+                        rotateRight(x);
+                        p = x.parent;
+                    }
+                    setRed(p, false);
+                    setRed(g, true);
+                    rotateLeft(g);
+                }
+            }
+        }
+        setRed(root, false);
+    }
+
+    /**
+     * A private helper method to restore the properties of the {@code Tree}
+     * after a black node is removed from above the node {@code x}, leaving
+     * the paths through {@code x} one black node short.
+     *
+     * @param x the node taking the place of the node removed
+     */
+    private void fixAfterDeletion(Node<E> x) {
+        while (x != root && !isRed(x)) {
+            Node<E> p = x.parent;
+            if (x == p.left) {
+                Node<E> sibling = p.right;
+                if (isRed(sibling)) {
+                    setRed(sibling, false);
+                    setRed(p, true);
+                    rotateLeft(p);
+                    sibling = p.right;
+                }
+                if (!isRed(leftOf(sibling)) && !isRed(rightOf(sibling))) {
+                    setRed(sibling, true);
+                    x = p;
+                } else {
+                    if (!isRed(rightOf(sibling))) {
+                        setRed(leftOf(sibling), false);
+                        setRed(sibling, true);
+                        rotateRight(sibling);
+                        sibling = p.right;
+                    }
+                    setRed(sibling, isRed(p));
+                    setRed(p, false);
+                    setRed(rightOf(sibling), false);
+                    rotateLeft(p);
+                    x = root;
+                }
+            } else {
+                Node<E> sibling = p.left;
+                if (isRed(sibling)) {
+                    setRed(sibling, false);
+                    setRed(p, true);
+                    rotateRight(p);
+                    sibling = p.left;
+                }
+                if (!isRed(rightOf(sibling)) && !isRed(leftOf(sibling))) {
+                    setRed(sibling, true);
+                    x = p;
+                } else {
+                    if (!isRed(leftOf(sibling))) {
+                        setRed(rightOf(sibling), false);
+                        setRed(sibling, true);
+                        rotateLeft(sibling);
+                        sibling = p.left;
+                    }
+                    setRed(sibling, isRed(p));
+                    setRed(p, false);
+                    setRed(leftOf(sibling), false);
+                    rotateRight(p);
+                    x = root;
+                }
+            }
+        }
+        setRed(x, false);
+    }
+
+    /**
+     * A private helper method to rotate the node {@code x} down to the left,
+     * such that its right child takes its place.
+     *
+     * @param x the node to be rotated
+     */
+    private void rotateLeft(Node<E> x) {
+        Node<E> y = x.right;
+        x.right = y.left;
+        if (y.left != null) {
+            y.left.parent = x;
+        }
+        replace(x, y);
+        y.left = x;
+        x.parent = y;
+        ((ColoredNode<E>) y).subtreeSize = subtreeSize(x);
+        ((ColoredNode<E>) x).subtreeSize =
+                subtreeSize(x.left) + subtreeSize(x.right) + 1;
+    }
+
+    /**
+     * A private helper method to rotate the node {@code x} down to the right,
+     * such that its left child takes its place.
+     *
+     * @param x the node to be rotated
+     */
+    private void rotateRight(Node<E> x) {
+        Node<E> y = x.left;
+        x.left = y.right;
+        if (y.right != null) {
+            y.right.parent = x;
+        }
+        replace(x, y);
+        y.right = x;
+        x.parent = y;
+        ((ColoredNode<E>) y).subtreeSize = subtreeSize(x);
+        ((ColoredNode<E>) x).subtreeSize =
+                subtreeSize(x.left) + subtreeSize(x.right) + 1;
+    }
+
+    /**
+     * A private helper method to indicate whether the node {@code n} is red.
+     * Empty subtrees are black.
+     *
+     * @param n the node to be queried, or {@code null}
+     * @return {@code true} if {@code n} is red
+     */
+    private static boolean isRed(Node<?> n) {
+        return n != null && ((ColoredNode<?>) n).red;
+    }
+
+    /**
+     * A private helper method to color the node {@code n}, unless it is
+     * {@code null}.
+     *
+     * @param n   the node to be colored, or {@code null}
+     * @param red {@code true} to color {@code n} red, or {@code false} to
+     *            color it black
+     */
+    private static void setRed(Node<?> n, boolean red) {
+        if (n != null) {
+            ((ColoredNode<?>) n).red = red;
+        }
+    }
+
+    /**
+     * A private helper method to retrieve the left child of the node
+     * {@code n}, or {@code null} if {@code n} is {@code null}.
+     *
+     * @param n the node to be queried, or {@code null}
+     * @return the left child of {@code n}
+     */
+    private static <E> Node<E> leftOf(Node<E> n) {
+        return n == null ? null : n.left;
+    }
+
+    /**
+     * A private helper method to retrieve the right child of the node
+     * {@code n}, or {@code null} if {@code n} is {@code null}.
+     *
+     * @param n the node to be queried, or {@code null}
+     * @return the right child of {@code n}
+     */
+    private static <E> Node<E> rightOf(Node<E> n) {
+        return n == null ? null : n.right;
+    }
+}
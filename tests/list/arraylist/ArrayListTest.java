@@ -3,9 +3,15 @@ package list.arraylist;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Provides tests for the implementations of the {@link ArrayList}.
@@ -629,4 +635,774 @@ class ArrayListTest {
         }
     }
 
-}
\ No newline at end of file
+    // Tests the growth policies of ArrayList
+
+    /**
+     * Tests the capacities computed by every {@link GrowthPolicy}.
+     */
+    @Test
+    public void test35() {
+        Assertions.assertEquals(15, GrowthPolicy.GEOMETRIC.newCapacity(10, 11));
+        Assertions.assertEquals(20, GrowthPolicy.DOUBLING.newCapacity(10, 11));
+        GrowthPolicy capped = GrowthPolicy.cappedIncrement(100);
+        Assertions.assertEquals(20, capped.newCapacity(10, 11));
+        Assertions.assertEquals(1100, capped.newCapacity(1000, 1001));
+        // the minimum capacity is always honoured
+        Assertions.assertEquals(1, GrowthPolicy.GEOMETRIC.newCapacity(0, 1));
+        Assertions.assertEquals(GrowthPolicy.MAXIMUM_CAPACITY,
+                GrowthPolicy.DOUBLING.newCapacity(Integer.MAX_VALUE / 2 + 1,
+                        Integer.MAX_VALUE / 2 + 2));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> GrowthPolicy.cappedIncrement(0));
+    }
+
+    /**
+     * Tests appending many elements to {@link ArrayList} objects using
+     * different {@link GrowthPolicy}s, starting from an empty array.
+     */
+    @Test
+    public void test36() {
+        List<ArrayList<Integer>> lists = Arrays.asList(
+                new DefaultArrayList<>(0, GrowthPolicy.GEOMETRIC),
+                new DefaultArrayList<>(0, GrowthPolicy.DOUBLING),
+                new ComparableArrayList<>(0, GrowthPolicy.cappedIncrement(8)),
+                new SortedArrayList<>(0, GrowthPolicy.GEOMETRIC));
+        for (ArrayList<Integer> arr : lists) {
+            for (int i = 0; i < 1000; i++) {
+                arr.add(i);
+            }
+            Assertions.assertEquals(1000, arr.size());
+            for (int i = 0; i < 1000; i++) {
+                Assertions.assertEquals(i, arr.get(i));
+            }
+            arr.trimToSize();
+            arr.add(1000);
+            Assertions.assertEquals(1000, arr.get(1000));
+        }
+    }
+
+    // Tests the bulk shifting paths of ArrayList
+
+    /**
+     * Tests inserting a large {@code Collection} of elements into the middle
+     * of a {@link DefaultArrayList} and a {@link ComparableArrayList}, which
+     * forces the array to grow.
+     */
+    @Test
+    public void test37() {
+        List<ArrayList<Integer>> lists = Arrays.asList(
+                TestData.defaultList1(), TestData.comparableList1());
+        java.util.List<Integer> batch = new java.util.ArrayList<>();
+        for (int i = 100; i < 150; i++) {
+            batch.add(i);
+        }
+        for (ArrayList<Integer> arr : lists) {
+            // 1, 3, 9, 4, 5, 2, 10, 8, 6, 7
+            arr.addAll(3, batch);
+            Assertions.assertEquals(60, arr.size());
+            Assertions.assertEquals(9, arr.get(2));
+            for (int i = 0; i < batch.size(); i++) {
+                Assertions.assertEquals(batch.get(i), arr.get(3 + i));
+            }
+            Assertions.assertEquals(4, arr.get(53));
+            Assertions.assertEquals(7, arr.get(59));
+            // inserting an empty Collection leaves the list untouched
+            arr.addAll(0, java.util.Collections.emptyList());
+            Assertions.assertEquals(60, arr.size());
+            Assertions.assertThrows(IndexOutOfBoundsException.class,
+                    () -> arr.addAll(61, batch));
+        }
+    }
+
+    /**
+     * Tests removing ranges and single elements from fully filled
+     * {@link DefaultArrayList} and {@link ComparableArrayList} objects.
+     */
+    @Test
+    public void test38() {
+        List<ArrayList<Integer>> lists = Arrays.asList(
+                new DefaultArrayList<>(10), new ComparableArrayList<>(10));
+        for (ArrayList<Integer> arr : lists) {
+            arr.addAll(Arrays.asList(1, 3, 9, 4, 5, 2, 10, 8, 6, 7));
+            Assertions.assertArrayEquals(new Integer[]{4, 5, 2, 10, 8, 6, 7},
+                    arr.removeRange(3, 9));
+            Assertions.assertEquals(3, arr.size());
+            Assertions.assertEquals(9, arr.remove(2));
+            Assertions.assertEquals(2, arr.size());
+            Assertions.assertEquals(3, arr.get(1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class,
+                    () -> arr.removeRange(1, 0));
+            // removing the last element through the iterator
+            Iterator<Integer> itr = arr.iterator();
+            itr.next();
+            itr.next();
+            itr.remove();
+            Assertions.assertEquals(1, arr.size());
+            Assertions.assertEquals(1, arr.get(0));
+        }
+    }
+
+    // Tests the primitive-specialized array lists
+
+    /**
+     * Tests adding, retrieving and removing elements in an
+     * {@link IntArrayList} object.
+     */
+    @Test
+    public void test39() {
+        // 1, 3, 9, 4, 5, 2, 10, 8, 6, 7
+        IntArrayList arr = TestData.intList1();
+        Assertions.assertEquals(10, arr.size());
+        arr.add(0, 10);
+        arr.add(11);
+        Assertions.assertArrayEquals(new int[]{10, 1, 3, 9, 4, 5, 2, 10, 8, 6,
+                7, 11}, arr.toArray());
+        Assertions.assertEquals(0, arr.indexOf(10));
+        Assertions.assertEquals(7, arr.lastIndexOf(10));
+        Assertions.assertEquals(7, arr.getNthOccurrenceIndex(10, 2));
+        Assertions.assertEquals(2, arr.getOccurrences(10));
+        Assertions.assertFalse(arr.contains(100));
+        Assertions.assertEquals(9, arr.remove(3));
+        Assertions.assertArrayEquals(new int[]{4, 5, 2}, arr.removeRange(3, 5));
+        Assertions.assertArrayEquals(new int[]{10, 1, 3, 10, 8, 6, 7, 11},
+                arr.toArray());
+        Assertions.assertEquals(10, arr.set(0, 0));
+        Assertions.assertEquals("[0 1 3 10 8 6 7 11]", arr.toString());
+        arr.clear();
+        Assertions.assertTrue(arr.isEmpty());
+        Assertions.assertEquals("[]", arr.toString());
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> arr.get(0));
+    }
+
+    /**
+     * Tests the primitive iterator of an {@link IntArrayList} object.
+     */
+    @Test
+    public void test40() {
+        // 1, 3, 9, 4, 5, 2, 10, 8, 6, 7
+        IntArrayList arr = TestData.intList1();
+        int[] expected = {1, 3, 9, 4, 5, 2, 10, 8, 6, 7};
+        java.util.PrimitiveIterator.OfInt itr = arr.iterator();
+        int i = 0;
+        while (itr.hasNext()) {
+            Assertions.assertEquals(expected[i], itr.nextInt());
+            i++;
+        }
+        Assertions.assertEquals(expected.length, i);
+
+        // tests whether the iterator is capable of removing every element
+        itr = arr.iterator();
+        while (itr.hasNext()) {
+            if (itr.nextInt() % 2 == 0) {
+                itr.remove();
+            }
+        }
+        Assertions.assertArrayEquals(new int[]{1, 3, 9, 5, 7}, arr.toArray());
+        // removes the last element returned, which can only be done once
+        itr.remove();
+        Assertions.assertArrayEquals(new int[]{1, 3, 9, 5}, arr.toArray());
+        Assertions.assertThrows(IllegalStateException.class, itr::remove);
+    }
+
+    /**
+     * Tests the {@link LongArrayList} and {@link DoubleArrayList} objects,
+     * including growing them past their initial capacity.
+     */
+    @Test
+    public void test41() {
+        LongArrayList longs = new LongArrayList(0);
+        DoubleArrayList doubles = new DoubleArrayList(0, GrowthPolicy.DOUBLING);
+        for (int i = 0; i < 100; i++) {
+            longs.add(i * 10_000_000_000L);
+            doubles.add(i / 2.0);
+        }
+        Assertions.assertEquals(100, longs.size());
+        Assertions.assertEquals(990_000_000_000L, longs.get(99));
+        Assertions.assertEquals(42, longs.indexOf(420_000_000_000L));
+        Assertions.assertEquals(49.5, doubles.get(99));
+        Assertions.assertEquals(3, doubles.indexOf(1.5));
+
+        // NaN can be searched for, and 0.0 and -0.0 are different elements
+        doubles.add(Double.NaN);
+        Assertions.assertEquals(100, doubles.indexOf(Double.NaN));
+        Assertions.assertEquals(-1, doubles.indexOf(-0.0));
+
+        LongArrayList copy = new LongArrayList(longs);
+        copy.removeRange(0, 49);
+        Assertions.assertEquals(50, copy.size());
+        Assertions.assertEquals(100, longs.size());
+        Assertions.assertEquals(500_000_000_000L, copy.get(0));
+    }
+
+    // Tests the off-heap ArrayList
+
+    /**
+     * Tests the general functionality of an {@link OffHeapArrayList} object,
+     * including growing its buffer past its initial capacity.
+     */
+    @Test
+    public void test42() {
+        OffHeapArrayList<Integer> arr =
+                new OffHeapArrayList<>(ElementCodec.INTEGER, 2);
+        arr.addAll(Arrays.asList(1, 3, 9, 4, 5, 2, 10, 8, 6, 7));
+        Assertions.assertEquals(10, arr.size());
+        Assertions.assertEquals(9, arr.get(2));
+        Assertions.assertEquals(2, arr.indexOf(9));
+        Assertions.assertEquals(-1, arr.indexOf(11));
+        Assertions.assertEquals(-1, arr.indexOf(null));
+
+        arr.add(0, 7);
+        arr.addAll(5, Arrays.asList(20, 21));
+        Assertions.assertArrayEquals(new Integer[]{7, 1, 3, 9, 4, 20, 21, 5,
+                2, 10, 8, 6, 7}, arr.toArray());
+        Assertions.assertEquals(2, arr.getOccurrences(7));
+        Assertions.assertEquals(12, arr.lastIndexOf(7));
+        Assertions.assertEquals(12, arr.getNthOccurrenceIndex(7, 2));
+
+        Assertions.assertEquals(20, arr.remove(5));
+        Assertions.assertArrayEquals(new Integer[]{21, 5, 2},
+                arr.removeRange(5, 7));
+        Assertions.assertEquals(10, arr.set(5, 11));
+        Assertions.assertEquals("[7 1 3 9 4 11 8 6 7]", arr.toString());
+
+        Assertions.assertThrows(NullPointerException.class,
+                () -> arr.add(null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> arr.addAll(Arrays.asList(1, null)));
+        Assertions.assertEquals(9, arr.size());
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> arr.get(9));
+
+        Iterator<Integer> itr = arr.iterator();
+        while (itr.hasNext()) {
+            if (itr.next() == 7) {
+                itr.remove();
+            }
+        }
+        Assertions.assertEquals("[1 3 9 4 11 8 6]", arr.toString());
+        arr.close();
+    }
+
+    /**
+     * Tests the capacity management and closing of an
+     * {@link OffHeapArrayList} object.
+     */
+    @Test
+    public void test43() {
+        OffHeapArrayList<Double> arr =
+                new OffHeapArrayList<>(ElementCodec.DOUBLE, 0);
+        for (int i = 0; i < 10_000; i++) {
+            arr.add(i / 2.0);
+        }
+        arr.add(Double.NaN);
+        Assertions.assertEquals(10_001, arr.size());
+        Assertions.assertEquals(10_000, arr.indexOf(Double.NaN));
+        Assertions.assertEquals(-1, arr.indexOf(-0.0));
+
+        // a large shift of overlapping bytes keeps every element in place
+        arr.add(0, -1.0);
+        Assertions.assertEquals(-1.0, arr.get(0));
+        Assertions.assertEquals(4999.5, arr.get(10_000));
+        arr.removeRange(0, 5000);
+        Assertions.assertEquals(2500.0, arr.get(0));
+        Assertions.assertEquals(5001, arr.size());
+
+        arr.trimToSize();
+        Assertions.assertFalse(arr.ensureCapacity(5001));
+        Assertions.assertTrue(arr.ensureCapacity(6000));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> arr.ensureCapacity(Integer.MAX_VALUE));
+        Assertions.assertEquals(2500.0, arr.get(0));
+
+        arr.clear();
+        Assertions.assertTrue(arr.isEmpty());
+        Assertions.assertNull(arr.toArray());
+        arr.add(1.0);
+        Assertions.assertEquals(1, arr.size());
+
+        arr.close();
+        Assertions.assertFalse(arr.isOpen());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> arr.get(0));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> arr.add(1.0));
+        // closing the list more than once has no effect
+        arr.close();
+    }
+
+    // Tests the memory-mapped ArrayList
+
+    /**
+     * Tests whether a {@link MappedArrayList} object keeps its elements in
+     * its file once it is closed and reopened.
+     */
+    @Test
+    public void test44() throws IOException {
+        Path file = Files.createTempFile("list", ".bin");
+        try {
+            try (MappedArrayList<Long> arr =
+                         new MappedArrayList<>(file, ElementCodec.LONG, 2)) {
+                for (long i = 0; i < 100; i++) {
+                    arr.add(i * 10_000_000_000L);
+                }
+                arr.remove(0);
+                arr.force();
+                Assertions.assertEquals(99, arr.size());
+            }
+            try (MappedArrayList<Long> arr =
+                         new MappedArrayList<>(file, ElementCodec.LONG)) {
+                Assertions.assertEquals(99, arr.size());
+                Assertions.assertEquals(10_000_000_000L, arr.get(0));
+                Assertions.assertEquals(98, arr.indexOf(990_000_000_000L));
+                arr.removeRange(50, 98);
+            }
+            try (MappedArrayList<Long> arr =
+                         new MappedArrayList<>(file, ElementCodec.LONG)) {
+                Assertions.assertEquals(50, arr.size());
+                Assertions.assertEquals(500_000_000_000L, arr.get(49));
+            }
+
+            // the file cannot be opened with a codec of a different width
+            Assertions.assertThrows(IOException.class,
+                    () -> new MappedArrayList<>(file, ElementCodec.INTEGER));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Tests whether a {@link MappedArrayList} object grows and truncates its
+     * file along with its capacity.
+     */
+    @Test
+    public void test45() throws IOException {
+        Path file = Files.createTempFile("list", ".bin");
+        try (MappedArrayList<Integer> arr =
+                     new MappedArrayList<>(file, ElementCodec.INTEGER)) {
+            int header = MappedArrayList.HEADER_SIZE;
+            Assertions.assertEquals(header + 40, Files.size(file));
+            Assertions.assertTrue(arr.ensureCapacity(1000));
+            Assertions.assertEquals(header + 4000, Files.size(file));
+
+            arr.addAll(Arrays.asList(1, 3, 9, 4, 5, 2, 10, 8, 6, 7));
+            arr.trimToSize();
+            Assertions.assertEquals(header + 40, Files.size(file));
+            Assertions.assertEquals("[1 3 9 4 5 2 10 8 6 7]",
+                    arr.toString());
+
+            arr.close();
+            Assertions.assertThrows(IllegalStateException.class, arr::force);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    // Tests the binary searches of SortedArrayList
+
+    /**
+     * Tests the {@link SortedArrayList#lowerBound(Comparable)},
+     * {@link SortedArrayList#upperBound(Comparable)} and
+     * {@link SortedArrayList#rangeCount(Comparable, Comparable)} methods,
+     * along with the searches relying on them.
+     */
+    @Test
+    public void test46() {
+        // 0, 0, 8, 8, 8, 9, 9, 9, 10, 10
+        SortedArrayList<Integer> arr =
+                (SortedArrayList<Integer>) TestData.sortedList4();
+        Assertions.assertEquals(0, arr.lowerBound(-1));
+        Assertions.assertEquals(2, arr.lowerBound(8));
+        Assertions.assertEquals(5, arr.upperBound(8));
+        Assertions.assertEquals(2, arr.lowerBound(5));
+        Assertions.assertEquals(10, arr.upperBound(10));
+        Assertions.assertEquals(10, arr.lowerBound(11));
+        Assertions.assertEquals(6, arr.rangeCount(8, 9));
+        Assertions.assertEquals(0, arr.rangeCount(1, 7));
+        Assertions.assertEquals(0, arr.rangeCount(10, 0));
+
+        Assertions.assertEquals(5, arr.fastIndexOf(9));
+        Assertions.assertEquals(-1, arr.fastIndexOf(5));
+        Assertions.assertEquals(-1, arr.fastIndexOf(null));
+        Assertions.assertEquals(7, arr.lastIndexOf(9));
+        Assertions.assertEquals(6, arr.getNthOccurrenceIndex(9, 2));
+        Assertions.assertEquals(-1, arr.getNthOccurrenceIndex(9, 4));
+        Assertions.assertEquals(3, arr.getOccurrences(8));
+        Assertions.assertTrue(arr.contains(10));
+        Assertions.assertFalse(arr.contains(11));
+
+        // the old search failed for elements beyond the middle of the list
+        SortedArrayList<Integer> large = new SortedArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            large.add(i * 2);
+        }
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals(i, large.fastIndexOf(i * 2));
+            Assertions.assertEquals(-1, large.fastIndexOf(i * 2 + 1));
+        }
+        Assertions.assertThrows(NullPointerException.class,
+                () -> large.lowerBound(null));
+    }
+
+    /**
+     * Tests the merging of a {@code Collection} of elements into a
+     * {@link SortedArrayList} object.
+     */
+    @Test
+    public void test47() {
+        // -50, -10, -3, 0, 2, 5, 12, 23, 41, 90
+        SortedArrayList<Integer> arr =
+                (SortedArrayList<Integer>) TestData.sortedList2();
+        arr.addAll(Arrays.asList(100, -100, 5, null, 0, 7));
+        Assertions.assertArrayEquals(new Integer[]{-100, -50, -10, -3, 0, 0,
+                2, 5, 5, 7, 12, 23, 41, 90, 100}, arr.toArray());
+        arr.addAll(Arrays.asList());
+        Assertions.assertEquals(15, arr.size());
+
+        // equal elements are kept in the order they were added
+        SortedArrayList<String> strings = new SortedArrayList<>(0);
+        String a = new String("a");
+        String b = new String("a");
+        strings.add(a);
+        strings.addAll(Arrays.asList("b", b));
+        Assertions.assertSame(a, strings.get(0));
+        Assertions.assertSame(b, strings.get(1));
+
+        // copying an unsorted list sorts it and drops its null elements
+        ComparableArrayList<Integer> unsorted = new ComparableArrayList<>();
+        unsorted.addAll(Arrays.asList(3, null, 1, 2));
+        SortedArrayList<Integer> copy = new SortedArrayList<>(unsorted);
+        Assertions.assertArrayEquals(new Integer[]{1, 2, 3}, copy.toArray());
+    }
+
+    // Tests the range queries of SortedArrayList
+
+    /**
+     * Tests the {@link SortedArrayList#floor(Comparable)} and
+     * {@link SortedArrayList#ceiling(Comparable)} methods.
+     */
+    @Test
+    public void test48() {
+        // -50, -10, -3, 0, 2, 5, 12, 23, 41, 90
+        SortedArrayList<Integer> arr =
+                (SortedArrayList<Integer>) TestData.sortedList2();
+        Assertions.assertEquals(2, arr.floor(4));
+        Assertions.assertEquals(5, arr.ceiling(4));
+        Assertions.assertEquals(12, arr.floor(12));
+        Assertions.assertEquals(12, arr.ceiling(12));
+        Assertions.assertNull(arr.floor(-51));
+        Assertions.assertNull(arr.ceiling(91));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> arr.floor(null));
+    }
+
+    /**
+     * Tests the read-only range views of a {@link SortedArrayList} object.
+     */
+    @Test
+    public void test49() {
+        // 0, 0, 8, 8, 8, 9, 9, 9, 10, 10
+        SortedArrayList<Integer> arr =
+                (SortedArrayList<Integer>) TestData.sortedList4();
+        list.List<Integer> range = arr.subRange(1, 9);
+        Assertions.assertEquals(6, range.size());
+        Assertions.assertEquals("[8 8 8 9 9 9]", range.toString());
+        Assertions.assertEquals(8, range.get(0));
+        Assertions.assertEquals(3, range.indexOf(9));
+        Assertions.assertEquals(5, range.lastIndexOf(9));
+        Assertions.assertEquals(4, range.getNthOccurrenceIndex(9, 2));
+        Assertions.assertEquals(3, range.getOccurrences(8));
+        Assertions.assertEquals(-1, range.indexOf(0));
+        Assertions.assertEquals(-1, range.lastIndexOf(10));
+        Assertions.assertFalse(range.contains(10));
+        Assertions.assertArrayEquals(new Integer[]{8, 8, 8, 9, 9, 9},
+                range.toArray());
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> range.get(6));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> range.add(1));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> range.remove(0));
+
+        Assertions.assertEquals("[0 0 8 8 8]", arr.headRange(8).toString());
+        Assertions.assertEquals("[9 9 9 10 10]", arr.tailRange(9).toString());
+        Assertions.assertTrue(arr.subRange(9, 8).isEmpty());
+        Assertions.assertTrue(arr.tailRange(11).isEmpty());
+        Assertions.assertNull(arr.headRange(-1).toArray());
+
+        int sum = 0;
+        for (int e : arr.view()) {
+            sum += e;
+        }
+        Assertions.assertEquals(71, sum);
+        Assertions.assertEquals(10, arr.view().size());
+    }
+
+    // Tests the B+-tree-backed sorted list
+
+    /**
+     * Tests the general functionality of a {@link BTreeSortedList} object,
+     * which should behave like a {@link SortedArrayList}.
+     */
+    @Test
+    public void test50() {
+        BTreeSortedList<Integer> arr = new BTreeSortedList<>();
+        arr.addAll(Arrays.asList(0, 10, 9, 8, 10, 9, 0, 8, 8, 9));
+        Assertions.assertEquals("[0 0 8 8 8 9 9 9 10 10]", arr.toString());
+        Assertions.assertEquals(2, arr.indexOf(8));
+        Assertions.assertEquals(4, arr.lastIndexOf(8));
+        Assertions.assertEquals(6, arr.getNthOccurrenceIndex(9, 2));
+        Assertions.assertEquals(3, arr.getOccurrences(9));
+        Assertions.assertEquals(-1, arr.indexOf(5));
+        Assertions.assertEquals(8, arr.ceiling(5));
+        Assertions.assertEquals(0, arr.floor(5));
+        Assertions.assertEquals(6, arr.rangeCount(1, 9));
+        Assertions.assertFalse(arr.add(null));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> arr.add(0, 1));
+
+        Assertions.assertEquals(8, arr.set(2, 11));
+        Assertions.assertArrayEquals(new Integer[]{9, 9, 9},
+                arr.removeRange(4, 6));
+        Assertions.assertEquals("[0 0 8 8 10 10 11]", arr.toString());
+
+        BTreeSortedList<Integer> copy =
+                new BTreeSortedList<>(TestData.defaultList1());
+        Assertions.assertEquals("[1 2 3 4 5 6 7 8 9 10]", copy.toString());
+        copy.clear();
+        Assertions.assertNull(copy.toArray());
+        Assertions.assertEquals("[]", copy.toString());
+    }
+
+    /**
+     * Tests a {@link BTreeSortedList} object deep enough to have several
+     * levels of branches against a sorted {@code java.util.ArrayList}, under
+     * random insertions and removals.
+     */
+    @Test
+    public void test51() {
+        Random random = new Random(7);
+        BTreeSortedList<Integer> arr = new BTreeSortedList<>();
+        List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int e = random.nextInt(5000);
+            arr.add(e);
+            expected.add(e);
+        }
+        expected.sort(null);
+        Assertions.assertArrayEquals(expected.toArray(), arr.toArray());
+        for (int i = 0; i < 1000; i++) {
+            int index = random.nextInt(expected.size());
+            Assertions.assertEquals(expected.get(index), arr.get(index));
+            int e = random.nextInt(5000);
+            Assertions.assertEquals(expected.indexOf(e), arr.indexOf(e));
+            Assertions.assertEquals(expected.lastIndexOf(e),
+                    arr.lastIndexOf(e));
+        }
+
+        // removes most elements, so that blocks are merged and rebalanced
+        while (expected.size() > 100) {
+            int index = random.nextInt(expected.size());
+            Assertions.assertEquals(expected.remove(index), arr.remove(index));
+            if (expected.size() % 1000 == 0) {
+                Assertions.assertArrayEquals(expected.toArray(),
+                        arr.toArray());
+            }
+        }
+        Assertions.assertEquals(100, arr.size());
+        Assertions.assertArrayEquals(expected.toArray(), arr.toArray());
+
+        // merges a large batch, then removes every odd element by iterator
+        List<Integer> batch = new java.util.ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            batch.add(random.nextInt(5000));
+        }
+        arr.addAll(batch);
+        expected.addAll(batch);
+        expected.sort(null);
+        Assertions.assertArrayEquals(expected.toArray(), arr.toArray());
+        Iterator<Integer> itr = arr.iterator();
+        while (itr.hasNext()) {
+            if (itr.next() % 2 != 0) {
+                itr.remove();
+            }
+        }
+        expected.removeIf(e -> e % 2 != 0);
+        Assertions.assertArrayEquals(expected.toArray(), arr.toArray());
+        arr.trimToSize();
+        Assertions.assertArrayEquals(expected.toArray(), arr.toArray());
+        Assertions.assertEquals(expected.size(), arr.size());
+    }
+
+    /**
+     * Tests removing elements of a {@link DefaultArrayList} through its
+     * iterator, such that no element is skipped after a removal, and that
+     * the iterators of the array lists report why a removal fails.
+     */
+    @Test
+    public void test52() {
+        DefaultArrayList<Integer> arr = new DefaultArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            arr.add(i);
+        }
+        List<Integer> visited = new java.util.ArrayList<>();
+        Iterator<Integer> itr = arr.iterator();
+        while (itr.hasNext()) {
+            int e = itr.next();
+            visited.add(e);
+            if (e % 2 == 0) {
+                itr.remove();
+            }
+        }
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), visited);
+        Assertions.assertArrayEquals(new Integer[]{1, 3, 5}, arr.toArray());
+        // removes the last element returned, 5, only once
+        itr.remove();
+        Assertions.assertThrows(IllegalStateException.class, itr::remove);
+        Assertions.assertArrayEquals(new Integer[]{1, 3}, arr.toArray());
+
+        // removing the first element twice reports the second removal
+        IntArrayList ints = new IntArrayList();
+        BTreeSortedList<Integer> sorted = new BTreeSortedList<>();
+        for (int e : new int[]{1, 3}) {
+            ints.add(e);
+            sorted.add(e);
+        }
+        List<Iterator<?>> iterators = Arrays.asList(arr.iterator(),
+                ints.iterator(), sorted.iterator());
+        for (Iterator<?> first : iterators) {
+            IllegalStateException e = Assertions.assertThrows(
+                    IllegalStateException.class, first::remove);
+            Assertions.assertEquals("next() has not been called",
+                    e.getMessage());
+            first.next();
+            first.remove();
+            e = Assertions.assertThrows(IllegalStateException.class,
+                    first::remove);
+            Assertions.assertEquals("element has already been removed",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that an {@link OffHeapArrayList} object keeps its elements in
+     * native memory across resizes, and can no longer be used once closed.
+     * The direct memory of the virtual machine is shared with every other
+     * direct buffer, so only a lower bound of it is checked.
+     */
+    @Test
+    public void test53() {
+        int capacity = 1 << 22;
+        long before = directMemoryUsed();
+        OffHeapArrayList<Integer> arr =
+                new OffHeapArrayList<>(ElementCodec.INTEGER, capacity);
+        arr.add(42);
+        Assertions.assertEquals(capacity, arr.capacity());
+        Assertions.assertTrue(directMemoryUsed() >= before + 4L * capacity);
+        Assertions.assertTrue(arr.ensureCapacity(2 * capacity));
+        Assertions.assertEquals(2 * capacity, arr.capacity());
+        Assertions.assertTrue(directMemoryUsed() >= before + 8L * capacity);
+        arr.trimToSize();
+        Assertions.assertEquals(1, arr.capacity());
+        Assertions.assertEquals(42, arr.get(0));
+        arr.close();
+        Assertions.assertFalse(arr.isOpen());
+        Assertions.assertEquals(0, arr.size());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> arr.get(0));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> arr.add(1));
+        // closing twice has no effect
+        arr.close();
+    }
+
+    /**
+     * Tests whether a {@link MappedArrayList} object spread over several
+     * segments moves its elements across their boundaries, and maps, unmaps
+     * and truncates the segments along with its capacity.
+     */
+    @Test
+    public void test54() throws IOException {
+        Path file = Files.createTempFile("list", ".bin");
+        try {
+            List<Integer> expected = new java.util.ArrayList<>();
+            Random random = new Random(54);
+            // segments of 8 elements
+            try (MappedArrayList<Integer> arr = new MappedArrayList<>(file,
+                    ElementCodec.INTEGER, 5, GrowthPolicy.GEOMETRIC, 3)) {
+                for (int i = 0; i < 500; i++) {
+                    int index = random.nextInt(expected.size() + 1);
+                    arr.add(index, i);
+                    expected.add(index, i);
+                }
+                for (int i = 0; i < 100; i++) {
+                    int index = random.nextInt(expected.size());
+                    Assertions.assertEquals(expected.remove(index),
+                            arr.remove(index));
+                }
+                arr.addAll(13, Arrays.asList(-1, -2, -3, -4, -5, -6, -7, -8,
+                        -9, -10, -11, -12, -13, -14, -15, -16, -17));
+                expected.addAll(13, Arrays.asList(-1, -2, -3, -4, -5, -6, -7,
+                        -8, -9, -10, -11, -12, -13, -14, -15, -16, -17));
+                arr.removeRange(100, 150);
+                expected.subList(100, 151).clear();
+                Assertions.assertArrayEquals(expected.toArray(),
+                        arr.toArray());
+                Assertions.assertEquals(expected.indexOf(-9),
+                        arr.indexOf(-9));
+                Assertions.assertEquals(expected.lastIndexOf(499),
+                        arr.lastIndexOf(499));
+
+                arr.trimToSize();
+                Assertions.assertEquals(MappedArrayList.HEADER_SIZE
+                        + 4L * expected.size(), Files.size(file));
+            }
+
+            // the segments are contiguous in the file, so it can be reopened
+            // with segments of any size
+            try (MappedArrayList<Integer> arr =
+                         new MappedArrayList<>(file, ElementCodec.INTEGER)) {
+                Assertions.assertArrayEquals(expected.toArray(),
+                        arr.toArray());
+            }
+            try (MappedArrayList<Integer> arr = new MappedArrayList<>(file,
+                    ElementCodec.INTEGER, 0, GrowthPolicy.GEOMETRIC, 2)) {
+                Iterator<Integer> itr = arr.iterator();
+                for (Integer e : expected) {
+                    Assertions.assertEquals(e, itr.next());
+                }
+                Assertions.assertFalse(itr.hasNext());
+                arr.removeRange(4, arr.size() - 1);
+                arr.trimToSize();
+                Assertions.assertEquals(MappedArrayList.HEADER_SIZE + 16,
+                        Files.size(file));
+                Assertions.assertEquals(expected.subList(0, 4).toString()
+                        .replace(",", ""), arr.toString());
+            }
+
+            // a segment cannot exceed Integer.MAX_VALUE bytes
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> new MappedArrayList<>(file, ElementCodec.LONG, 0,
+                            GrowthPolicy.GEOMETRIC, 29));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Retrieves the number of bytes of native memory held by the direct
+     * buffers of the virtual machine.
+     *
+     * @return the memory used by direct buffers, in bytes
+     */
+    private static long directMemoryUsed() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(
+                BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool.getMemoryUsed();
+            }
+        }
+        throw new IllegalStateException("direct buffer pool not found");
+    }
+
+}
@@ -156,4 +156,17 @@ class TestData {
         return arr;
     }
 
+    /**
+     * Creates a {@link IntArrayList} object with all positive {@code int}s
+     * from {@code 1} to {@code 10} in the order:
+     * <blockquote>{@code 1, 3, 9, 4, 5, 2, 10, 8, 6, 7}</blockquote>
+     *
+     * @return a {@code IntArrayList} object
+     */
+    public static IntArrayList intList1() {
+        IntArrayList arr = new IntArrayList();
+        arr.addAll(new int[]{1, 3, 9, 4, 5, 2, 10, 8, 6, 7});
+        return arr;
+    }
+
 }
@@ -3,8 +3,17 @@ package queue;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Provides tests for the implementations of the {@link Queue}.
@@ -129,4 +138,784 @@ class QueueTest {
         Assertions.assertEquals(100, queue.peek());
     }
 
-}
\ No newline at end of file
+    // Tests the chunks of LinkedQueue
+
+    /**
+     * Tests enqueueing and dequeueing enough elements in a
+     * {@link LinkedQueue} object to go through several chunks.
+     */
+    @Test
+    public void test9() {
+        Queue<Integer> queue = new LinkedQueue<>();
+        int n = LinkedQueue.CHUNK_SIZE * 3 + 5;
+        for (int i = 0; i < n; i++) {
+            queue.offer(i);
+        }
+        Assertions.assertEquals(n, queue.size());
+        Assertions.assertTrue(queue.contains(n - 1));
+        Assertions.assertFalse(queue.contains(n));
+
+        // keeps the size steady while the elements move through the chunks
+        for (int i = 0; i < n * 2; i++) {
+            Assertions.assertEquals(i, queue.poll());
+            queue.offer(n + i);
+        }
+        Assertions.assertEquals(n * 2, queue.peek());
+        Assertions.assertTrue(queue.contains(n * 3 - 1));
+        for (int i = n * 2; i < n * 3; i++) {
+            Assertions.assertEquals(i, queue.remove());
+        }
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertNull(queue.poll());
+        queue.add(1);
+        Assertions.assertEquals(1, queue.element());
+    }
+
+    // Tests the growth of ArrayQueue
+
+    /**
+     * Tests growing an {@link ArrayQueue} object past its initial capacity
+     * while its elements wrap around the end of the array.
+     */
+    @Test
+    public void test10() {
+        ArrayQueue<Integer> queue = new ArrayQueue<>(5);
+        Assertions.assertEquals(8, queue.capacity());
+        // moves the head to the middle of the array, so the elements wrap
+        for (int i = 0; i < 6; i++) {
+            queue.offer(-1);
+            queue.poll();
+        }
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(queue.offer(i));
+        }
+        Assertions.assertEquals(128, queue.capacity());
+        Assertions.assertTrue(queue.contains(99));
+        Assertions.assertFalse(queue.contains(-1));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i, queue.remove());
+        }
+        Assertions.assertNull(queue.poll());
+        // the array is kept, since shrinking is disabled
+        Assertions.assertEquals(128, queue.capacity());
+        Assertions.assertEquals(16, new ArrayQueue<>().capacity());
+        Assertions.assertEquals(16, new ArrayQueue<>(0).capacity());
+    }
+
+    /**
+     * Tests shrinking an {@link ArrayQueue} object back to its initial
+     * capacity as it empties.
+     */
+    @Test
+    public void test11() {
+        ArrayQueue<Integer> queue = new ArrayQueue<>(16, true);
+        for (int i = 0; i < 1000; i++) {
+            queue.add(i);
+        }
+        Assertions.assertEquals(1024, queue.capacity());
+        for (int i = 0; i < 800; i++) {
+            Assertions.assertEquals(i, queue.poll());
+        }
+        // halved once the queue dropped below a quarter of the capacity
+        Assertions.assertEquals(512, queue.capacity());
+        Assertions.assertEquals(200, queue.size());
+        Assertions.assertEquals(800, queue.peek());
+        for (int i = 800; i < 1000; i++) {
+            Assertions.assertEquals(i, queue.poll());
+        }
+        Assertions.assertEquals(16, queue.capacity());
+        queue.add(1);
+        Assertions.assertEquals(1, queue.element());
+    }
+
+    // Tests the single-producer single-consumer queue
+
+    /**
+     * Tests the general functionality of an {@link SpscArrayQueue} object,
+     * used by a single thread.
+     */
+    @Test
+    public void test12() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(3);
+        Assertions.assertEquals(4, queue.capacity());
+        Assertions.assertNull(queue.poll());
+        Assertions.assertNull(queue.peek());
+        Assertions.assertThrows(NoSuchElementException.class, queue::remove);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(queue.offer(i));
+        }
+        Assertions.assertFalse(queue.offer(4));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> queue.add(4));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> queue.offer(null));
+        Assertions.assertEquals(4, queue.size());
+        Assertions.assertTrue(queue.contains(3));
+        Assertions.assertEquals(0, queue.element());
+        Assertions.assertEquals(0, queue.remove());
+        Assertions.assertTrue(queue.offer(4));
+        Assertions.assertFalse(queue.contains(0));
+        for (int i = 1; i <= 4; i++) {
+            Assertions.assertEquals(i, queue.poll());
+        }
+        Assertions.assertTrue(queue.isEmpty());
+        queue.add(5);
+        queue.clear();
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Tests handing elements from a producer thread to a consumer thread
+     * through an {@link SpscArrayQueue} object, which should receive every
+     * element exactly once and in order.
+     */
+    @Test
+    public void test13() throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(64);
+        int n = 100_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < n; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+        for (int i = 0; i < n; i++) {
+            Integer e;
+            while ((e = queue.poll()) == null) {
+                Thread.yield();
+            }
+            Assertions.assertEquals(i, e);
+        }
+        producer.join();
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    // Tests the multi-producer multi-consumer queue
+
+    /**
+     * Tests the general functionality of an {@link MpmcLinkedQueue} object,
+     * used by a single thread.
+     */
+    @Test
+    public void test14() {
+        MpmcLinkedQueue<Integer> queue = new MpmcLinkedQueue<>();
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertNull(queue.poll());
+        Assertions.assertNull(queue.peek());
+        Assertions.assertThrows(NoSuchElementException.class, queue::remove);
+        Assertions.assertThrows(NoSuchElementException.class, queue::element);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> queue.offer(null));
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(queue.offer(i));
+        }
+        Assertions.assertEquals(100, queue.size());
+        Assertions.assertTrue(queue.contains(99));
+        Assertions.assertFalse(queue.contains(100));
+        Assertions.assertFalse(queue.contains(null));
+        Assertions.assertEquals(0, queue.element());
+        Assertions.assertEquals(0, queue.remove());
+        Assertions.assertFalse(queue.contains(0));
+        for (int i = 1; i < 50; i++) {
+            Assertions.assertEquals(i, queue.poll());
+        }
+        Assertions.assertEquals(50, queue.peek());
+        Assertions.assertEquals(50, queue.size());
+        queue.clear();
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertEquals(0, queue.size());
+        Assertions.assertTrue(queue.add(7));
+        Assertions.assertEquals(7, queue.poll());
+    }
+
+    /**
+     * Tests several producer threads and several consumer threads sharing an
+     * {@link MpmcLinkedQueue} object. Every element should be received exactly
+     * once, and each consumer should receive the elements of each producer in
+     * the order they were offered.
+     */
+    @Test
+    public void test15() throws InterruptedException {
+        MpmcLinkedQueue<Integer> queue = new MpmcLinkedQueue<>();
+        int producers = 3;
+        int consumers = 3;
+        int n = 30_000;
+        AtomicIntegerArray received = new AtomicIntegerArray(producers * n);
+        AtomicInteger remaining = new AtomicInteger(producers * n);
+        AtomicBoolean ordered = new AtomicBoolean(true);
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            int first = p * n;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < n; i++) {
+                    queue.offer(first + i);
+                    if (i % 64 == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                int[] last = new int[producers];
+                Arrays.fill(last, -1);
+                while (remaining.get() > 0) {
+                    Integer e = queue.poll();
+                    if (e == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    remaining.decrementAndGet();
+                    received.incrementAndGet(e);
+                    int p = e / n;
+                    if (e % n <= last[p]) {
+                        ordered.set(false);
+                    }
+                    last[p] = e % n;
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertTrue(ordered.get());
+        for (int i = 0; i < producers * n; i++) {
+            Assertions.assertEquals(1, received.get(i));
+        }
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertNull(queue.poll());
+    }
+
+    /**
+     * Tests several threads each offering an element, then polling one, on a
+     * shared {@link MpmcLinkedQueue} object. Since every thread has offered
+     * more elements than it has polled, a linearizable queue is never empty
+     * when polled, and ends up empty once every thread is done.
+     */
+    @Test
+    public void test16() throws InterruptedException {
+        MpmcLinkedQueue<Integer> queue = new MpmcLinkedQueue<>();
+        int n = 20_000;
+        AtomicBoolean neverEmpty = new AtomicBoolean(true);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < n; i++) {
+                    queue.offer(id);
+                    if (queue.poll() == null) {
+                        neverEmpty.set(false);
+                    }
+                    if (i % 64 == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertTrue(neverEmpty.get());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    // Tests the blocking and batch operations
+
+    /**
+     * Tests the general functionality of a {@link LockedQueue} object wrapping
+     * an {@link ArrayQueue}, used by a single thread, including the timeouts
+     * of the timed operations and the batch operations.
+     */
+    @Test
+    public void test17() throws InterruptedException {
+        LockedQueue<Integer> queue = new LockedQueue<>(new ArrayQueue<>(), 4);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new LockedQueue<>(new ArrayQueue<Integer>(), 0));
+        Assertions.assertEquals(4, queue.remainingCapacity());
+        Assertions.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        Assertions.assertThrows(NoSuchElementException.class, queue::remove);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> queue.offer(null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> queue.offerAll(Arrays.asList(1, null)));
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertEquals(3, queue.offerAll(Arrays.asList(0, 1, 2)));
+        queue.put(3);
+        Assertions.assertFalse(queue.offer(4));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> queue.add(4));
+        Assertions.assertFalse(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(0, queue.offerAll(Arrays.asList(4, 5)));
+        Assertions.assertEquals(0, queue.remainingCapacity());
+        Assertions.assertTrue(queue.contains(3));
+        Assertions.assertEquals(0, queue.element());
+        Assertions.assertEquals(0, queue.take());
+        Assertions.assertEquals(1, queue.offerAll(Arrays.asList(4, 5)));
+        List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(2, queue.drainTo(drained, 2));
+        Assertions.assertEquals(Arrays.asList(1, 2), drained);
+        Assertions.assertEquals(2, queue.drainTo(drained));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4), drained);
+        Assertions.assertEquals(0, queue.drainTo(drained));
+        Assertions.assertTrue(queue.offer(6, 10, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(6, queue.poll(10, TimeUnit.MILLISECONDS));
+        queue.add(7);
+        queue.clear();
+        Assertions.assertEquals(0, queue.size());
+    }
+
+    /**
+     * Tests producer threads putting elements into a bounded
+     * {@link LockedQueue} object wrapping a {@link LinkedQueue}, while a
+     * consumer thread takes them in batches. Every element should be received
+     * exactly once, and the elements of each producer in order.
+     */
+    @Test
+    public void test18() throws InterruptedException {
+        LockedQueue<Integer> queue = new LockedQueue<>(new LinkedQueue<>(),
+                100);
+        int producers = 3;
+        int n = 30_000;
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int first = p * n;
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < n; i++) {
+                        queue.put(first + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[p].start();
+        }
+        int[] received = new int[producers * n];
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        List<Integer> batch = new ArrayList<>();
+        for (int count = 0; count < producers * n; ) {
+            batch.clear();
+            batch.add(queue.take());
+            queue.drainTo(batch, 63);
+            for (int e : batch) {
+                received[e]++;
+                Assertions.assertTrue(e % n > last[e / n]);
+                last[e / n] = e % n;
+            }
+            count += batch.size();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < producers * n; i++) {
+            Assertions.assertEquals(1, received[i]);
+        }
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Tests the batch operations of an {@link SpscArrayQueue} object, handing
+     * elements from a producer thread to a consumer thread in batches.
+     */
+    @Test
+    public void test19() throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(4);
+        Assertions.assertEquals(3, queue.offerAll(Arrays.asList(0, 1, 2)));
+        Assertions.assertEquals(1, queue.offerAll(Arrays.asList(3, 4, 5)));
+        Assertions.assertEquals(0, queue.offerAll(Arrays.asList(4, 5)));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> queue.offerAll(Arrays.asList(4, null)));
+        List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(3, queue.drainTo(drained, 3));
+        Assertions.assertEquals(2, queue.offerAll(Arrays.asList(4, 5)));
+        Assertions.assertEquals(3, queue.drainTo(drained, 10));
+        Assertions.assertEquals(0, queue.drainTo(drained, 10));
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), drained);
+
+        SpscArrayQueue<Integer> shared = new SpscArrayQueue<>(64);
+        int n = 100_000;
+        Thread producer = new Thread(() -> {
+            List<Integer> batch = new ArrayList<>();
+            for (int i = 0; i < n; ) {
+                batch.clear();
+                for (int j = i; j < Math.min(n, i + 16); j++) {
+                    batch.add(j);
+                }
+                int offered = shared.offerAll(batch);
+                if (offered == 0) {
+                    Thread.yield();
+                }
+                i += offered;
+            }
+        });
+        producer.start();
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < n; ) {
+            batch.clear();
+            if (shared.drainTo(batch, 32) == 0) {
+                Thread.yield();
+            }
+            for (int e : batch) {
+                Assertions.assertEquals(i++, e);
+            }
+        }
+        producer.join();
+        Assertions.assertTrue(shared.isEmpty());
+    }
+
+    // Tests the two-lock blocking queue
+
+    /**
+     * Tests the general functionality of a {@link TwoLockLinkedQueue} object,
+     * used by a single thread.
+     */
+    @Test
+    public void test20() throws InterruptedException {
+        TwoLockLinkedQueue<Integer> queue = new TwoLockLinkedQueue<>(4);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TwoLockLinkedQueue<Integer>(0));
+        Assertions.assertNull(queue.poll());
+        Assertions.assertNull(queue.peek());
+        Assertions.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        Assertions.assertThrows(NoSuchElementException.class,
+                queue::element);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> queue.put(null));
+        Assertions.assertEquals(2, queue.offerAll(Arrays.asList(0, 1)));
+        queue.put(2);
+        Assertions.assertTrue(queue.offer(3, 10, TimeUnit.MILLISECONDS));
+        Assertions.assertFalse(queue.offer(4));
+        Assertions.assertFalse(queue.offer(4, 10, TimeUnit.MILLISECONDS));
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> queue.add(4));
+        Assertions.assertEquals(4, queue.size());
+        Assertions.assertEquals(0, queue.remainingCapacity());
+        Assertions.assertTrue(queue.contains(2));
+        Assertions.assertFalse(queue.contains(4));
+        Assertions.assertEquals(0, queue.peek());
+        Assertions.assertEquals(0, queue.take());
+        Assertions.assertEquals(1, queue.remove());
+        Assertions.assertEquals(2, queue.offerAll(Arrays.asList(4, 5, 6)));
+        List<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(3, queue.drainTo(drained, 3));
+        Assertions.assertEquals(Arrays.asList(2, 3, 4), drained);
+        Assertions.assertEquals(5, queue.poll(10, TimeUnit.MILLISECONDS));
+        Assertions.assertTrue(queue.isEmpty());
+        queue.add(7);
+        queue.add(8);
+        queue.clear();
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertEquals(0, queue.drainTo(drained));
+        queue.add(9);
+        Assertions.assertEquals(9, queue.element());
+    }
+
+    /**
+     * Tests several producer threads putting elements into a bounded
+     * {@link TwoLockLinkedQueue} object, while several consumer threads take
+     * them, one at a time or in batches. Every element should be received
+     * exactly once, and each consumer should receive the elements of each
+     * producer in the order they were put.
+     */
+    @Test
+    public void test21() throws InterruptedException {
+        TwoLockLinkedQueue<Integer> queue = new TwoLockLinkedQueue<>(64);
+        int producers = 3;
+        int consumers = 3;
+        int n = 30_000;
+        AtomicIntegerArray received = new AtomicIntegerArray(producers * n);
+        AtomicInteger remaining = new AtomicInteger(producers * n);
+        AtomicBoolean ordered = new AtomicBoolean(true);
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            int first = p * n;
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < n; i++) {
+                        queue.put(first + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            boolean batches = c % 2 == 0;
+            threads[producers + c] = new Thread(() -> {
+                int[] last = new int[producers];
+                Arrays.fill(last, -1);
+                List<Integer> batch = new ArrayList<>();
+                try {
+                    while (remaining.get() > 0) {
+                        batch.clear();
+                        Integer e = queue.poll(1, TimeUnit.MILLISECONDS);
+                        if (e == null) {
+                            continue;
+                        }
+                        batch.add(e);
+                        if (batches) {
+                            queue.drainTo(batch, 15);
+                        }
+                        for (int x : batch) {
+                            received.incrementAndGet(x);
+                            if (x % n <= last[x / n]) {
+                                ordered.set(false);
+                            }
+                            last[x / n] = x % n;
+                        }
+                        remaining.addAndGet(-batch.size());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertTrue(ordered.get());
+        for (int i = 0; i < producers * n; i++) {
+            Assertions.assertEquals(1, received.get(i));
+        }
+        Assertions.assertTrue(queue.isEmpty());
+    }
+
+    // Tests the priority queues
+
+    /**
+     * Tests the general functionality of a {@link PriorityQueue} object,
+     * ordered by natural ordering or by a comparator, and built from a
+     * collection.
+     */
+    @Test
+    public void test22() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        Assertions.assertNull(queue.poll());
+        Assertions.assertNull(queue.peek());
+        Assertions.assertThrows(NoSuchElementException.class, queue::remove);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> queue.offer(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new PriorityQueue<Integer>(1, null));
+        for (int e : new int[]{5, 3, 8, 1, 9, 1, 7}) {
+            queue.add(e);
+        }
+        Assertions.assertEquals(7, queue.size());
+        Assertions.assertTrue(queue.contains(9));
+        Assertions.assertFalse(queue.contains(2));
+        Assertions.assertEquals(1, queue.element());
+        for (int e : new int[]{1, 1, 3, 5, 7, 8, 9}) {
+            Assertions.assertEquals(e, queue.poll());
+        }
+        Assertions.assertTrue(queue.isEmpty());
+
+        PriorityQueue<String> reversed = new PriorityQueue<>(
+                Arrays.asList("b", "d", "a", "c"),
+                Comparator.reverseOrder());
+        Assertions.assertEquals("d", reversed.remove());
+        Assertions.assertEquals("c", reversed.remove());
+        reversed.clear();
+        Assertions.assertTrue(reversed.isEmpty());
+
+        Random random = new Random(42);
+        for (int arity = 2; arity <= 8; arity++) {
+            List<Integer> elements = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                elements.add(random.nextInt(500));
+            }
+            PriorityQueue<Integer> heap = new PriorityQueue<>(elements, arity,
+                    null);
+            java.util.PriorityQueue<Integer> expected =
+                    new java.util.PriorityQueue<>(elements);
+            for (int i = 0; i < 5000; i++) {
+                if (random.nextInt(3) == 0) {
+                    Assertions.assertEquals(expected.poll(), heap.poll());
+                } else {
+                    int e = random.nextInt(500);
+                    heap.offer(e);
+                    expected.offer(e);
+                }
+                Assertions.assertEquals(expected.size(), heap.size());
+            }
+            while (!expected.isEmpty()) {
+                Assertions.assertEquals(expected.poll(), heap.poll());
+            }
+        }
+    }
+
+    /**
+     * Tests the handles of a {@link PriorityQueue} object, used to decrease
+     * and remove elements.
+     */
+    @Test
+    public void test23() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(3, null);
+        List<PriorityQueue.Handle<Integer>> handles = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            handles.add(queue.insert(100 + i));
+        }
+        queue.offer(50);
+        queue.decreaseKey(handles.get(9), 10);
+        Assertions.assertEquals(10, queue.peek());
+        Assertions.assertEquals(10, handles.get(9).element());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> queue.decreaseKey(handles.get(0), 200));
+        Assertions.assertEquals(105, queue.remove(handles.get(5)));
+        Assertions.assertFalse(handles.get(5).isValid());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> queue.remove(handles.get(5)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new PriorityQueue<Integer>().remove(handles.get(0)));
+        Assertions.assertEquals(10, queue.poll());
+        Assertions.assertFalse(handles.get(9).isValid());
+        Assertions.assertEquals(50, queue.poll());
+        for (int i : new int[]{0, 1, 2, 3, 4, 6, 7, 8}) {
+            Assertions.assertTrue(handles.get(i).isValid());
+            Assertions.assertEquals(100 + i, handles.get(i).element());
+            Assertions.assertEquals(100 + i, queue.poll());
+        }
+        Assertions.assertTrue(queue.isEmpty());
+
+        Random random = new Random(7);
+        TreeMap<Integer, PriorityQueue.Handle<Integer>> live = new TreeMap<>();
+        int next = 1_000_000;
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(4);
+            if (op == 0 || live.isEmpty()) {
+                next -= 1 + random.nextInt(3);
+                int key = next + random.nextInt(2_000_000);
+                if (!live.containsKey(key)) {
+                    live.put(key, queue.insert(key));
+                }
+            } else if (op == 1) {
+                int key = live.firstKey();
+                Assertions.assertEquals(key, queue.poll());
+                live.remove(key);
+            } else {
+                List<Integer> keys = new ArrayList<>(live.keySet());
+                int key = keys.get(random.nextInt(keys.size()));
+                PriorityQueue.Handle<Integer> handle = live.remove(key);
+                if (op == 2) {
+                    Assertions.assertEquals(key, queue.remove(handle));
+                } else {
+                    int lower = key - 1 - random.nextInt(1000);
+                    if (!live.containsKey(lower)) {
+                        queue.decreaseKey(handle, lower);
+                        live.put(lower, handle);
+                    } else {
+                        live.put(key, handle);
+                    }
+                }
+            }
+            Assertions.assertEquals(live.size(), queue.size());
+        }
+        for (int key : live.keySet()) {
+            Assertions.assertEquals(key, queue.poll());
+        }
+    }
+
+    /**
+     * Tests the general functionality of a {@link LongPriorityQueue} object,
+     * compared against a {@code java.util.PriorityQueue}.
+     */
+    @Test
+    public void test24() {
+        LongPriorityQueue<String> queue = new LongPriorityQueue<>();
+        Assertions.assertNull(queue.poll());
+        Assertions.assertThrows(NoSuchElementException.class,
+                queue::peekPriority);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> queue.offer(1, null));
+        queue.add(30, "c");
+        queue.add(10, "a");
+        queue.add(20, "b");
+        Assertions.assertEquals(10, queue.peekPriority());
+        Assertions.assertEquals("a", queue.element());
+        Assertions.assertTrue(queue.contains("b"));
+        Assertions.assertEquals("a", queue.remove());
+        Assertions.assertEquals("b", queue.poll());
+        Assertions.assertEquals(1, queue.size());
+        queue.clear();
+        Assertions.assertTrue(queue.isEmpty());
+
+        Random random = new Random(42);
+        LongPriorityQueue<Long> heap = new LongPriorityQueue<>(5);
+        java.util.PriorityQueue<Long> expected =
+                new java.util.PriorityQueue<>();
+        for (int i = 0; i < 20_000; i++) {
+            if (random.nextInt(3) == 0) {
+                Long e = expected.poll();
+                if (e != null) {
+                    Assertions.assertEquals(e, heap.peekPriority());
+                }
+                Assertions.assertEquals(e, heap.poll());
+            } else {
+                long priority = random.nextLong() % 1000;
+                heap.offer(priority, priority);
+                expected.offer(priority);
+            }
+            Assertions.assertEquals(expected.size(), heap.size());
+        }
+    }
+
+    // Tests the blocking operations of LockedQueue over a bounded queue
+
+    /**
+     * Tests an unbounded {@link LockedQueue} object wrapping a bounded
+     * {@link SpscArrayQueue}. A refused element should make the queue full, so
+     * that a producer waits for a consumer instead of failing.
+     */
+    @Test
+    public void test25() throws InterruptedException {
+        LockedQueue<Integer> queue = new LockedQueue<>(
+                new SpscArrayQueue<>(2));
+        queue.put(0);
+        queue.put(1);
+        Assertions.assertFalse(queue.offer(2));
+        Assertions.assertFalse(queue.offer(2, 10, TimeUnit.MILLISECONDS));
+
+        int n = 10_000;
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 2; i < n; i++) {
+                    queue.put(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(i, queue.take());
+        }
+        producer.join();
+        Assertions.assertTrue(queue.isEmpty());
+
+        Thread consumer = new Thread(() -> {
+            try {
+                Thread.sleep(10);
+                queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        queue.put(0);
+        queue.put(1);
+        consumer.start();
+        Assertions.assertTrue(queue.offer(2, 10, TimeUnit.SECONDS));
+        consumer.join();
+        Assertions.assertEquals(2, queue.size());
+    }
+}
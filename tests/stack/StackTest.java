@@ -1,10 +1,14 @@
 package stack;
 
+import list.arraylist.GrowthPolicy;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.EmptyStackException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Provides tests for the implementations of the {@link Stack}.
@@ -131,4 +135,279 @@ class StackTest {
         Assertions.assertEquals(100, stack.peek());
     }
 
-}
\ No newline at end of file
+    // Tests the chunks of LinkedStack
+
+    /**
+     * Tests pushing and popping enough elements in a {@link LinkedStack}
+     * object to fill several chunks.
+     */
+    @Test
+    public void test9() {
+        Stack<Integer> stack = new LinkedStack<>();
+        int n = LinkedStack.CHUNK_SIZE * 3 + 5;
+        for (int i = 0; i < n; i++) {
+            stack.push(i);
+        }
+        Assertions.assertEquals(n, stack.size());
+        Assertions.assertEquals(n - 1, stack.peek());
+        Assertions.assertEquals(0, stack.search(n - 1));
+        Assertions.assertEquals(n - 1, stack.search(0));
+        Assertions.assertEquals(-1, stack.search(n));
+
+        // pops and pushes around the edge of a chunk
+        for (int i = n - 1; i >= LinkedStack.CHUNK_SIZE - 1; i--) {
+            Assertions.assertEquals(i, stack.pop());
+        }
+        stack.push(-1);
+        stack.push(-2);
+        Assertions.assertEquals(-2, stack.pop());
+        Assertions.assertEquals(-1, stack.pop());
+        for (int i = LinkedStack.CHUNK_SIZE - 2; i >= 0; i--) {
+            Assertions.assertEquals(i, stack.pop());
+        }
+        Assertions.assertTrue(stack.isEmpty());
+        Assertions.assertThrows(java.util.EmptyStackException.class,
+                stack::pop);
+    }
+
+    // Tests the growth of ArrayStack
+
+    /**
+     * Tests pushing more elements than the initial capacity of an
+     * {@link ArrayStack} object, and clearing it without losing the array.
+     */
+    @Test
+    public void test10() {
+        ArrayStack<Integer> stack = new ArrayStack<>(4);
+        Assertions.assertEquals(4, stack.capacity());
+        for (int i = 0; i < 10_000; i++) {
+            stack.push(i);
+        }
+        Assertions.assertEquals(10_000, stack.size());
+        Assertions.assertTrue(stack.capacity() >= 10_000);
+        Assertions.assertEquals(9_999, stack.peek());
+        Assertions.assertEquals(9_999, stack.search(0));
+        int capacity = stack.capacity();
+        for (int i = 9_999; i >= 5_000; i--) {
+            Assertions.assertEquals(i, stack.pop());
+        }
+        Assertions.assertEquals(capacity, stack.capacity());
+        stack.clear();
+        Assertions.assertTrue(stack.isEmpty());
+        Assertions.assertEquals(capacity, stack.capacity());
+        stack.push(1);
+        Assertions.assertEquals(1, stack.pop());
+        stack.trimToSize();
+        Assertions.assertEquals(4, stack.capacity());
+        stack.ensureCapacity(100);
+        Assertions.assertTrue(stack.capacity() >= 100);
+    }
+
+    /**
+     * Tests the growth policy and the shrinking of an {@link ArrayStack}
+     * object, which should halve its array once a quarter full, but never
+     * below its initial capacity.
+     */
+    @Test
+    public void test11() {
+        ArrayStack<Integer> stack = new ArrayStack<>(8,
+                GrowthPolicy.DOUBLING, true);
+        for (int i = 0; i < 64; i++) {
+            stack.push(i);
+        }
+        Assertions.assertEquals(64, stack.capacity());
+        while (stack.size() > 16) {
+            stack.pop();
+        }
+        Assertions.assertEquals(64, stack.capacity());
+        stack.pop();
+        Assertions.assertEquals(32, stack.capacity());
+        stack.push(15);
+        Assertions.assertEquals(32, stack.capacity());
+        while (!stack.isEmpty()) {
+            Assertions.assertEquals(stack.size() - 1, stack.pop());
+        }
+        Assertions.assertEquals(8, stack.capacity());
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new ArrayStack<Integer>(8, null, false));
+    }
+
+    // Tests the primitive stacks
+
+    /**
+     * Tests the general functionality of an {@link IntStack} object, which
+     * should keep its array once it has grown and been cleared.
+     */
+    @Test
+    public void test12() {
+        IntStack stack = new IntStack(2);
+        Assertions.assertThrows(EmptyStackException.class, stack::popInt);
+        Assertions.assertThrows(EmptyStackException.class, stack::peekInt);
+        Assertions.assertThrows(EmptyStackException.class,
+                () -> stack.search(1));
+        for (int e : new int[]{1, 3, 9, 4, 5, 2, 10, 8, 6, 7}) {
+            stack.push(e);
+        }
+        Assertions.assertEquals("[1 3 9 4 5 2 10 8 6 7]", stack.toString());
+        Assertions.assertEquals(10, stack.size());
+        Assertions.assertEquals(7, stack.peekInt());
+        Assertions.assertEquals(0, stack.search(7));
+        Assertions.assertEquals(3, stack.search(10));
+        Assertions.assertEquals(9, stack.search(1));
+        Assertions.assertEquals(-1, stack.search(11));
+        Assertions.assertEquals(7, stack.popInt());
+        Assertions.assertEquals(6, stack.popInt());
+        int capacity = stack.capacity();
+        stack.clear();
+        Assertions.assertTrue(stack.isEmpty());
+        Assertions.assertEquals(capacity, stack.capacity());
+        for (int i = 0; i < capacity; i++) {
+            stack.push(i);
+        }
+        Assertions.assertEquals(capacity, stack.capacity());
+        stack.push(capacity);
+        Assertions.assertTrue(stack.capacity() > capacity);
+        for (int i = capacity; i >= 0; i--) {
+            Assertions.assertEquals(i, stack.popInt());
+        }
+        stack.trimToSize();
+        Assertions.assertEquals(0, stack.capacity());
+        stack.push(5);
+        Assertions.assertEquals(5, stack.popInt());
+    }
+
+    /**
+     * Tests the general functionality of a {@link LongStack} object, along
+     * with its growth policy.
+     */
+    @Test
+    public void test13() {
+        LongStack stack = new LongStack(4, GrowthPolicy.DOUBLING);
+        Assertions.assertThrows(NullPointerException.class,
+                () -> stack.setGrowthPolicy(null));
+        for (long i = 0; i < 100; i++) {
+            stack.push(i * Integer.MAX_VALUE);
+        }
+        Assertions.assertEquals(128, stack.capacity());
+        Assertions.assertEquals(99L * Integer.MAX_VALUE, stack.peekLong());
+        Assertions.assertEquals(99, stack.search(0));
+        Assertions.assertEquals(1, stack.search(98L * Integer.MAX_VALUE));
+        for (long i = 99; i >= 0; i--) {
+            Assertions.assertEquals(i * Integer.MAX_VALUE, stack.popLong());
+        }
+        Assertions.assertTrue(stack.isEmpty());
+        stack.ensureCapacity(1000);
+        Assertions.assertEquals(1000, stack.capacity());
+        Assertions.assertEquals("[]", stack.toString());
+    }
+
+    // Tests the lock-free stack
+
+    /**
+     * Tests the general functionality of a {@link TreiberStack} object, with
+     * and without elimination, used by a single thread.
+     */
+    @Test
+    public void test14() {
+        for (int slots : new int[]{0, 4}) {
+            Stack<Integer> stack = new TreiberStack<>(slots);
+            Assertions.assertTrue(stack.isEmpty());
+            Assertions.assertThrows(EmptyStackException.class, stack::pop);
+            Assertions.assertThrows(EmptyStackException.class, stack::peek);
+            for (int e : new int[]{1, 3, 9, 4, 5, 2, 10, 8, 6, 7}) {
+                stack.push(e);
+            }
+            Assertions.assertEquals(10, stack.size());
+            Assertions.assertEquals(7, stack.peek());
+            Assertions.assertEquals(0, stack.search(7));
+            Assertions.assertEquals(3, stack.search(10));
+            Assertions.assertEquals(9, stack.search(1));
+            Assertions.assertEquals(-1, stack.search(11));
+            Assertions.assertEquals(7, stack.pop());
+            Assertions.assertEquals(6, stack.pop());
+            Assertions.assertEquals(8, stack.size());
+            stack.clear();
+            Assertions.assertTrue(stack.isEmpty());
+            Assertions.assertEquals(0, stack.size());
+            stack.push(null);
+            Assertions.assertNull(stack.pop());
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TreiberStack<Integer>(-1));
+    }
+
+    /**
+     * Tests several threads pushing and popping elements on a shared
+     * {@link TreiberStack} object, with and without elimination. Every thread
+     * pushes an element before popping one, so a linearizable stack is never
+     * empty when popped, and every element pushed should be popped exactly
+     * once.
+     */
+    @Test
+    public void test15() throws InterruptedException {
+        for (int slots : new int[]{0, 2}) {
+            TreiberStack<Integer> stack = new TreiberStack<>(slots);
+            int threads = 4;
+            int n = 25_000;
+            AtomicIntegerArray popped = new AtomicIntegerArray(threads * n);
+            AtomicBoolean neverEmpty = new AtomicBoolean(true);
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int first = t * n;
+                workers[t] = new Thread(() -> {
+                    for (int i = 0; i < n; i++) {
+                        stack.push(first + i);
+                        try {
+                            popped.incrementAndGet(stack.pop());
+                        } catch (EmptyStackException e) {
+                            neverEmpty.set(false);
+                        }
+                        if (i % 64 == 0) {
+                            Thread.yield();
+                        }
+                    }
+                });
+            }
+            for (Thread worker : workers) {
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            Assertions.assertTrue(neverEmpty.get());
+            Assertions.assertTrue(stack.isEmpty());
+            for (int i = 0; i < threads * n; i++) {
+                Assertions.assertEquals(1, popped.get(i));
+            }
+        }
+    }
+
+    /**
+     * Tests searching duplicate elements in the {@link IntStack},
+     * {@link LongStack} and {@link TreiberStack} objects, which should find
+     * the same occurrence as an {@link ArrayStack} object holding the same
+     * elements.
+     */
+    @Test
+    public void test16() {
+        ArrayStack<Integer> expected = new ArrayStack<>();
+        IntStack ints = new IntStack();
+        LongStack longs = new LongStack();
+        TreiberStack<Integer> treiber = new TreiberStack<>();
+        for (int e : new int[]{4, 1, 4, 2, 1, 3, 4}) {
+            expected.push(e);
+            ints.push(e);
+            longs.push(e);
+            treiber.push(e);
+        }
+        for (int e = 1; e <= 5; e++) {
+            Assertions.assertEquals(expected.search(e), ints.search(e));
+            Assertions.assertEquals(expected.search(e), longs.search(e));
+            Assertions.assertEquals(expected.search(e), treiber.search(e));
+        }
+        // the deepest occurrence is found
+        Assertions.assertEquals(6, ints.search(4));
+        Assertions.assertEquals(5, longs.search(1));
+        Assertions.assertEquals(6, treiber.search(4));
+    }
+}
@@ -137,4 +137,28 @@ class TestData {
         return tree;
     }
 
+    /**
+     * Creates a right-sided degenerate {@link BinaryTree} object with
+     * {@code Integer}s from {@code 0} to {@code n - 1}, such that every
+     * element is the right child of the one before. The nodes are linked
+     * directly, since adding them one by one would search the whole chain
+     * every time.
+     *
+     * @param n the number of elements
+     * @return a {@code BinaryTree} object
+     */
+    public static BinaryTree<Integer> degenerateTree(int n) {
+        BinaryTree<Integer> tree = new BinaryTree<>();
+        tree.addRoot(0);
+        BinaryTree.Node<Integer> cur = tree.root;
+        for (int i = 1; i < n; i++) {
+            BinaryTree.Node<Integer> node = new BinaryTree.Node<>(i);
+            node.parent = cur;
+            cur.right = node;
+            cur = node;
+        }
+        tree.size = n;
+        return tree;
+    }
+
 }
@@ -3,8 +3,14 @@ package tree;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
 
 class TreeTest {
 
@@ -380,4 +386,455 @@ class TreeTest {
         ));
     }
 
-}
\ No newline at end of file
+    // Tests the iterative traversals of BinaryTree
+
+    /**
+     * Tests that the lazy iterators of the {@link BinaryTree} return the
+     * elements in the same order as the traversal methods.
+     */
+    @Test
+    public void test22() {
+        BinaryTree<Integer> tree = (BinaryTree<Integer>) TestData.binaryTree3();
+        Assertions.assertTrue(TestData.compareCollections(
+                toList(tree.preorderIterator()), tree.preorder(0)));
+        Assertions.assertTrue(TestData.compareCollections(
+                toList(tree.inorderIterator()), tree.inorder(0)));
+        Assertions.assertTrue(TestData.compareCollections(
+                toList(tree.postorderIterator()),
+                Arrays.asList(3, 8, 9, 4, 2, 1, 10, 7, 6, 5, 0)));
+        Assertions.assertTrue(TestData.compareCollections(
+                toList(tree.iterator()), tree.BFS(0)));
+        Assertions.assertTrue(TestData.compareCollections(
+                Arrays.asList(2, 4, 8, 9), tree.subtree(2, 1)));
+        Assertions.assertTrue(TestData.compareCollections(
+                Arrays.asList(8, 9, 4, 2), tree.subtree(2, 3)));
+        Assertions.assertTrue(TestData.compareCollections(
+                Arrays.asList(3, 2, 6), tree.getNodesAtLevel(2)));
+        Iterator<Integer> itr = new BinaryTree<Integer>().inorderIterator();
+        Assertions.assertFalse(itr.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, itr::next);
+    }
+
+    /**
+     * Tests that traversing a deep degenerate {@link BinaryTree} does not
+     * overflow the call stack.
+     */
+    @Test
+    public void test23() {
+        int n = 200_000;
+        BinaryTree<Integer> tree = TestData.degenerateTree(n);
+        Collection<Integer> preorder = tree.preorder(0);
+        Assertions.assertEquals(n, preorder.size());
+        Assertions.assertEquals(0, preorder.iterator().next());
+        Assertions.assertEquals(n, tree.inorder(0).size());
+        Assertions.assertEquals(n - 1, tree.postorder(0).iterator().next());
+        Assertions.assertEquals(n, tree.BFS(0).size());
+        Assertions.assertEquals(n - 10, tree.subtree(10, 2).size());
+        Assertions.assertEquals(Collections.singleton(n - 1),
+                tree.getNodesAtLevel(n - 1));
+        Assertions.assertEquals(n, tree.level());
+        Assertions.assertEquals(n - 1, tree.depth(n - 1));
+        Assertions.assertEquals(n - 1, tree.height(0));
+        Assertions.assertTrue(tree.contains(n - 1));
+        Assertions.assertEquals(n, toList(tree.postorderIterator()).size());
+    }
+
+    // Tests the balancing of RedBlackTree
+
+    /**
+     * Tests that adding sorted elements to a {@link RedBlackTree} keeps its
+     * height logarithmic.
+     */
+    @Test
+    public void test24() {
+        int n = 100_000;
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+        }
+        Assertions.assertEquals(n, tree.size());
+        Assertions.assertTrue(tree.level() <= 2 * log2(n + 1));
+        Assertions.assertEquals(0, tree.minValue());
+        Assertions.assertEquals(n - 1, tree.maxValue());
+        Assertions.assertTrue(tree.contains(n / 2));
+        Assertions.assertFalse(tree.contains(n));
+        int expected = 0;
+        Iterator<Integer> itr = tree.inorderIterator();
+        while (itr.hasNext()) {
+            Assertions.assertEquals(expected++, itr.next());
+        }
+        for (int i = 0; i < n; i += 2) {
+            Assertions.assertTrue(tree.remove(i));
+        }
+        Assertions.assertEquals(n / 2, tree.size());
+        Assertions.assertTrue(tree.level() <= 2 * log2(n / 2 + 1));
+        Assertions.assertFalse(tree.contains(0));
+        Assertions.assertTrue(tree.contains(1));
+    }
+
+    /**
+     * Tests random additions and removals of duplicate elements on a
+     * {@link RedBlackTree} against a sorted list.
+     */
+    @Test
+    public void test25() {
+        Random random = new Random(7);
+        RedBlackTree<Integer> tree = new RedBlackTree<>(50);
+        List<Integer> expected = new ArrayList<>(List.of(50));
+        for (int i = 0; i < 20_000; i++) {
+            int e = random.nextInt(100);
+            if (random.nextInt(3) == 0 && !tree.isEmpty()) {
+                Assertions.assertEquals(expected.remove((Integer) e),
+                        tree.remove(e));
+            } else {
+                tree.add(e);
+                expected.add(e);
+            }
+        }
+        Collections.sort(expected);
+        Assertions.assertEquals(expected.size(), tree.size());
+        Assertions.assertEquals(expected, toList(tree.inorderIterator()));
+        Assertions.assertTrue(tree.level() <= 2 * log2(tree.size() + 1));
+    }
+
+    // Tests the iterative operations of BinarySearchTree
+
+    /**
+     * Tests that a {@link BinarySearchTree} keeps its size and parent links
+     * when adding and removing elements.
+     */
+    @Test
+    public void test26() {
+        BinarySearchTree<Integer> tree = (BinarySearchTree<Integer>)
+                TestData.binarySearchTree1();
+        Assertions.assertEquals(9, tree.size());
+        Assertions.assertEquals(3, tree.parent(2));
+        Assertions.assertEquals(9, tree.parent(7));
+        Assertions.assertEquals(3, tree.depth(4));
+        // two children, replaced by its successor 6
+        Assertions.assertTrue(tree.remove(5));
+        Assertions.assertEquals(6, tree.root());
+        Assertions.assertEquals(6, tree.parent(1));
+        Assertions.assertEquals(7, tree.parent(8));
+        // a single child
+        Assertions.assertTrue(tree.remove(1));
+        Assertions.assertEquals(6, tree.parent(3));
+        // a leaf
+        Assertions.assertTrue(tree.remove(8));
+        Assertions.assertFalse(tree.remove(8));
+        Assertions.assertEquals(6, tree.size());
+        Assertions.assertTrue(TestData.compareCollections(
+                Arrays.asList(2, 3, 4, 6, 7, 9), tree.inorder(tree.root())));
+        for (int e : Arrays.asList(2, 3, 4, 6, 7, 9)) {
+            Assertions.assertTrue(tree.remove(e));
+        }
+        Assertions.assertTrue(tree.isEmpty());
+        Assertions.assertNull(tree.root());
+    }
+
+    /**
+     * Tests that a {@link BinarySearchTree} built from sorted elements does
+     * not overflow the call stack, and compares the element once per level.
+     */
+    @Test
+    public void test27() {
+        int n = 20_000;
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+        }
+        Assertions.assertEquals(n, tree.size());
+        Assertions.assertEquals(n, tree.level());
+        Assertions.assertTrue(tree.contains(n - 1));
+        Assertions.assertTrue(tree.remove(n - 1));
+        Assertions.assertFalse(tree.contains(n - 1));
+        Assertions.assertEquals(n - 1, tree.size());
+
+        int[] comparisons = new int[1];
+        class Key implements Comparable<Key> {
+            final int value;
+
+            Key(int value) {
+                this.value = value;
+            }
+
+            @Override
+            public int compareTo(Key o) {
+                comparisons[0]++;
+                return Integer.compare(value, o.value);
+            }
+        }
+        BinarySearchTree<Key> keys = new BinarySearchTree<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(new Key(i));
+        }
+        comparisons[0] = 0;
+        Assertions.assertTrue(keys.contains(new Key(99)));
+        Assertions.assertEquals(100, comparisons[0]);
+    }
+
+    // Tests the element index of BinaryTree
+
+    /**
+     * Tests that an indexed {@link BinaryTree} keeps its index up to date
+     * when adding, replacing and removing elements.
+     */
+    @Test
+    public void test28() {
+        BinaryTree<Integer> tree = (BinaryTree<Integer>) TestData.binaryTree1();
+        tree.setIndexed(true);
+        Assertions.assertTrue(tree.isIndexed());
+        Assertions.assertEquals(4, tree.parent(8));
+        Assertions.assertEquals(3, tree.depth(15));
+        // duplicates are rejected
+        Assertions.assertFalse(tree.addAsChild(8, 1));
+        Assertions.assertFalse(tree.set(15, 14));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> tree.addRoot(2));
+        Assertions.assertTrue(tree.addLeftChild(8, 16));
+        Assertions.assertEquals(8, tree.parent(16));
+        Assertions.assertEquals(16, tree.size());
+        // replacing an element
+        Assertions.assertTrue(tree.set(16, 17));
+        Assertions.assertFalse(tree.contains(16));
+        Assertions.assertEquals(8, tree.parent(17));
+        Assertions.assertEquals(1, tree.addRoot(0));
+        Assertions.assertEquals(0, tree.parent(3));
+        // removing a subtree
+        Assertions.assertTrue(tree.remove(4));
+        Assertions.assertEquals(12, tree.size());
+        Assertions.assertFalse(tree.contains(17));
+        Assertions.assertFalse(tree.contains(9));
+        Assertions.assertTrue(TestData.compareCollections(Arrays.asList(6, 7),
+                tree.removeChildren(3)));
+        Assertions.assertEquals(6, tree.size());
+        Assertions.assertFalse(tree.contains(14));
+        Assertions.assertTrue(tree.addAsChild(3, 14));
+        // the index agrees with a search of the whole tree
+        tree.setIndexed(false);
+        Assertions.assertFalse(tree.isIndexed());
+        Assertions.assertEquals(3, tree.parent(14));
+        Assertions.assertEquals(7, tree.size());
+        tree.clear();
+        Assertions.assertTrue(tree.isEmpty());
+    }
+
+    /**
+     * Tests building the index of a {@link BinaryTree} holding duplicate
+     * elements, and of a deep {@link BinaryTree}.
+     */
+    @Test
+    public void test29() {
+        BinaryTree<Integer> tree = new BinaryTree<>(1);
+        tree.addAsChild(1, 2);
+        tree.addAsChild(1, 2);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> tree.setIndexed(true));
+        Assertions.assertFalse(tree.isIndexed());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> new BinarySearchTree<Integer>().setIndexed(true));
+
+        int n = 200_000;
+        BinaryTree<Integer> deep = TestData.degenerateTree(n);
+        deep.setIndexed(true);
+        for (int i = 1; i < n; i += 1000) {
+            Assertions.assertEquals(i - 1, deep.parent(i));
+            Assertions.assertEquals(i, deep.depth(i));
+        }
+        Assertions.assertTrue(deep.remove(n / 2));
+        Assertions.assertEquals(n / 2, deep.size());
+        Assertions.assertFalse(deep.contains(n - 1));
+    }
+
+    // Tests the order statistics of BinarySearchTree
+
+    /**
+     * Tests the order statistics of a {@link BinarySearchTree}.
+     */
+    @Test
+    public void test30() {
+        BinarySearchTree<Integer> tree = (BinarySearchTree<Integer>)
+                TestData.binarySearchTree1();
+        for (int i = 0; i < 9; i++) {
+            Assertions.assertEquals(i + 1, tree.select(i));
+            Assertions.assertEquals(i, tree.rank(i + 1));
+        }
+        Assertions.assertEquals(0, tree.rank(0));
+        Assertions.assertEquals(9, tree.rank(10));
+        Assertions.assertEquals(4, tree.countInRange(3, 6));
+        Assertions.assertEquals(9, tree.countInRange(-5, 50));
+        Assertions.assertEquals(0, tree.countInRange(6, 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> tree.select(9));
+        Assertions.assertThrows(IndexOutOfBoundsException.class,
+                () -> tree.select(-1));
+        tree.remove(5);
+        tree.remove(1);
+        Assertions.assertEquals(2, tree.select(0));
+        Assertions.assertEquals(6, tree.select(3));
+        Assertions.assertEquals(3, tree.rank(6));
+    }
+
+    /**
+     * Tests the order statistics of a {@link BinarySearchTree} and a
+     * {@link RedBlackTree} holding duplicate elements, against a sorted list,
+     * after random additions and removals.
+     */
+    @Test
+    public void test31() {
+        List<BinarySearchTree<Integer>> trees = Arrays.asList(
+                new BinarySearchTree<>(), new RedBlackTree<>());
+        for (BinarySearchTree<Integer> tree : trees) {
+            Random random = new Random(11);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                int e = random.nextInt(200);
+                if (random.nextInt(3) == 0 && !tree.isEmpty()) {
+                    Assertions.assertEquals(expected.remove((Integer) e),
+                            tree.remove(e));
+                } else {
+                    tree.add(e);
+                    expected.add(e);
+                }
+            }
+            Collections.sort(expected);
+            Assertions.assertEquals(expected.size(), tree.size());
+            for (int i = 0; i < expected.size(); i++) {
+                Assertions.assertEquals(expected.get(i), tree.select(i));
+            }
+            for (int e = -1; e <= 200; e++) {
+                int less = 0;
+                int range = 0;
+                for (int x : expected) {
+                    less += x < e ? 1 : 0;
+                    range += x >= e && x <= e + 10 ? 1 : 0;
+                }
+                Assertions.assertEquals(less, tree.rank(e));
+                Assertions.assertEquals(range, tree.countInRange(e, e + 10));
+            }
+        }
+    }
+
+    // Tests the range iterator of BinarySearchTree
+
+    /**
+     * Tests iterating through a range of elements of a
+     * {@link BinarySearchTree}.
+     */
+    @Test
+    public void test32() {
+        BinarySearchTree<Integer> tree = (BinarySearchTree<Integer>)
+                TestData.binarySearchTree1();
+        Assertions.assertEquals(Arrays.asList(3, 4, 5, 6),
+                toList(tree.range(3, 6)));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9),
+                toList(tree.range(-5, 50)));
+        Assertions.assertEquals(Collections.singletonList(9),
+                toList(tree.range(9, 9)));
+        Assertions.assertTrue(toList(tree.range(6, 3)).isEmpty());
+        Assertions.assertTrue(toList(tree.range(10, 20)).isEmpty());
+        Iterator<Integer> itr = tree.range(0, 0);
+        Assertions.assertFalse(itr.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, itr::next);
+        Assertions.assertFalse(new BinarySearchTree<Integer>().range(0, 1)
+                .hasNext());
+    }
+
+    /**
+     * Tests iterating through random ranges of a {@link RedBlackTree} holding
+     * duplicate elements, against a sorted list.
+     */
+    @Test
+    public void test33() {
+        Random random = new Random(3);
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            int e = random.nextInt(1000);
+            if (random.nextInt(4) == 0 && !tree.isEmpty()) {
+                expected.remove((Integer) e);
+                tree.remove(e);
+            } else {
+                tree.add(e);
+                expected.add(e);
+            }
+        }
+        Collections.sort(expected);
+        for (int i = 0; i < 200; i++) {
+            int from = random.nextInt(1100) - 50;
+            int to = from + random.nextInt(100);
+            List<Integer> window = new ArrayList<>();
+            for (int x : expected) {
+                if (x >= from && x <= to) {
+                    window.add(x);
+                }
+            }
+            Assertions.assertEquals(window, toList(tree.range(from, to)));
+            Assertions.assertEquals(window.size(),
+                    tree.countInRange(from, to));
+        }
+    }
+
+    /**
+     * Tests whether a {@link BinarySearchTree} object refuses to remove whole
+     * subtrees, which would leave its order statistics out of date.
+     */
+    @Test
+    public void test34() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        for (int e : new int[]{50, 25, 75, 10, 30, 60, 90}) {
+            tree.add(e);
+        }
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> tree.removeChildren(25));
+        Assertions.assertEquals(7, tree.size());
+        Assertions.assertEquals(60, tree.select(4));
+        Assertions.assertEquals(90, tree.select(6));
+        Assertions.assertEquals(7, tree.rank(100));
+        Assertions.assertEquals(3, tree.countInRange(10, 30));
+    }
+
+    /**
+     * Tests whether a {@link RedBlackTree} object refuses to remove whole
+     * subtrees, which would leave it unbalanced.
+     */
+    @Test
+    public void test35() {
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        for (int i = 0; i < 15; i++) {
+            tree.add(i);
+        }
+        int levels = tree.level();
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> tree.removeChildren(tree.root()));
+        Assertions.assertEquals(15, tree.size());
+        Assertions.assertEquals(levels, tree.level());
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9,
+                10, 11, 12, 13, 14), toList(tree.inorderIterator()));
+    }
+
+    /**
+     * Collects the elements returned by an {@code Iterator} into a list.
+     *
+     * @param itr the iterator to be drained
+     * @return a {@code List} of the elements in iteration order
+     */
+    private static List<Integer> toList(Iterator<Integer> itr) {
+        List<Integer> list = new ArrayList<>();
+        while (itr.hasNext()) {
+            list.add(itr.next());
+        }
+        return list;
+    }
+
+    /**
+     * Computes the base-2 logarithm of {@code n}, rounded up.
+     *
+     * @param n a positive number
+     * @return the least {@code k} such that {@code 2^k >= n}
+     */
+    private static int log2(int n) {
+        return 32 - Integer.numberOfLeadingZeros(n - 1);
+    }
+
+}